@@ -0,0 +1,86 @@
+package com.eod.eod.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건의 JWT 처리 비용 비교
+ *
+ * legacyFourParses는 변경 전 JwtAuthenticationFilter 흐름(validateToken, getTokenType, getUserIdFromToken,
+ * getRoleFromToken이 각각 키와 파서를 새로 만들어 서명을 검증)을 그대로 재현하고,
+ * verifyWithoutCache는 캐시된 키/파서로 한 번만 검증하는 경로, verifyCacheHit은 검증 완료 토큰 LRU 적중 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0";
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider nonCachingProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = new JwtTokenProvider(properties(1024));
+        nonCachingProvider = new JwtTokenProvider(properties(0));
+        token = cachingProvider.createAccessToken(1L, "student@bssm.hs.kr", "USER");
+        // 적중 경로 측정을 위해 미리 한 번 검증해 캐시에 올림
+        cachingProvider.verify(token);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        blackhole.consume(legacyParse(token));
+        blackhole.consume(legacyParse(token).get("type", String.class));
+        blackhole.consume(Long.parseLong(legacyParse(token).getSubject()));
+        blackhole.consume(legacyParse(token).get("role", String.class));
+    }
+
+    @Benchmark
+    public VerifiedToken verifyWithoutCache() {
+        return nonCachingProvider.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCacheHit() {
+        return cachingProvider.verify(token);
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static JwtProperties properties(int verifiedTokenCacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpiration(Duration.ofHours(1));
+        properties.setRefreshTokenExpiration(Duration.ofDays(7));
+        properties.setVerifiedTokenCacheSize(verifiedTokenCacheSize);
+        return properties;
+    }
+}
@@ -0,0 +1,69 @@
+package com.eod.eod.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비즈니스 이벤트 1건 기록 비용 비교
+ *
+ * builderPerEvent는 캐시 도입 전 EodMetrics가 이벤트마다 하던 방식(빌더 생성 후 레지스트리에서 기존 미터 조회),
+ * cachedMeter는 현재 EodMetrics의 (이름, 태그) 키 캐시 경로입니다.
+ * 요청 스레드 여러 개가 같은 미터를 기록하는 상황을 흉내 내도록 4스레드로 실행하며,
+ * gc 프로파일러 결과(gc.alloc.rate.norm)로 이벤트당 할당량도 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class EodMetricsBenchmark {
+
+    @Param({"simple", "prometheus"})
+    private String registryType;
+
+    private MeterRegistry meterRegistry;
+    private EodMetrics eodMetrics;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = "prometheus".equals(registryType)
+                ? new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)
+                : new SimpleMeterRegistry();
+        eodMetrics = new EodMetrics(meterRegistry);
+    }
+
+    @Benchmark
+    public void builderPerEvent() {
+        Counter.builder("eod_business_events_total")
+                .description("EOD domain business events")
+                .tag("domain", "item")
+                .tag("action", "register")
+                .tag("result", "success")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Benchmark
+    public void cachedMeter() {
+        eodMetrics.recordBusinessEvent("item", "register", "success");
+    }
+}
@@ -32,12 +32,16 @@ public class QItem extends EntityPathBase<Item> {
 
     public final EnumPath<Item.ItemCategory> category = createEnum("category", Item.ItemCategory.class);
 
+    public final NumberPath<Long> changeVersion = createNumber("changeVersion", Long.class);
+
     public final DateTimePath<java.time.LocalDateTime> createdAt = createDateTime("createdAt", java.time.LocalDateTime.class);
 
     public final DateTimePath<java.time.LocalDateTime> deletedAt = createDateTime("deletedAt", java.time.LocalDateTime.class);
 
     public final DateTimePath<java.time.LocalDateTime> discardedAt = createDateTime("discardedAt", java.time.LocalDateTime.class);
 
+    public final DatePath<java.time.LocalDate> earliestPendingVisitDate = createDate("earliestPendingVisitDate", java.time.LocalDate.class);
+
     public final DateTimePath<java.time.LocalDateTime> foundAt = createDateTime("foundAt", java.time.LocalDateTime.class);
 
     public final EnumPath<Item.DatePrecision> foundAtPrecision = createEnum("foundAtPrecision", Item.DatePrecision.class);
@@ -52,6 +56,8 @@ public class QItem extends EntityPathBase<Item> {
 
     public final StringPath name = createString("name");
 
+    public final NumberPath<Long> pendingClaimCount = createNumber("pendingClaimCount", Long.class);
+
     public final EnumPath<Item.ItemStatus> status = createEnum("status", Item.ItemStatus.class);
 
     public final com.eod.eod.domain.user.model.QUser student;
@@ -22,6 +22,8 @@ public class QItemClaim extends EntityPathBase<ItemClaim> {
 
     public static final QItemClaim itemClaim = new QItemClaim("itemClaim");
 
+    public final NumberPath<Long> changeVersion = createNumber("changeVersion", Long.class);
+
     public final com.eod.eod.domain.user.model.QUser claimant;
 
     public final DateTimePath<java.time.LocalDateTime> claimedAt = createDateTime("claimedAt", java.time.LocalDateTime.class);
@@ -0,0 +1,32 @@
+package com.eod.eod.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 실행되어야 하는 스케줄 작업에 사용하는 어노테이션
+ *
+ * AOP를 통해 scheduler_leases 테이블의 임대(lease)를 획득한 인스턴스만 메서드를 실행하고,
+ * 획득하지 못한 인스턴스는 이번 실행을 건너뜁니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+
+    /**
+     * 잠금 이름 (작업마다 고유)
+     */
+    String name();
+
+    /**
+     * 실행 노드가 죽더라도 이 시간이 지나면 다른 노드가 잠금을 가져갈 수 있음 (ISO-8601)
+     */
+    String lockAtMostFor() default "PT30M";
+
+    /**
+     * 작업이 빨리 끝나도 최소 이 시간 동안 잠금을 유지하여 노드 간 시계 차이로 인한 중복 실행 방지 (ISO-8601)
+     */
+    String lockAtLeastFor() default "PT1M";
+}
@@ -0,0 +1,65 @@
+package com.eod.eod.common.aspect;
+
+import com.eod.eod.common.annotation.SchedulerLock;
+import com.eod.eod.common.scheduling.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 분산 잠금 AOP
+ *
+ * @SchedulerLock 어노테이션이 붙은 메서드는 잠금을 획득한 인스턴스에서만 실행됩니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockAspect {
+
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Value("${scheduler.lock.enabled:true}")
+    private boolean enabled;
+
+    @Around("@annotation(schedulerLock)")
+    public Object runWithLock(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+
+        String name = schedulerLock.name();
+        LocalDateTime lockedAt = LocalDateTime.now();
+        boolean acquired;
+        try {
+            acquired = schedulerLeaseService.tryAcquire(name, Duration.parse(schedulerLock.lockAtMostFor()));
+        } catch (Exception e) {
+            // 잠금 테이블 장애 시에는 중복 실행보다 건너뛰는 편이 안전
+            log.error("스케줄 잠금 획득 실패로 실행을 건너뜁니다 - name={}, 오류: {}", name, e.getMessage());
+            return null;
+        }
+
+        if (!acquired) {
+            log.debug("다른 인스턴스가 실행 중이므로 건너뜁니다 - name={}", name);
+            return null;
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            try {
+                schedulerLeaseService.release(name, lockedAt, Duration.parse(schedulerLock.lockAtLeastFor()));
+            } catch (Exception e) {
+                // 해제에 실패해도 lockAtMostFor가 지나면 자동 만료됨
+                log.warn("스케줄 잠금 해제 실패 - name={}, 오류: {}", name, e.getMessage());
+            }
+        }
+    }
+}
@@ -106,7 +106,7 @@ public class SecurityConfig {
                         // Claim 관련 API
                         .requestMatchers(HttpMethod.POST, "/items/*/claims").hasRole("USER")
                         .requestMatchers(HttpMethod.DELETE, "/items/claims/*").hasRole("USER")
-                        .requestMatchers(HttpMethod.GET, "/items/claims/my").hasRole("USER")
+                        .requestMatchers(HttpMethod.GET, "/items/claims/my", "/items/claims/my/sync").hasRole("USER")
                         .requestMatchers(HttpMethod.GET, "/items/claims/**").hasRole("ADMIN")
 
                         // 물품 등록/수정/삭제는 관리자만
@@ -126,7 +126,10 @@ public class SecurityConfig {
 
                         // 상점 지급 리스트는 교사 전용
                         .requestMatchers(HttpMethod.GET, "/rewards", "/rewards/**").hasRole("TEACHER")
-                        // Place-Controller는 모두 허용
+                        // 관리자 대시보드 요약/카운터 스트림은 관리자/교사
+                        .requestMatchers(HttpMethod.GET, "/admin/summary", "/admin/summary/stream").hasAnyRole("ADMIN", "TEACHER")
+                        // 장소 카탈로그 재적재는 관리자만, 나머지 Place-Controller는 모두 허용
+                        .requestMatchers(HttpMethod.POST, "/places/reload").hasRole("ADMIN")
                         .requestMatchers("/places/**").permitAll()
                         // 소개 페이지 조회는 공개, 수정은 관리자만
                         .requestMatchers(HttpMethod.PATCH, "/introduce").hasRole("ADMIN")
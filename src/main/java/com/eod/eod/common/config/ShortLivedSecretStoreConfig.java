@@ -0,0 +1,53 @@
+package com.eod.eod.common.config;
+
+import com.eod.eod.domain.auth.application.MobileAuthGrant;
+import com.eod.eod.domain.auth.application.ShortLivedSecretStore;
+import com.eod.eod.domain.auth.infrastructure.DiscordOAuthStateRepository;
+import com.eod.eod.domain.auth.infrastructure.InMemoryShortLivedSecretStore;
+import com.eod.eod.domain.auth.infrastructure.JpaDiscordOAuthStateStore;
+import com.eod.eod.domain.auth.infrastructure.JpaMobileAuthTokenStore;
+import com.eod.eod.domain.auth.infrastructure.JpaMobileOAuthStateStore;
+import com.eod.eod.domain.auth.infrastructure.MobileAuthTokenRepository;
+import com.eod.eod.domain.auth.infrastructure.MobileOAuthStateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로그인 보조 비밀값 저장소 선택
+ *
+ * 기본값 jpa는 여러 인스턴스가 공유하는 테이블 기반 저장소를 사용하고,
+ * auth.secret-store.type=memory(dev 프로필)이면 DB 왕복 없는 인메모리 저장소를 사용합니다.
+ * 인메모리 저장소는 발급한 인스턴스에서만 조회되므로 다중 인스턴스 배포에서는 쓰지 않습니다.
+ */
+@Configuration
+public class ShortLivedSecretStoreConfig {
+
+    @Value("${auth.secret-store.type:jpa}")
+    private String storeType;
+
+    @Bean
+    public ShortLivedSecretStore<String> discordOAuthStateStore(DiscordOAuthStateRepository discordOAuthStateRepository) {
+        return useJpa() ? new JpaDiscordOAuthStateStore(discordOAuthStateRepository) : new InMemoryShortLivedSecretStore<>();
+    }
+
+    @Bean
+    public ShortLivedSecretStore<String> mobileOAuthStateStore(MobileOAuthStateRepository mobileOAuthStateRepository) {
+        return useJpa() ? new JpaMobileOAuthStateStore(mobileOAuthStateRepository) : new InMemoryShortLivedSecretStore<>();
+    }
+
+    @Bean
+    public ShortLivedSecretStore<MobileAuthGrant> mobileAuthTokenStore(MobileAuthTokenRepository mobileAuthTokenRepository) {
+        return useJpa() ? new JpaMobileAuthTokenStore(mobileAuthTokenRepository) : new InMemoryShortLivedSecretStore<>();
+    }
+
+    private boolean useJpa() {
+        if ("jpa".equalsIgnoreCase(storeType)) {
+            return true;
+        }
+        if ("memory".equalsIgnoreCase(storeType)) {
+            return false;
+        }
+        throw new IllegalStateException("지원하지 않는 auth.secret-store.type입니다: " + storeType);
+    }
+}
@@ -0,0 +1,4 @@
+package com.eod.eod.common.event;
+
+public record EodCacheAccessEvent(String cache, String result) {
+}
@@ -0,0 +1,6 @@
+package com.eod.eod.common.event;
+
+import java.time.Duration;
+
+public record EodCacheReloadEvent(String cache, String result, int entries, Duration duration) {
+}
@@ -0,0 +1,6 @@
+package com.eod.eod.common.event;
+
+import java.time.Duration;
+
+public record EodRateLimitEvent(String provider, String route, String result, Duration waitTime) {
+}
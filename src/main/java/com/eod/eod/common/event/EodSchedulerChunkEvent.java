@@ -0,0 +1,6 @@
+package com.eod.eod.common.event;
+
+import java.time.Duration;
+
+public record EodSchedulerChunkEvent(String task, int processedItems, Duration duration) {
+}
@@ -1,4 +1,25 @@
 package com.eod.eod.common.event;
 
-public record EodSchedulerRunEvent(String task, String result, int processedItems) {
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 스케줄 작업 실행 결과
+ *
+ * itemOutcomes는 처리 대상별 결과 건수(예: delivered/failed/skipped)이며, 구분이 없는 작업은 비워 둡니다.
+ */
+public record EodSchedulerRunEvent(String task, String result, int processedItems, Duration duration,
+                                   Map<String, Integer> itemOutcomes) {
+
+    public EodSchedulerRunEvent {
+        itemOutcomes = itemOutcomes != null ? Map.copyOf(itemOutcomes) : Map.of();
+    }
+
+    public EodSchedulerRunEvent(String task, String result, int processedItems, Duration duration) {
+        this(task, result, processedItems, duration, Map.of());
+    }
+
+    public EodSchedulerRunEvent(String task, String result, int processedItems) {
+        this(task, result, processedItems, null);
+    }
 }
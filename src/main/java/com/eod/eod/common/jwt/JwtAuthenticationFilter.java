@@ -1,7 +1,7 @@
 package com.eod.eod.common.jwt;
 
 import com.eod.eod.common.event.EodBusinessEvent;
-import com.eod.eod.domain.user.infrastructure.UserRepository;
+import com.eod.eod.domain.user.application.UserPrincipalCache;
 import com.eod.eod.domain.user.model.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,7 +27,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     private final ApplicationEventPublisher eventPublisher;
 
     @Override
@@ -44,52 +44,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 토큰이 있으면 검증 시도 (만료 예외 구분 처리)
+            // 토큰이 있으면 한 번만 파싱하여 검증 (만료 예외 구분 처리)
+            VerifiedToken verifiedToken;
             try {
-                if (jwtTokenProvider.validateToken(token)) {
-                    // Access Token인지 확인
-                    if ("access".equals(jwtTokenProvider.getTokenType(token))) {
-                        Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                        String role = jwtTokenProvider.getRoleFromToken(token);
-
-                        // DB에서 User 엔티티 조회
-                        User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-                        // Spring Security 인증 객체 생성
-                        List<SimpleGrantedAuthority> authorities = List.of(
-                                new SimpleGrantedAuthority("ROLE_" + role)
-                        );
-
-                        // Principal을 User 객체로 설정
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(user, null, authorities);
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                        // SecurityContext에 인증 정보 설정
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    } else {
-                        // Access Token이 아닌 경우 (Refresh Token 등)
-                        log.warn("Access Token이 아닌 토큰 유형: {}", jwtTokenProvider.getTokenType(token));
-                        eventPublisher.publishEvent(new EodBusinessEvent("auth", "jwt_invalid_type", "failure"));
-                        sendUnauthorizedResponse(response, "Access Token이 필요합니다.");
-                        return;
-                    }
-                } else {
-                    // 토큰이 유효하지 않은 경우 (만료 포함)
-                    log.warn("유효하지 않은 JWT 토큰");
-                    eventPublisher.publishEvent(new EodBusinessEvent("auth", "jwt_invalid", "failure"));
-                    sendUnauthorizedResponse(response, "유효하지 않은 토큰입니다.");
-                    return;
-                }
+                verifiedToken = jwtTokenProvider.verify(token);
             } catch (io.jsonwebtoken.ExpiredJwtException e) {
                 // 토큰 만료 - 401 반환하고 필터 체인 중단
                 log.debug("만료된 JWT 토큰: {}", e.getMessage());
                 eventPublisher.publishEvent(new EodBusinessEvent("auth", "jwt_expired", "failure"));
                 sendUnauthorizedResponse(response, "토큰이 만료되었습니다.");
                 return;
+            } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+                // 토큰이 유효하지 않은 경우 (서명/형식 오류 등)
+                log.warn("유효하지 않은 JWT 토큰: {}", e.getMessage());
+                eventPublisher.publishEvent(new EodBusinessEvent("auth", "jwt_invalid", "failure"));
+                sendUnauthorizedResponse(response, "유효하지 않은 토큰입니다.");
+                return;
+            }
+
+            // Access Token인지 확인
+            if (!verifiedToken.isAccessToken()) {
+                // Access Token이 아닌 경우 (Refresh Token 등)
+                log.warn("Access Token이 아닌 토큰 유형: {}", verifiedToken.type());
+                eventPublisher.publishEvent(new EodBusinessEvent("auth", "jwt_invalid_type", "failure"));
+                sendUnauthorizedResponse(response, "Access Token이 필요합니다.");
+                return;
             }
 
+            // User 엔티티 조회 (짧은 TTL 캐시를 거쳐 요청마다 DB 조회하지 않음)
+            User user = userPrincipalCache.findById(verifiedToken.userId())
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+            // Spring Security 인증 객체 생성
+            List<SimpleGrantedAuthority> authorities = List.of(
+                    new SimpleGrantedAuthority("ROLE_" + verifiedToken.role())
+            );
+
+            // Principal을 User 객체로 설정
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(user, null, authorities);
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+            // SecurityContext에 인증 정보 설정
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
         } catch (Exception e) {
             log.error("JWT 인증 실패: {}", e.getMessage(), e);
             eventPublisher.publishEvent(new EodBusinessEvent("auth", "jwt_authenticate", "failure"));
@@ -21,4 +21,7 @@ public class JwtProperties {
 
     @DurationUnit(ChronoUnit.MILLIS)
     private Duration refreshTokenExpiration;
+
+    // 검증 완료 토큰 캐시 크기 (0이면 캐시하지 않음)
+    private int verifiedTokenCacheSize = 1024;
 }
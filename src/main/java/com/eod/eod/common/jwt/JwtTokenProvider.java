@@ -1,35 +1,84 @@
 package com.eod.eod.common.jwt;
 
+import com.eod.eod.common.util.TokenDigest;
 import com.eod.eod.domain.user.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final Map<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        // 키와 파서는 불변이므로 한 번만 만들어 재사용
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = createVerifiedTokenCache(jwtProperties.getVerifiedTokenCacheSize());
+    }
 
-    // SecretKey 생성
+    // SecretKey 조회
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
 
     // JWT Claims 파싱
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 검증된 클레임을 반환
+     * 최근 검증한 토큰은 만료 시각까지 캐시에서 바로 돌려주며, 서명/형식 오류나 만료 시 JwtException을 던집니다.
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+        }
+
+        // 캐시 키는 토큰 원문 대신 SHA-256 다이제스트를 사용
+        String cacheKey = verifiedTokens != null ? TokenDigest.sha256(token) : null;
+        if (cacheKey != null) {
+            VerifiedToken cached = verifiedTokens.get(cacheKey);
+            if (cached != null) {
+                if (!cached.isExpired(Instant.now())) {
+                    return cached;
+                }
+                verifiedTokens.remove(cacheKey);
+            }
+        }
+
+        Claims claims = parseClaims(token);
+        Date expiration = claims.getExpiration();
+        VerifiedToken verified = new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("type", String.class),
+                claims.get("role", String.class),
+                expiration != null ? expiration.toInstant() : null
+        );
+
+        // 만료 시각이 없는 토큰은 무기한 재사용되지 않도록 캐시하지 않음
+        if (cacheKey != null && verified.expiresAt() != null) {
+            verifiedTokens.put(cacheKey, verified);
+        }
+        return verified;
     }
 
     // Access Token 생성
@@ -93,21 +142,23 @@ public class JwtTokenProvider {
 
     // 토큰에서 사용자 ID 추출
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return Long.parseLong(claims.getSubject());
+        return verify(token).userId();
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            parseClaims(token);
+            verify(token);
             return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다.", e);
         } catch (ExpiredJwtException e) {
             log.debug("만료된 JWT 토큰입니다.", e);
         } catch (UnsupportedJwtException e) {
             log.error("지원되지 않는 JWT 토큰입니다.", e);
+        } catch (MalformedJwtException e) {
+            log.error("잘못된 형식의 JWT 토큰입니다.", e);
+        } catch (JwtException e) {
+            // 서명 불일치(io.jsonwebtoken.security.SignatureException), 약한 키 등 jjwt 검증 예외는 모두 JwtException 하위
+            log.error("잘못된 JWT 서명입니다.", e);
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰이 잘못되었습니다.", e);
         }
@@ -116,13 +167,24 @@ public class JwtTokenProvider {
 
     // 토큰 타입 확인
     public String getTokenType(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("type", String.class);
+        return verify(token).type();
     }
 
     // 토큰에서 Role 추출
     public String getRoleFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("role", String.class);
+        return verify(token).role();
+    }
+
+    // 검증 완료 토큰 LRU 캐시 생성 (크기가 0 이하면 비활성화)
+    private static Map<String, VerifiedToken> createVerifiedTokenCache(int maxSize) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        return Collections.synchronizedMap(new LinkedHashMap<String, VerifiedToken>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxSize;
+            }
+        });
     }
 }
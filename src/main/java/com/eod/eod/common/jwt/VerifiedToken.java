@@ -0,0 +1,28 @@
+package com.eod.eod.common.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT의 불변 표현
+ *
+ * 필터/서비스가 같은 토큰을 여러 번 파싱하지 않도록 필요한 클레임만 한 번에 꺼내 둡니다.
+ */
+public record VerifiedToken(
+        Long userId,
+        String type,
+        String role,
+        Instant expiresAt
+) {
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
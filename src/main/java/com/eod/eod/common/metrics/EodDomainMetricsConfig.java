@@ -1,13 +1,10 @@
 package com.eod.eod.common.metrics;
 
-import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
-import com.eod.eod.domain.item.infrastructure.ItemRepository;
 import com.eod.eod.domain.item.model.Item;
 import com.eod.eod.domain.item.model.ItemClaim;
-import com.eod.eod.domain.reward.infrastructure.RewardRecordRepository;
-import com.eod.eod.domain.user.model.User;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
@@ -15,33 +12,33 @@ public class EodDomainMetricsConfig {
 
     public EodDomainMetricsConfig(
             MeterRegistry meterRegistry,
-            ItemRepository itemRepository,
-            ItemClaimRepository itemClaimRepository,
-            RewardRecordRepository rewardRecordRepository
+            EodDomainMetricsSnapshot snapshot
     ) {
+        // 게이지는 스냅샷 값만 읽으며, DB 집계는 스냅샷이 주기적으로 수행
         for (Item.ItemStatus status : Item.ItemStatus.values()) {
-            Gauge.builder("eod_items_current", itemRepository,
-                            repository -> repository.countByStatusAndDeletedAtIsNull(status))
+            Gauge.builder("eod_items_current", snapshot.itemCount(status), AtomicLong::get)
                     .description("Current item count by status")
                     .tag("status", status.name())
                     .register(meterRegistry);
         }
 
         for (ItemClaim.ClaimStatus status : ItemClaim.ClaimStatus.values()) {
-            Gauge.builder("eod_claims_current", itemClaimRepository,
-                            repository -> repository.countByStatusAndItemDeletedAtIsNull(status))
+            Gauge.builder("eod_claims_current", snapshot.claimCount(status), AtomicLong::get)
                     .description("Current item claim count by status")
                     .tag("status", status.name())
                     .register(meterRegistry);
         }
 
-        Gauge.builder("eod_reward_eligible_items", rewardRecordRepository,
-                        repository -> repository.countRewardEligibleItems(Item.ItemStatus.GIVEN, User.Role.USER))
+        Gauge.builder("eod_reward_eligible_items", snapshot.rewardEligibleItems(), AtomicLong::get)
                 .description("Current count of items eligible for reward")
                 .register(meterRegistry);
 
-        Gauge.builder("eod_reward_records_current", rewardRecordRepository, RewardRecordRepository::count)
+        Gauge.builder("eod_reward_records_current", snapshot.rewardRecords(), AtomicLong::get)
                 .description("Current reward record count")
                 .register(meterRegistry);
+
+        Gauge.builder("eod_domain_snapshot_age_seconds", snapshot, EodDomainMetricsSnapshot::ageSeconds)
+                .description("Seconds since the domain gauge snapshot was last refreshed")
+                .register(meterRegistry);
     }
 }
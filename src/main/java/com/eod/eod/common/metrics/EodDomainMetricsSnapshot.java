@@ -0,0 +1,108 @@
+package com.eod.eod.common.metrics;
+
+import com.eod.eod.domain.item.infrastructure.ClaimStatusCount;
+import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
+import com.eod.eod.domain.item.infrastructure.ItemRepository;
+import com.eod.eod.domain.item.infrastructure.ItemStatusCount;
+import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.reward.infrastructure.RewardRecordRepository;
+import com.eod.eod.domain.user.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도메인 게이지용 집계 스냅샷
+ *
+ * Prometheus 스크레이프마다 COUNT 쿼리를 실행하지 않도록 상태별 개수를 주기적으로
+ * 그룹 집계하여 AtomicLong에 보관하고, 게이지는 이 값만 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EodDomainMetricsSnapshot {
+
+    private final ItemRepository itemRepository;
+    private final ItemClaimRepository itemClaimRepository;
+    private final RewardRecordRepository rewardRecordRepository;
+
+    private final Map<Item.ItemStatus, AtomicLong> itemCounts = initCounts(Item.ItemStatus.class);
+    private final Map<ItemClaim.ClaimStatus, AtomicLong> claimCounts = initCounts(ItemClaim.ClaimStatus.class);
+    private final AtomicLong rewardEligibleItems = new AtomicLong();
+    private final AtomicLong rewardRecords = new AtomicLong();
+    private final AtomicLong refreshedAtMillis = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${eod.metrics.domain-snapshot.refresh-interval-ms:60000}",
+            initialDelayString = "${eod.metrics.domain-snapshot.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            Map<Item.ItemStatus, Long> items = new EnumMap<>(Item.ItemStatus.class);
+            for (ItemStatusCount row : itemRepository.countGroupByStatus()) {
+                items.put(row.getStatus(), row.getCount());
+            }
+            Map<ItemClaim.ClaimStatus, Long> claims = new EnumMap<>(ItemClaim.ClaimStatus.class);
+            for (ClaimStatusCount row : itemClaimRepository.countGroupByStatus()) {
+                claims.put(row.getStatus(), row.getCount());
+            }
+            long eligible = rewardRecordRepository.countRewardEligibleItems(Item.ItemStatus.GIVEN, User.Role.USER);
+            long records = rewardRecordRepository.count();
+
+            // 집계에 없는 상태는 0건으로 간주
+            itemCounts.forEach((status, count) -> count.set(items.getOrDefault(status, 0L)));
+            claimCounts.forEach((status, count) -> count.set(claims.getOrDefault(status, 0L)));
+            rewardEligibleItems.set(eligible);
+            rewardRecords.set(records);
+            refreshedAtMillis.set(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("도메인 메트릭 스냅샷 갱신 실패 - 이전 값을 유지합니다.", e);
+        }
+    }
+
+    public AtomicLong itemCount(Item.ItemStatus status) {
+        return itemCounts.get(status);
+    }
+
+    public AtomicLong claimCount(ItemClaim.ClaimStatus status) {
+        return claimCounts.get(status);
+    }
+
+    public AtomicLong rewardEligibleItems() {
+        return rewardEligibleItems;
+    }
+
+    public AtomicLong rewardRecords() {
+        return rewardRecords;
+    }
+
+    /**
+     * 마지막 갱신 이후 경과 시간(초), 아직 한 번도 갱신되지 않았으면 -1
+     */
+    public double ageSeconds() {
+        long refreshedAt = refreshedAtMillis.get();
+        if (refreshedAt == 0) {
+            return -1;
+        }
+        return (System.currentTimeMillis() - refreshedAt) / 1000.0;
+    }
+
+    private static <E extends Enum<E>> Map<E, AtomicLong> initCounts(Class<E> type) {
+        Map<E, AtomicLong> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, new AtomicLong());
+        }
+        return counts;
+    }
+}
@@ -2,64 +2,217 @@ package com.eod.eod.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * EOD 커스텀 메트릭 기록기
+ *
+ * 미터는 (이름, 태그) 단위로 한 번만 등록해 캐시하고, 이후 기록은 캐시 조회만 수행합니다.
+ * 태그 값이 무한히 늘어나는 것을 막기 위해 메트릭 이름별 시리즈 수가 상한을 넘으면
+ * 태그 값을 "other"로 묶어 기록합니다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class EodMetrics {
 
+    static final String OVERFLOW_TAG_VALUE = "other";
+    private static final int DEFAULT_MAX_SERIES_PER_METER = 200;
+
     private final MeterRegistry meterRegistry;
+    private final int maxSeriesPerMeter;
+    private final Map<MeterKey, Meter> meters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> seriesCounts = new ConcurrentHashMap<>();
+
+    public EodMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, DEFAULT_MAX_SERIES_PER_METER);
+    }
+
+    @Autowired
+    public EodMetrics(MeterRegistry meterRegistry,
+                      @Value("${eod.metrics.max-series-per-meter:200}") int maxSeriesPerMeter) {
+        this.meterRegistry = meterRegistry;
+        this.maxSeriesPerMeter = maxSeriesPerMeter;
+    }
 
     public void recordBusinessEvent(String domain, String action, String result) {
-        Counter.builder("eod_business_events_total")
-                .description("EOD domain business events")
-                .tag("domain", domain)
-                .tag("action", action)
-                .tag("result", result)
-                .register(meterRegistry)
+        counter("eod_business_events_total", "EOD domain business events",
+                "domain", domain, "action", action, "result", result)
                 .increment();
     }
 
     public void recordExternalCall(String provider, String operation, String result, Duration duration) {
-        Timer.builder("eod_external_call_seconds")
-                .description("External API call latency")
-                .tag("provider", provider)
-                .tag("operation", operation)
-                .tag("result", result)
-                .register(meterRegistry)
+        timer("eod_external_call_seconds", "External API call latency",
+                "provider", provider, "operation", operation, "result", result)
                 .record(duration);
     }
 
     public void recordImageUpload(String result, long bytes, Duration duration) {
         recordBusinessEvent("image", "upload", result);
-        DistributionSummary.builder("eod_image_upload_bytes")
+        meter("eod_image_upload_bytes", new String[]{"result", result}, key -> DistributionSummary
+                .builder(key.name())
                 .description("Uploaded image size in bytes")
-                .tag("result", result)
+                .tags(key.tagArray())
                 .baseUnit("bytes")
-                .register(meterRegistry)
+                .register(meterRegistry))
                 .record(bytes);
-        Timer.builder("eod_image_upload_seconds")
-                .description("Image upload latency")
-                .tag("result", result)
-                .register(meterRegistry)
+        timer("eod_image_upload_seconds", "Image upload latency", "result", result)
                 .record(duration);
     }
 
     public void recordSchedulerRun(String task, String result, int processedItems) {
-        Counter.builder("eod_scheduler_runs_total")
-                .description("Scheduled task executions")
-                .tag("task", task)
-                .tag("result", result)
-                .register(meterRegistry)
+        recordSchedulerRun(task, result, processedItems, null);
+    }
+
+    public void recordSchedulerRun(String task, String result, int processedItems, Duration duration) {
+        counter("eod_scheduler_runs_total", "Scheduled task executions", "task", task, "result", result)
                 .increment();
-        DistributionSummary.builder("eod_scheduler_processed_items")
-                .description("Items processed by scheduled tasks")
-                .tag("task", task)
-                .register(meterRegistry)
+        summary("eod_scheduler_processed_items", "Items processed by scheduled tasks", "task", task)
                 .record(processedItems);
+        if (duration != null) {
+            timer("eod_scheduler_run_seconds", "Scheduled task execution latency", "task", task)
+                    .record(duration);
+        }
+    }
+
+    public void recordSchedulerItems(String task, String outcome, int count) {
+        counter("eod_scheduler_items_total", "Items handled by scheduled tasks by outcome",
+                "task", task, "outcome", outcome)
+                .increment(count);
+    }
+
+    public void recordSchedulerChunk(String task, int processedItems, Duration duration) {
+        timer("eod_scheduler_chunk_seconds", "Scheduled task chunk latency", "task", task)
+                .record(duration);
+        summary("eod_scheduler_chunk_items", "Items processed per scheduled task chunk", "task", task)
+                .record(processedItems);
+    }
+
+    public void recordRateLimit(String provider, String route, String result, Duration waitTime) {
+        counter("eod_rate_limit_requests_total", "Outbound requests by rate-limit outcome",
+                "provider", provider, "route", route, "result", result)
+                .increment();
+        if (waitTime != null) {
+            timer("eod_rate_limit_wait_seconds", "Time outbound requests waited in the dispatch queue",
+                    "provider", provider, "route", route)
+                    .record(waitTime);
+        }
+    }
+
+    public void recordCacheAccess(String cache, String result) {
+        counter("eod_cache_requests_total", "In-memory cache lookups", "cache", cache, "result", result)
+                .increment();
+    }
+
+    public void recordCacheReload(String cache, String result, int entries, Duration duration) {
+        counter("eod_cache_reloads_total", "In-memory cache reloads", "cache", cache, "result", result)
+                .increment();
+        timer("eod_cache_reload_seconds", "In-memory cache reload latency", "cache", cache)
+                .record(duration);
+        summary("eod_cache_entries", "Entries loaded into in-memory caches", "cache", cache)
+                .record(entries);
+    }
+
+    private Counter counter(String name, String description, String... tags) {
+        return meter(name, tags, key -> Counter.builder(key.name())
+                .description(description)
+                .tags(key.tagArray())
+                .register(meterRegistry));
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return meter(name, tags, key -> Timer.builder(key.name())
+                .description(description)
+                .tags(key.tagArray())
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary summary(String name, String description, String... tags) {
+        return meter(name, tags, key -> DistributionSummary.builder(key.name())
+                .description(description)
+                .tags(key.tagArray())
+                .register(meterRegistry));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends Meter> M meter(String name, String[] tags, Function<MeterKey, M> factory) {
+        // 호출부의 가변 인자 배열을 그대로 키로 사용해 이벤트마다 리스트를 복사하지 않음
+        MeterKey key = new MeterKey(name, tags);
+        Meter meter = meters.get(key);
+        if (meter == null) {
+            // 시리즈 수 확인/증가를 키 등록과 같은 원자 구간에서 수행해 새로 만든 미터마다 한 번만 셈
+            meter = meters.computeIfAbsent(key, candidate ->
+                    reserveSeries(candidate.name()) ? factory.apply(candidate) : null);
+        }
+        if (meter == null) {
+            meter = meters.computeIfAbsent(overflow(key), factory::apply);
+        }
+        return (M) meter;
+    }
+
+    /**
+     * 메트릭 이름별 시리즈 수가 상한 미만일 때만 1 증가 (상한에 닿으면 증가하지 않고 false)
+     */
+    private boolean reserveSeries(String name) {
+        AtomicInteger count = seriesCounts.computeIfAbsent(name, key -> new AtomicInteger());
+        while (true) {
+            int current = count.get();
+            if (current >= maxSeriesPerMeter) {
+                return false;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 상한을 넘은 시리즈를 기록할 태그 값을 묶은 키
+     */
+    private MeterKey overflow(MeterKey key) {
+        MeterKey overflow = key.overflow();
+        if (!meters.containsKey(overflow)) {
+            log.warn("메트릭 태그 카디널리티 상한 초과 - {} 태그 값을 '{}'로 묶어 기록합니다.", key.name(), OVERFLOW_TAG_VALUE);
+        }
+        return overflow;
+    }
+
+    /**
+     * 미터 캐시 키 (태그는 호출부가 넘긴 배열을 그대로 보관하므로 등록 이후 수정하지 않아야 함)
+     */
+    private record MeterKey(String name, String[] tags) {
+
+        String[] tagArray() {
+            return tags;
+        }
+
+        MeterKey overflow() {
+            String[] replaced = tags.clone();
+            for (int i = 1; i < replaced.length; i += 2) {
+                replaced[i] = OVERFLOW_TAG_VALUE;
+            }
+            return new MeterKey(name, replaced);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof MeterKey key && name.equals(key.name) && Arrays.equals(tags, key.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + Arrays.hashCode(tags);
+        }
     }
 }
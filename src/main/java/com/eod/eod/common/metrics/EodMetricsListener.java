@@ -1,36 +1,115 @@
 package com.eod.eod.common.metrics;
 
 import com.eod.eod.common.event.EodBusinessEvent;
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.common.event.EodCacheReloadEvent;
 import com.eod.eod.common.event.EodExternalCallEvent;
 import com.eod.eod.common.event.EodImageUploadEvent;
+import com.eod.eod.common.event.EodRateLimitEvent;
+import com.eod.eod.common.event.EodSchedulerChunkEvent;
 import com.eod.eod.common.event.EodSchedulerRunEvent;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 메트릭 이벤트 수신기
+ *
+ * 트랜잭션 안에서 발행된 이벤트는 트랜잭션이 끝난 뒤(커밋/롤백 모두) 기록하고,
+ * 실제 기록은 전용 단일 스레드에서 수행하여 요청 스레드를 붙잡지 않습니다.
+ * 큐가 가득 차면 호출 스레드에서 직접 기록하므로 메트릭이 유실되지 않습니다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class EodMetricsListener {
+public class EodMetricsListener implements DisposableBean {
 
     private final EodMetrics eodMetrics;
+    private final Executor executor;
 
-    @EventListener
+    @Autowired
+    public EodMetricsListener(EodMetrics eodMetrics,
+                              @Value("${eod.metrics.async.enabled:true}") boolean asyncEnabled,
+                              @Value("${eod.metrics.async.queue-capacity:10000}") int queueCapacity) {
+        this(eodMetrics, asyncEnabled ? createExecutor(queueCapacity) : Runnable::run);
+    }
+
+    EodMetricsListener(EodMetrics eodMetrics, Executor executor) {
+        this.eodMetrics = eodMetrics;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
     public void onBusinessEvent(EodBusinessEvent event) {
-        eodMetrics.recordBusinessEvent(event.domain(), event.action(), event.result());
+        executor.execute(() -> eodMetrics.recordBusinessEvent(event.domain(), event.action(), event.result()));
     }
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
     public void onExternalCall(EodExternalCallEvent event) {
-        eodMetrics.recordExternalCall(event.provider(), event.operation(), event.result(), event.duration());
+        executor.execute(() -> eodMetrics.recordExternalCall(
+                event.provider(), event.operation(), event.result(), event.duration()));
     }
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
     public void onImageUpload(EodImageUploadEvent event) {
-        eodMetrics.recordImageUpload(event.result(), event.bytes(), event.duration());
+        executor.execute(() -> eodMetrics.recordImageUpload(event.result(), event.bytes(), event.duration()));
     }
 
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
     public void onSchedulerRun(EodSchedulerRunEvent event) {
-        eodMetrics.recordSchedulerRun(event.task(), event.result(), event.processedItems());
+        executor.execute(() -> {
+            eodMetrics.recordSchedulerRun(event.task(), event.result(), event.processedItems(), event.duration());
+            event.itemOutcomes().forEach((outcome, count) -> eodMetrics.recordSchedulerItems(event.task(), outcome, count));
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onSchedulerChunk(EodSchedulerChunkEvent event) {
+        executor.execute(() -> eodMetrics.recordSchedulerChunk(event.task(), event.processedItems(), event.duration()));
+    }
+
+    @EventListener
+    public void onRateLimit(EodRateLimitEvent event) {
+        executor.execute(() -> eodMetrics.recordRateLimit(
+                event.provider(), event.route(), event.result(), event.waitTime()));
+    }
+
+    @EventListener
+    public void onCacheAccess(EodCacheAccessEvent event) {
+        executor.execute(() -> eodMetrics.recordCacheAccess(event.cache(), event.result()));
+    }
+
+    @EventListener
+    public void onCacheReload(EodCacheReloadEvent event) {
+        executor.execute(() -> eodMetrics.recordCacheReload(
+                event.cache(), event.result(), event.entries(), event.duration()));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("메트릭 기록 스레드가 제한 시간 내에 종료되지 않았습니다.");
+            }
+        }
+    }
+
+    private static Executor createExecutor(int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("eod-metrics-");
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
     }
 }
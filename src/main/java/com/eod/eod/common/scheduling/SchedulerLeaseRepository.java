@@ -0,0 +1,39 @@
+package com.eod.eod.common.scheduling;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // 임대가 만료된 경우에만 소유자를 바꿔 잠금 획득 (갱신된 행 수가 1이면 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SchedulerLease l SET l.lockedBy = :owner, l.lockedAt = :now, l.lockUntil = :lockUntil " +
+            "WHERE l.name = :name " +
+            "AND l.lockUntil <= :now")
+    int acquireExpired(@Param("name") String name,
+                       @Param("owner") String owner,
+                       @Param("now") LocalDateTime now,
+                       @Param("lockUntil") LocalDateTime lockUntil);
+
+    // 최초 실행 시 임대 행 생성 (PK 충돌 시 다른 노드가 먼저 획득한 것)
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, locked_by, locked_at, lock_until) " +
+            "VALUES (:name, :owner, :now, :lockUntil)", nativeQuery = true)
+    int insertLease(@Param("name") String name,
+                    @Param("owner") String owner,
+                    @Param("now") LocalDateTime now,
+                    @Param("lockUntil") LocalDateTime lockUntil);
+
+    // 자신이 보유한 잠금만 해제 (lockUntil을 앞당김)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SchedulerLease l SET l.lockUntil = :lockUntil " +
+            "WHERE l.name = :name " +
+            "AND l.lockedBy = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("lockUntil") LocalDateTime lockUntil);
+}
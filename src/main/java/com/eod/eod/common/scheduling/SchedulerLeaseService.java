@@ -0,0 +1,93 @@
+package com.eod.eod.common.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * scheduler_leases 테이블 기반 분산 잠금
+ *
+ * 잠금 획득/해제는 호출 측 트랜잭션과 무관하게 즉시 커밋되도록 항상 새 트랜잭션에서 수행합니다.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${scheduler.lock.owner:}") String owner) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = StringUtils.hasText(owner) ? owner : defaultOwner();
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * 잠금 획득 시도 (성공하면 lockAtMostFor 뒤에 자동 만료)
+     */
+    public boolean tryAcquire(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockUntil = now.plus(lockAtMostFor);
+
+        Integer updated = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.acquireExpired(name, owner, now, lockUntil));
+        if (updated != null && updated == 1) {
+            return true;
+        }
+
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+
+        try {
+            Integer inserted = transactionTemplate.execute(status ->
+                    schedulerLeaseRepository.insertLease(name, owner, now, lockUntil));
+            return inserted != null && inserted == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 동시에 최초 행을 만든 경우
+            log.debug("스케줄 잠금 최초 생성 경합 - name={}", name);
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 해제 (lockAtLeastFor가 지나기 전이면 그 시점까지 유지)
+     */
+    public void release(String name, LocalDateTime lockedAt, Duration lockAtLeastFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minimumUntil = lockedAt.plus(lockAtLeastFor);
+        LocalDateTime lockUntil = minimumUntil.isAfter(now) ? minimumUntil : now;
+
+        transactionTemplate.executeWithoutResult(status ->
+                schedulerLeaseRepository.release(name, owner, lockUntil));
+    }
+
+    private static String defaultOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID();
+    }
+}
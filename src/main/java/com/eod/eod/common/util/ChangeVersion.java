@@ -0,0 +1,32 @@
+package com.eod.eod.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 델타 동기화용 변경 버전 발급기
+ *
+ * 버전은 epoch 밀리초 * 1000 기준이며, 같은 밀리초 안에서는 1씩 증가해 프로세스 안에서 단조 증가합니다.
+ * 인스턴스 간 시계 차이와 늦게 커밋되는 트랜잭션은 동기화 API가 {@link #stableBefore(Duration)}로 여유를 두어 흡수합니다.
+ */
+public final class ChangeVersion {
+
+    private static final long PER_MILLI = 1000L;
+    private static final AtomicLong LAST_ISSUED = new AtomicLong();
+
+    private ChangeVersion() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static long next() {
+        long floor = System.currentTimeMillis() * PER_MILLI;
+        return LAST_ISSUED.updateAndGet(previous -> Math.max(previous + 1, floor));
+    }
+
+    /**
+     * 지금보다 lag만큼 이전 시각의 버전 (이 버전 이하 변경은 모두 커밋되었다고 보는 기준)
+     */
+    public static long stableBefore(Duration lag) {
+        return (System.currentTimeMillis() - lag.toMillis()) * PER_MILLI;
+    }
+}
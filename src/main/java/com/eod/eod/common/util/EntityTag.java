@@ -0,0 +1,47 @@
+package com.eod.eod.common.util;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 검증값
+ *
+ * 응답을 결정하는 값(변경 버전, 카탈로그 지문 등)만으로 강한 ETag를 만들기 때문에 응답 DTO를 만들지 않고도 비교할 수 있으며,
+ * 같은 입력이면 인스턴스와 무관하게 같은 값이 나옵니다.
+ *
+ * @param value 따옴표 없는 ETag 값 (WebRequest가 따옴표를 붙임)
+ * @param lastModified 마지막 수정 시각 epoch 밀리초 (알 수 없으면 -1)
+ */
+public record EntityTag(String value, long lastModified) {
+
+    private static final int LENGTH_BYTES = 16;
+
+    /**
+     * 구성 값들을 구분자로 이어 SHA-256의 앞 16바이트를 16진수 ETag로 사용
+     */
+    public static EntityTag of(long lastModified, Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part).append('\u0000');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return new EntityTag(HexFormat.of().formatHex(digest, 0, LENGTH_BYTES), lastModified);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 요청의 검증 헤더와 비교해 바뀌지 않았으면 true (304 상태와 ETag/Last-Modified 헤더가 설정됨)
+     * 바뀌었으면 응답에 ETag/Last-Modified 헤더만 설정하고 false를 반환합니다.
+     */
+    public boolean isNotModified(WebRequest request) {
+        return request.checkNotModified(value, lastModified);
+    }
+}
@@ -0,0 +1,32 @@
+package com.eod.eod.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문을 고정 길이(64자) SHA-256 16진수 다이제스트로 변환
+ *
+ * 긴 JWT 문자열 대신 다이제스트 컬럼에 B-tree 인덱스를 걸어 조회하기 위해 사용합니다.
+ */
+public final class TokenDigest {
+
+    public static final int LENGTH = 64;
+
+    private TokenDigest() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String sha256(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.eod.eod.domain.admin.application;
+
+import com.eod.eod.common.event.EodBusinessEvent;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.admin.presentation.dto.response.AdminSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관리자 대시보드 카운터 SSE 스트림
+ *
+ * 카운터에 영향을 주는 비즈니스 이벤트(claim/disposal/reward/item)나 스케줄 작업이 커밋되면 변경 표시만 해 두고,
+ * coalesce 주기마다 구독자가 있을 때만 한 번 집계해 값이 바뀐 카운터만 "delta" 이벤트로 보냅니다.
+ * 변경이 없으면 DB를 읽지 않고 하트비트 주석만 흘려보내므로 유휴 대시보드의 비용은 연결 유지뿐입니다.
+ * 다른 인스턴스에서 커밋된 변경은 이벤트로 알 수 없으므로, 구독자가 있는 동안 resync-interval마다
+ * 공유 요약 스냅샷(AdminSummaryService TTL)과 비교해 바뀐 카운터를 같은 방식으로 보냅니다.
+ *
+ * 최근 이벤트를 replay-size만큼 보관해 Last-Event-ID로 재연결하면 놓친 delta를 이어서 보내고,
+ * 보관 범위를 벗어났으면 전체 값을 "snapshot" 이벤트로 보냅니다.
+ * 구독자마다 buffer-size 크기의 버퍼를 두고, 가득 차면 해당 스트림만 끊어 클라이언트가 Last-Event-ID로 다시 붙게 합니다.
+ */
+@Slf4j
+@Component
+public class AdminCounterStream {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String DELTA_EVENT = "delta";
+
+    private static final Set<String> COUNTER_DOMAINS = Set.of("claim", "disposal", "reward", "item");
+    private static final Set<String> COUNTER_TASKS = Set.of(
+            "auto_mark_to_be_discarded", "auto_discard_expired_items", "reconcile_pending_claim_summary");
+
+    private final AdminSummaryService adminSummaryService;
+    private final Duration heartbeatInterval;
+    private final Duration maxLifetime;
+    private final int bufferSize;
+    private final int replaySize;
+    private final long resyncIntervalMillis;
+    private final Set<Sinks.Many<ServerSentEvent<Map<String, Long>>>> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<ServerSentEvent<Map<String, Long>>> replay = new ArrayDeque<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 마지막으로 보낸 카운터 값과 이벤트 ID (replay와 함께 this로 보호)
+    // ID는 기동 시각에서 시작해 재시작 전 ID로 재연결해도 이어지는 값으로 오인하지 않도록 함
+    private Map<String, Long> lastCounts;
+    private long lastEventId = System.currentTimeMillis();
+    private long lastAggregatedAt;
+
+    public AdminCounterStream(AdminSummaryService adminSummaryService,
+                              @Value("${admin.stream.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                              @Value("${admin.stream.max-lifetime:PT10M}") Duration maxLifetime,
+                              @Value("${admin.stream.buffer-size:32}") int bufferSize,
+                              @Value("${admin.stream.replay-size:100}") int replaySize,
+                              @Value("${admin.stream.resync-interval:PT15S}") Duration resyncInterval) {
+        this.adminSummaryService = adminSummaryService;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxLifetime = maxLifetime;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.resyncIntervalMillis = resyncInterval.toMillis();
+    }
+
+    /**
+     * 구독 시작
+     * Last-Event-ID가 보관 범위 안이면 그 이후 delta를, 아니면 현재 전체 값을 먼저 보낸 뒤 실시간 delta를 이어 붙입니다.
+     * 스트림은 max-lifetime 후 닫히며, 클라이언트는 Last-Event-ID로 재연결합니다.
+     */
+    public Flux<ServerSentEvent<Map<String, Long>>> subscribe(String lastEventIdHeader) {
+        return Flux.defer(() -> {
+            Sinks.Many<ServerSentEvent<Map<String, Long>>> sink = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<ServerSentEvent<Map<String, Long>>>get(bufferSize).get());
+            synchronized (this) {
+                // 초기 이벤트와 등록을 같은 락 안에서 처리해 그 사이 delta가 빠지지 않도록 함
+                initialEvents(parseEventId(lastEventIdHeader)).forEach(sink::tryEmitNext);
+                subscribers.add(sink);
+            }
+
+            Flux<ServerSentEvent<Map<String, Long>>> heartbeats = Flux.interval(heartbeatInterval)
+                    .map(tick -> ServerSentEvent.<Map<String, Long>>builder().comment("heartbeat").build());
+
+            return sink.asFlux()
+                    .mergeWith(heartbeats)
+                    .take(maxLifetime)
+                    .doFinally(signal -> subscribers.remove(sink));
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBusinessEvent(EodBusinessEvent event) {
+        if (COUNTER_DOMAINS.contains(event.domain()) && "success".equals(event.result())) {
+            dirty.set(true);
+        }
+    }
+
+    @EventListener
+    public void onSchedulerRun(EodSchedulerRunEvent event) {
+        if (COUNTER_TASKS.contains(event.task()) && event.processedItems() > 0) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 변경 표시가 있으면 한 번 집계해 바뀐 카운터만 delta로 발행
+     * 변경 표시가 없어도 resync-interval이 지났으면 공유 스냅샷으로 다른 인스턴스의 변경을 확인합니다.
+     * 구독자가 없으면 집계하지 않고, 변경 표시가 있었으면 이어지는 값을 보장할 수 없으므로 보관 중인 상태를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${admin.stream.coalesce-interval-ms:1000}",
+            initialDelayString = "${admin.stream.coalesce-interval-ms:1000}")
+    public void flush() {
+        boolean changed = dirty.getAndSet(false);
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (!changed && now - lastAggregatedAt < resyncIntervalMillis) {
+                return;
+            }
+            if (subscribers.isEmpty()) {
+                if (changed) {
+                    lastCounts = null;
+                    replay.clear();
+                }
+                return;
+            }
+
+            // 이 인스턴스의 변경은 바로 다시 집계하고, 주기 확인은 관리자 폴링과 같은 TTL 스냅샷을 공유
+            AdminSummaryResponse summary = changed ? adminSummaryService.refresh() : adminSummaryService.getSummary();
+            lastAggregatedAt = now;
+            Map<String, Long> counts = toCounts(summary);
+            Map<String, Long> changed = new LinkedHashMap<>();
+            counts.forEach((name, value) -> {
+                if (lastCounts == null || !value.equals(lastCounts.get(name))) {
+                    changed.put(name, value);
+                }
+            });
+            lastCounts = counts;
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            ServerSentEvent<Map<String, Long>> delta = event(DELTA_EVENT, ++lastEventId, changed);
+            replay.addLast(delta);
+            while (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Sinks.Many<ServerSentEvent<Map<String, Long>>> sink : subscribers) {
+                if (sink.tryEmitNext(delta) == Sinks.EmitResult.FAIL_OVERFLOW) {
+                    log.warn("관리자 카운터 스트림 버퍼 초과 - 연결을 끊습니다.");
+                    subscribers.remove(sink);
+                    sink.tryEmitError(new IllegalStateException("관리자 카운터 스트림 버퍼가 가득 찼습니다."));
+                }
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private List<ServerSentEvent<Map<String, Long>>> initialEvents(Long clientEventId) {
+        if (clientEventId != null && lastCounts != null && canReplayFrom(clientEventId)) {
+            List<ServerSentEvent<Map<String, Long>>> missed = replay.stream()
+                    .filter(event -> Long.parseLong(event.id()) > clientEventId)
+                    .toList();
+            // 놓친 delta가 버퍼보다 많으면 전체 값으로 대신함
+            if (missed.size() < bufferSize) {
+                return missed;
+            }
+        }
+
+        if (lastCounts == null) {
+            // 구독자가 없던 동안의 변경은 추적하지 않았으므로 새 ID로 전체 값을 다시 시작
+            lastCounts = toCounts(adminSummaryService.refresh());
+            lastAggregatedAt = System.currentTimeMillis();
+            lastEventId++;
+        }
+        return List.of(event(SNAPSHOT_EVENT, lastEventId, lastCounts));
+    }
+
+    /**
+     * 클라이언트가 받은 마지막 ID 이후의 delta가 모두 보관되어 있는지 확인
+     */
+    private boolean canReplayFrom(long clientEventId) {
+        if (clientEventId > lastEventId) {
+            return false;
+        }
+        if (clientEventId == lastEventId) {
+            return true;
+        }
+        return !replay.isEmpty() && Long.parseLong(replay.peekFirst().id()) <= clientEventId + 1;
+    }
+
+    private static ServerSentEvent<Map<String, Long>> event(String name, long id, Map<String, Long> data) {
+        return ServerSentEvent.<Map<String, Long>>builder()
+                .id(Long.toString(id))
+                .event(name)
+                .data(Map.copyOf(data))
+                .build();
+    }
+
+    private static Map<String, Long> toCounts(AdminSummaryResponse summary) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("pendingClaims", summary.getPendingClaims());
+        counts.put("toBeDiscardedItems", summary.getToBeDiscardedItems());
+        counts.put("rewardEligibleItems", summary.getRewardEligibleItems());
+        return counts;
+    }
+
+    private static Long parseEventId(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.eod.eod.domain.admin.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.domain.admin.presentation.dto.response.AdminSummaryResponse;
+import com.eod.eod.domain.item.infrastructure.DashboardCounts;
+import com.eod.eod.domain.item.infrastructure.ItemRepository;
+import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.user.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 대시보드 요약 스냅샷
+ *
+ * 모든 카운터를 한 번의 그룹 집계로 계산하고 짧은 TTL 동안 모든 관리자가 같은 스냅샷을 공유합니다.
+ * 만료 시점에 동시에 들어온 요청은 한 요청만 집계하고 나머지는 그 결과를 기다렸다가 사용하므로,
+ * 폴링하는 관리자 수와 무관하게 TTL마다 쿼리는 한 번입니다.
+ */
+@Service
+public class AdminSummaryService {
+
+    private static final String CACHE_NAME = "admin_summary";
+
+    private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long ttlMillis;
+    private final Object refreshLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public AdminSummaryService(ItemRepository itemRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${admin.summary.ttl:PT5S}") Duration ttl) {
+        this.itemRepository = itemRepository;
+        this.eventPublisher = eventPublisher;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public AdminSummaryResponse getSummary() {
+        Snapshot current = snapshot;
+        if (current != null && current.expiresAt() > System.currentTimeMillis()) {
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+            return current.response();
+        }
+
+        synchronized (refreshLock) {
+            // 대기하는 동안 다른 요청이 갱신했으면 그 결과를 사용
+            current = snapshot;
+            long now = System.currentTimeMillis();
+            if (current != null && current.expiresAt() > now) {
+                eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+                return current.response();
+            }
+
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "miss"));
+            return load(now);
+        }
+    }
+
+    /**
+     * TTL과 무관하게 다시 집계해 스냅샷을 교체 (카운터 변경을 알고 있는 SSE 스트림이 사용)
+     */
+    public AdminSummaryResponse refresh() {
+        synchronized (refreshLock) {
+            return load(System.currentTimeMillis());
+        }
+    }
+
+    private AdminSummaryResponse load(long now) {
+        DashboardCounts counts = itemRepository.summarizeDashboard(
+                Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.GIVEN, User.Role.USER);
+        AdminSummaryResponse response = AdminSummaryResponse.of(counts, LocalDateTime.now());
+        snapshot = new Snapshot(response, now + ttlMillis);
+        return response;
+    }
+
+    private record Snapshot(AdminSummaryResponse response, long expiresAt) {
+    }
+}
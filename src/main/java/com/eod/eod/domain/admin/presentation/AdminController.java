@@ -0,0 +1,67 @@
+package com.eod.eod.domain.admin.presentation;
+
+import com.eod.eod.domain.admin.application.AdminCounterStream;
+import com.eod.eod.domain.admin.application.AdminSummaryService;
+import com.eod.eod.domain.admin.presentation.dto.response.AdminSummaryResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+@Tag(name = "Admin", description = "관리자 대시보드 API")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final AdminSummaryService adminSummaryService;
+    private final AdminCounterStream adminCounterStream;
+
+    @Operation(summary = "관리자 대시보드 요약 조회",
+            description = "회수 신청 건수, 폐기 예정 물품 수, 상점 지급 대기 건수를 한 번에 조회합니다. " +
+                    "짧은 주기로 갱신되는 스냅샷이므로 generatedAt 기준 수 초 지연될 수 있습니다. (관리자/교사 전용)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AdminSummaryResponse.class)
+                    )),
+            @ApiResponse(responseCode = "403", description = "관리자/교사 권한이 아닐 경우",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"접근 권한이 없습니다.\"}")
+                    ))
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<AdminSummaryResponse> getSummary() {
+        return ResponseEntity.ok(adminSummaryService.getSummary());
+    }
+
+    @Operation(summary = "관리자 대시보드 카운터 스트림 (SSE)",
+            description = "연결 직후 전체 카운터를 snapshot 이벤트로 보내고, 이후 값이 바뀐 카운터만 delta 이벤트로 보냅니다. " +
+                    "변경이 없으면 하트비트 주석만 전송됩니다. 재연결 시 Last-Event-ID 헤더를 보내면 놓친 delta부터 이어서 받습니다. " +
+                    "(관리자/교사 전용)")
+    @ApiResponse(responseCode = "200", description = "스트림 연결 성공")
+    @GetMapping(value = "/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, Long>>> streamSummary(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return adminCounterStream.subscribe(lastEventId);
+    }
+}
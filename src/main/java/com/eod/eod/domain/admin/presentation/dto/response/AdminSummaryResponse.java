@@ -0,0 +1,34 @@
+package com.eod.eod.domain.admin.presentation.dto.response;
+
+import com.eod.eod.domain.item.infrastructure.DashboardCounts;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class AdminSummaryResponse {
+
+    @Schema(description = "회수 신청 건수", example = "8")
+    private long pendingClaims;
+
+    @Schema(description = "폐기 예정 물품 수", example = "5")
+    private long toBeDiscardedItems;
+
+    @Schema(description = "상점 지급 대기 건수", example = "3")
+    private long rewardEligibleItems;
+
+    @Schema(description = "집계 시각 (스냅샷 TTL 동안 같은 값을 반환)", example = "2025-03-12T09:00:00")
+    private LocalDateTime generatedAt;
+
+    public static AdminSummaryResponse of(DashboardCounts counts, LocalDateTime generatedAt) {
+        return new AdminSummaryResponse(
+                counts.getPendingClaims(),
+                counts.getToBeDiscardedItems(),
+                counts.getRewardEligibleItems(),
+                generatedAt
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package com.eod.eod.domain.auth.application;
+
+import com.eod.eod.domain.auth.infrastructure.MobileAuthTokenRepository;
+import com.eod.eod.domain.auth.infrastructure.RefreshTokenRepository;
+import com.eod.eod.domain.auth.model.MobileAuthToken;
+import com.eod.eod.domain.auth.model.RefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 토큰 다이제스트 백필
+ *
+ * 다이제스트 컬럼이 추가되기 전에 저장된 refresh_tokens, mobile_auth_tokens 행은 token_hash가 비어 있어
+ * 다이제스트 조회로 찾을 수 없으므로, 기동 후 한 번 원문을 해시해 채웁니다.
+ * 같은 값을 쓰는 멱등 작업이라 여러 인스턴스가 동시에 실행해도 안전하며, 채울 행이 없으면 인덱스 조회 한 번으로 끝납니다.
+ */
+@Slf4j
+@Component
+public class AuthTokenDigestBackfill {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MobileAuthTokenRepository mobileAuthTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AuthTokenDigestBackfill(RefreshTokenRepository refreshTokenRepository,
+                                   MobileAuthTokenRepository mobileAuthTokenRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${auth.purge.batch-size:500}") int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.mobileAuthTokenRepository = mobileAuthTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int refreshTokens = backfill(refreshTokenRepository,
+                    refreshTokenRepository::findIdsWithoutTokenHash, RefreshToken::backfillTokenHash);
+            int mobileAuthTokens = backfill(mobileAuthTokenRepository,
+                    mobileAuthTokenRepository::findIdsWithoutTokenHash, MobileAuthToken::backfillTokenHashes);
+            if (refreshTokens + mobileAuthTokens > 0) {
+                log.info("토큰 다이제스트 백필 완료 - refresh_tokens {}건, mobile_auth_tokens {}건",
+                        refreshTokens, mobileAuthTokens);
+            }
+        } catch (Exception e) {
+            // 백필 전 행은 TokenService가 원문 비교로도 찾으므로 기동은 계속함
+            log.error("토큰 다이제스트 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다이제스트가 없는 행을 ID 키셋 배치로 읽어 채움 (배치마다 트랜잭션을 나눔)
+     */
+    private <T> int backfill(JpaRepository<T, Long> repository,
+                             BiFunction<Long, Pageable, List<Long>> idsFinder, Consumer<T> hasher) {
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        long afterId = 0L;
+        int filled = 0;
+
+        while (true) {
+            long from = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> batch = idsFinder.apply(from, firstBatch);
+                repository.findAllById(batch).forEach(hasher);
+                return batch;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            filled += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return filled;
+    }
+}
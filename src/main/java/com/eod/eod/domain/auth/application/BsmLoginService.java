@@ -1,7 +1,8 @@
 package com.eod.eod.domain.auth.application;
 
 import com.eod.eod.common.event.EodBusinessEvent;
-import com.eod.eod.domain.discord.application.DiscordBotClient;
+import com.eod.eod.domain.discord.application.DiscordNotificationOutbox;
+import com.eod.eod.domain.user.application.event.UserChangedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import com.eod.eod.domain.user.infrastructure.UserRepository;
@@ -10,8 +11,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -26,7 +25,7 @@ public class BsmLoginService {
     private final BsmOAuthService bsmOAuthService;
     private final UserRepository userRepository;
     private final AuthService authService;
-    private final DiscordBotClient discordBotClient;
+    private final DiscordNotificationOutbox discordNotificationOutbox;
     private final ApplicationEventPublisher eventPublisher;
 
     public LoginResult login(String code) {
@@ -64,27 +63,13 @@ public class BsmLoginService {
 
         user.linkDiscordId(discordId);
         User savedUser = userRepository.save(user);
-        log.info("[linkDiscordId] saved userId={} discordId={}, registering afterCommit notification",
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
+        log.info("[linkDiscordId] saved userId={} discordId={}, enqueueing verification notification",
                 savedUser.getId(), savedUser.getDiscordId());
-        registerDiscordVerificationNotification(discordId, savedUser.getName());
+        discordNotificationOutbox.enqueueVerified(discordId, savedUser.getName());
         return savedUser;
     }
 
-    private void registerDiscordVerificationNotification(String discordId, String studentName) {
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            log.warn("[linkDiscordId] No active transaction synchronization — calling notifyVerified immediately");
-            discordBotClient.notifyVerified(discordId, studentName);
-            return;
-        }
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                log.info("[linkDiscordId] afterCommit: notifying Discord for {}", discordId);
-                discordBotClient.notifyVerified(discordId, studentName);
-            }
-        });
-    }
-
     private User findOrCreateUser(BsmUserInfo userInfo) {
         Optional<User> byProviderAndId = userRepository.findByOauthProviderAndOauthId(PROVIDER, userInfo.oauthId());
         if (byProviderAndId.isPresent()) {
@@ -96,7 +81,9 @@ public class BsmLoginService {
                     userInfo.classNo(),
                     userInfo.studentNo()
             );
-            return userRepository.save(existingUser);
+            User savedUser = userRepository.save(existingUser);
+            eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
+            return savedUser;
         }
 
         // 이메일은 unique 이므로, 다른 provider 계정과 자동으로 연결하지 않습니다.
@@ -1,11 +1,9 @@
 package com.eod.eod.domain.auth.application;
 
-import com.eod.eod.domain.auth.infrastructure.DiscordOAuthStateRepository;
-import com.eod.eod.domain.auth.model.DiscordOAuthState;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -17,35 +15,32 @@ public class DiscordOAuthStateService {
 
     private static final long STATE_TTL_MINUTES = 10L;
 
-    private final DiscordOAuthStateRepository discordOAuthStateRepository;
+    @Qualifier("discordOAuthStateStore")
+    private final ShortLivedSecretStore<String> discordOAuthStateStore;
 
-    @Transactional
     public void save(String state, String discordId) {
+        // 만료된 state 정리는 저장소(인메모리 만료 큐 / ExpiredAuthRowPurgeScheduler)가 담당
         LocalDateTime now = LocalDateTime.now();
-        discordOAuthStateRepository.deleteByExpiresAtBefore(now);
-        discordOAuthStateRepository.save(new DiscordOAuthState(state, discordId, now.plusMinutes(STATE_TTL_MINUTES)));
+        discordOAuthStateStore.save(state, discordId, now.plusMinutes(STATE_TTL_MINUTES));
     }
 
-    @Transactional
     public Optional<String> consumeDiscordId(String state) {
         if (state == null || state.isBlank()) {
             return Optional.empty();
         }
 
-        Optional<DiscordOAuthState> savedState = discordOAuthStateRepository.findById(state);
+        Optional<ShortLivedSecret<String>> savedState = discordOAuthStateStore.consume(state);
         if (savedState.isEmpty()) {
             return Optional.empty();
         }
 
-        DiscordOAuthState discordOAuthState = savedState.get();
-        discordOAuthStateRepository.delete(discordOAuthState);
-
+        ShortLivedSecret<String> discordOAuthState = savedState.get();
         if (discordOAuthState.isExpired(LocalDateTime.now())) {
             log.warn("Discord OAuth state 만료됨 (discordId={}). Discord 연결 없이 로그인 진행됩니다.",
-                    discordOAuthState.getDiscordId());
+                    discordOAuthState.value());
             return Optional.empty();
         }
 
-        return Optional.of(discordOAuthState.getDiscordId());
+        return Optional.of(discordOAuthState.value());
     }
 }
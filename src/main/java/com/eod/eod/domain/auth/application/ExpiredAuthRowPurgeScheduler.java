@@ -0,0 +1,120 @@
+package com.eod.eod.domain.auth.application;
+
+import com.eod.eod.common.annotation.SchedulerLock;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.auth.infrastructure.DiscordOAuthStateRepository;
+import com.eod.eod.domain.auth.infrastructure.MobileAuthTokenRepository;
+import com.eod.eod.domain.auth.infrastructure.MobileOAuthStateRepository;
+import com.eod.eod.domain.auth.infrastructure.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 만료된 인증/상태 행 정리 스케줄러
+ *
+ * refresh_tokens, mobile_auth_tokens, discord_oauth_states, mobile_oauth_states 테이블에서
+ * 만료된 행을 배치 크기만큼씩 별도 트랜잭션으로 삭제하여 긴 락을 잡지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class ExpiredAuthRowPurgeScheduler {
+
+    private static final String METRIC_TASK_NAME = "purge_expired_auth_rows";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MobileAuthTokenRepository mobileAuthTokenRepository;
+    private final DiscordOAuthStateRepository discordOAuthStateRepository;
+    private final MobileOAuthStateRepository mobileOAuthStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxBatchesPerTable;
+
+    public ExpiredAuthRowPurgeScheduler(RefreshTokenRepository refreshTokenRepository,
+                                        MobileAuthTokenRepository mobileAuthTokenRepository,
+                                        DiscordOAuthStateRepository discordOAuthStateRepository,
+                                        MobileOAuthStateRepository mobileOAuthStateRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${auth.purge.batch-size:500}") int batchSize,
+                                        @Value("${auth.purge.max-batches-per-table:100}") int maxBatchesPerTable) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.mobileAuthTokenRepository = mobileAuthTokenRepository;
+        this.discordOAuthStateRepository = discordOAuthStateRepository;
+        this.mobileOAuthStateRepository = mobileOAuthStateRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxBatchesPerTable = maxBatchesPerTable;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.purge.interval-ms:600000}",
+            initialDelayString = "${auth.purge.interval-ms:600000}")
+    @SchedulerLock(name = "purge_expired_auth_rows", lockAtMostFor = "PT10M", lockAtLeastFor = "PT30S")
+    public void purgeExpiredRows() {
+        LocalDateTime now = LocalDateTime.now();
+        long startedAt = System.nanoTime();
+        int purged = 0;
+        String result = "success";
+
+        try {
+            purged += purge("refresh_tokens", now, refreshTokenRepository,
+                    refreshTokenRepository::findExpiredIds);
+            purged += purge("mobile_auth_tokens", now, mobileAuthTokenRepository,
+                    mobileAuthTokenRepository::findExpiredIds);
+            purged += purge("discord_oauth_states", now, discordOAuthStateRepository,
+                    discordOAuthStateRepository::findExpiredIds);
+            purged += purge("mobile_oauth_states", now, mobileOAuthStateRepository,
+                    mobileOAuthStateRepository::findExpiredIds);
+        } catch (Exception e) {
+            result = "failure";
+            log.error("만료 인증 데이터 정리 중 오류 발생: {}", e.getMessage(), e);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        eventPublisher.publishEvent(new EodSchedulerRunEvent(METRIC_TASK_NAME, result, purged, duration));
+        log.info("만료 인증 데이터 정리 완료 - 총 {}건 삭제, {}ms", purged, duration.toMillis());
+    }
+
+    /**
+     * 한 테이블의 만료 행을 배치 단위로 삭제 (배치마다 트랜잭션을 나누고, 한 번 실행에 최대 배치 수를 제한)
+     */
+    private <ID> int purge(String table, LocalDateTime threshold, JpaRepository<?, ID> repository,
+                           BiFunction<LocalDateTime, Pageable, List<ID>> expiredIdsFinder) {
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        int purged = 0;
+
+        for (int batch = 0; batch < maxBatchesPerTable; batch++) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<ID> ids = expiredIdsFinder.apply(threshold, firstBatch);
+                if (!ids.isEmpty()) {
+                    repository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+
+            int deletedCount = deleted != null ? deleted : 0;
+            purged += deletedCount;
+            if (deletedCount < batchSize) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("{} 만료 행 {}건 삭제", table, purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,9 @@
+package com.eod.eod.domain.auth.application;
+
+import com.eod.eod.domain.user.model.User;
+
+/**
+ * 모바일 일회용 토큰으로 교환해 줄 Access/Refresh 토큰 묶음
+ */
+public record MobileAuthGrant(User user, String accessToken, String refreshToken) {
+}
@@ -1,11 +1,9 @@
 package com.eod.eod.domain.auth.application;
 
-import com.eod.eod.domain.auth.infrastructure.MobileAuthTokenRepository;
-import com.eod.eod.domain.auth.model.MobileAuthToken;
 import com.eod.eod.domain.user.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
@@ -13,36 +11,33 @@ import java.util.Base64;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class MobileAuthTokenService {
 
     private static final long ONE_TIME_TOKEN_TTL_MINUTES = 5;
 
-    private final MobileAuthTokenRepository mobileAuthTokenRepository;
+    @Qualifier("mobileAuthTokenStore")
+    private final ShortLivedSecretStore<MobileAuthGrant> mobileAuthTokenStore;
     private final SecureRandom secureRandom = new SecureRandom();
 
     public String create(User user, String accessToken, String refreshToken) {
         String oneTimeToken = generateToken();
-        mobileAuthTokenRepository.save(new MobileAuthToken(
+        mobileAuthTokenStore.save(
                 oneTimeToken,
-                user,
-                accessToken,
-                refreshToken,
+                new MobileAuthGrant(user, accessToken, refreshToken),
                 LocalDateTime.now().plusMinutes(ONE_TIME_TOKEN_TTL_MINUTES)
-        ));
+        );
         return oneTimeToken;
     }
 
-    public MobileAuthToken consume(String oneTimeToken) {
-        MobileAuthToken token = mobileAuthTokenRepository.findByOneTimeToken(oneTimeToken)
+    public MobileAuthGrant consume(String oneTimeToken) {
+        ShortLivedSecret<MobileAuthGrant> token = mobileAuthTokenStore.consume(oneTimeToken)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 oneTimeToken입니다."));
 
-        if (!token.isConsumable()) {
+        if (token.isExpired(LocalDateTime.now())) {
             throw new IllegalArgumentException("만료되었거나 이미 사용된 oneTimeToken입니다.");
         }
 
-        token.consume();
-        return token;
+        return token.value();
     }
 
     private String generateToken() {
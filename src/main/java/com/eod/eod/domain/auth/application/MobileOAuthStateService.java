@@ -1,11 +1,9 @@
 package com.eod.eod.domain.auth.application;
 
-import com.eod.eod.domain.auth.infrastructure.MobileOAuthStateRepository;
-import com.eod.eod.domain.auth.model.MobileOAuthState;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -14,23 +12,19 @@ import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class MobileOAuthStateService {
 
     private static final long STATE_TTL_MINUTES = 5;
 
-    private final MobileOAuthStateRepository mobileOAuthStateRepository;
+    @Qualifier("mobileOAuthStateStore")
+    private final ShortLivedSecretStore<String> mobileOAuthStateStore;
 
     @Value("${mobile.oauth.allowed-redirect-uris:eodi://auth/callback,eodi-dev://auth/callback}")
     private String allowedRedirectUris;
 
     public void save(String state, String redirectUri) {
         validateRedirectUri(redirectUri);
-        mobileOAuthStateRepository.save(new MobileOAuthState(
-                state,
-                redirectUri,
-                LocalDateTime.now().plusMinutes(STATE_TTL_MINUTES)
-        ));
+        mobileOAuthStateStore.save(state, redirectUri, LocalDateTime.now().plusMinutes(STATE_TTL_MINUTES));
     }
 
     public Optional<String> consumeRedirectUri(String state) {
@@ -38,13 +32,12 @@ public class MobileOAuthStateService {
             return Optional.empty();
         }
 
-        return mobileOAuthStateRepository.findById(state)
+        return mobileOAuthStateStore.consume(state)
                 .map(savedState -> {
-                    mobileOAuthStateRepository.delete(savedState);
-                    if (savedState.isExpired()) {
+                    if (savedState.isExpired(LocalDateTime.now())) {
                         throw new IllegalArgumentException("만료된 모바일 OAuth state입니다.");
                     }
-                    return savedState.getRedirectUri();
+                    return savedState.value();
                 });
     }
 
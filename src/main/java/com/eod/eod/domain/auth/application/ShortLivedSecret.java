@@ -0,0 +1,10 @@
+package com.eod.eod.domain.auth.application;
+
+import java.time.LocalDateTime;
+
+public record ShortLivedSecret<V>(V value, LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,21 @@
+package com.eod.eod.domain.auth.application;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 짧은 수명(수 분)의 로그인 보조 비밀값 저장소
+ *
+ * OAuth state, 모바일 일회용 토큰처럼 한 번 쓰고 버리는 값을 저장합니다.
+ * auth.secret-store.type 설정으로 인메모리(단일 노드) 또는 JPA(다중 노드) 구현을 선택합니다.
+ */
+public interface ShortLivedSecretStore<V> {
+
+    void save(String key, V value, LocalDateTime expiresAt);
+
+    /**
+     * 저장된 값을 한 번만 꺼내고 제거
+     * 만료 여부 판단은 호출 측에서 하도록 만료 시각과 함께 반환합니다.
+     */
+    Optional<ShortLivedSecret<V>> consume(String key);
+}
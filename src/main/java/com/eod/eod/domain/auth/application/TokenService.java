@@ -1,9 +1,12 @@
 package com.eod.eod.domain.auth.application;
 
 import com.eod.eod.common.jwt.JwtTokenProvider;
+import com.eod.eod.common.jwt.VerifiedToken;
+import com.eod.eod.common.util.TokenDigest;
 import com.eod.eod.domain.auth.infrastructure.RefreshTokenRepository;
 import com.eod.eod.domain.auth.model.RefreshToken;
 import com.eod.eod.domain.user.model.User;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,18 +44,24 @@ public class TokenService {
 
     // Refresh Token 검증
     public void validateRefreshToken(String token) {
-        if (!jwtTokenProvider.validateToken(token)) {
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtTokenProvider.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new IllegalArgumentException("유효하지 않은 Refresh Token입니다.");
         }
 
-        if (!"refresh".equals(jwtTokenProvider.getTokenType(token))) {
+        if (!verifiedToken.isRefreshToken()) {
             throw new IllegalArgumentException("Refresh Token이 아닙니다.");
         }
     }
 
     // DB에서 Refresh Token 조회
     public RefreshToken findRefreshToken(String token) {
-        RefreshToken storedToken = refreshTokenRepository.findByToken(token)
+        // 고정 길이 다이제스트 인덱스로 조회하고, 백필 전에 저장된 행은 원문으로 한 번 더 확인
+        // (재발급 시 기존 행을 지우고 다이제스트와 함께 새로 저장하므로 원문 조회는 행마다 한 번뿐)
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(TokenDigest.sha256(token))
+                .or(() -> refreshTokenRepository.findByTokenHashIsNullAndToken(token))
                 .orElseThrow(() -> new IllegalArgumentException("저장된 Refresh Token을 찾을 수 없습니다."));
 
         if (storedToken.isExpired()) {
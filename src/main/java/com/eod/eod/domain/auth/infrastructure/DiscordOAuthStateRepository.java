@@ -1,11 +1,17 @@
 package com.eod.eod.domain.auth.infrastructure;
 
 import com.eod.eod.domain.auth.model.DiscordOAuthState;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface DiscordOAuthStateRepository extends JpaRepository<DiscordOAuthState, String> {
 
-    void deleteByExpiresAtBefore(LocalDateTime threshold);
+    // 만료된 state를 청크 단위로 조회 (정리 작업용)
+    @Query("select s.state from DiscordOAuthState s where s.expiresAt < :threshold order by s.state")
+    List<String> findExpiredIds(@Param("threshold") LocalDateTime threshold, Pageable pageable);
 }
@@ -0,0 +1,82 @@
+package com.eod.eod.domain.auth.infrastructure;
+
+import com.eod.eod.domain.auth.application.ShortLivedSecret;
+import com.eod.eod.domain.auth.application.ShortLivedSecretStore;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 노드용 인메모리 저장소
+ *
+ * ConcurrentHashMap.remove로 한 번만 꺼낼 수 있음을 보장하고,
+ * 만료된 항목은 DelayQueue에 쌓아 두었다가 저장 시점마다 정리합니다.
+ */
+public class InMemoryShortLivedSecretStore<V> implements ShortLivedSecretStore<V> {
+
+    private final Map<String, ShortLivedSecret<V>> secrets = new ConcurrentHashMap<>();
+    private final DelayQueue<Expiration> expirations = new DelayQueue<>();
+    private final Clock clock;
+
+    public InMemoryShortLivedSecretStore() {
+        this(Clock.systemDefaultZone());
+    }
+
+    InMemoryShortLivedSecretStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(String key, V value, LocalDateTime expiresAt) {
+        purgeExpired();
+        ShortLivedSecret<V> secret = new ShortLivedSecret<>(value, expiresAt);
+        secrets.put(key, secret);
+        expirations.offer(new Expiration(key, secret, toEpochMillis(expiresAt), clock));
+    }
+
+    @Override
+    public Optional<ShortLivedSecret<V>> consume(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(secrets.remove(key));
+    }
+
+    int size() {
+        return secrets.size();
+    }
+
+    void purgeExpired() {
+        Expiration expired;
+        while ((expired = expirations.poll()) != null) {
+            // 같은 키로 다시 저장된 값은 지우지 않도록 값까지 비교
+            secrets.remove(expired.key(), expired.secret());
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        ZoneId zone = clock.getZone();
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private record Expiration(String key, ShortLivedSecret<?> secret, long expiresAtMillis, Clock clock)
+            implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - clock.millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
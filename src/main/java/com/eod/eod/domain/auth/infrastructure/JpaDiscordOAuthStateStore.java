@@ -0,0 +1,35 @@
+package com.eod.eod.domain.auth.infrastructure;
+
+import com.eod.eod.domain.auth.application.ShortLivedSecret;
+import com.eod.eod.domain.auth.application.ShortLivedSecretStore;
+import com.eod.eod.domain.auth.model.DiscordOAuthState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 다중 노드용 Discord OAuth state 저장소 (discord_oauth_states 테이블)
+ */
+@RequiredArgsConstructor
+public class JpaDiscordOAuthStateStore implements ShortLivedSecretStore<String> {
+
+    private final DiscordOAuthStateRepository discordOAuthStateRepository;
+
+    @Override
+    @Transactional
+    public void save(String key, String discordId, LocalDateTime expiresAt) {
+        discordOAuthStateRepository.save(new DiscordOAuthState(key, discordId, expiresAt));
+    }
+
+    @Override
+    @Transactional
+    public Optional<ShortLivedSecret<String>> consume(String key) {
+        return discordOAuthStateRepository.findById(key)
+                .map(savedState -> {
+                    discordOAuthStateRepository.delete(savedState);
+                    return new ShortLivedSecret<>(savedState.getDiscordId(), savedState.getExpiresAt());
+                });
+    }
+}
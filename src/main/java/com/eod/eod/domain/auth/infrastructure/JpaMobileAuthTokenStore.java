@@ -0,0 +1,46 @@
+package com.eod.eod.domain.auth.infrastructure;
+
+import com.eod.eod.common.util.TokenDigest;
+import com.eod.eod.domain.auth.application.MobileAuthGrant;
+import com.eod.eod.domain.auth.application.ShortLivedSecret;
+import com.eod.eod.domain.auth.application.ShortLivedSecretStore;
+import com.eod.eod.domain.auth.model.MobileAuthToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 다중 노드용 모바일 일회용 토큰 저장소 (mobile_auth_tokens 테이블)
+ * 행은 바로 지우지 않고 사용 처리만 하며, 만료 후 정리 스케줄러가 삭제합니다.
+ */
+@RequiredArgsConstructor
+public class JpaMobileAuthTokenStore implements ShortLivedSecretStore<MobileAuthGrant> {
+
+    private final MobileAuthTokenRepository mobileAuthTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(String key, MobileAuthGrant grant, LocalDateTime expiresAt) {
+        mobileAuthTokenRepository.save(new MobileAuthToken(
+                key,
+                grant.user(),
+                grant.accessToken(),
+                grant.refreshToken(),
+                expiresAt
+        ));
+    }
+
+    @Override
+    @Transactional
+    public Optional<ShortLivedSecret<MobileAuthGrant>> consume(String key) {
+        return mobileAuthTokenRepository.findByOneTimeTokenHash(TokenDigest.sha256(key))
+                .filter(token -> token.getConsumedAt() == null)
+                .map(token -> {
+                    token.consume();
+                    MobileAuthGrant grant = new MobileAuthGrant(token.getUser(), token.getAccessToken(), token.getRefreshToken());
+                    return new ShortLivedSecret<>(grant, token.getExpiresAt());
+                });
+    }
+}
@@ -0,0 +1,35 @@
+package com.eod.eod.domain.auth.infrastructure;
+
+import com.eod.eod.domain.auth.application.ShortLivedSecret;
+import com.eod.eod.domain.auth.application.ShortLivedSecretStore;
+import com.eod.eod.domain.auth.model.MobileOAuthState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 다중 노드용 모바일 OAuth state 저장소 (mobile_oauth_states 테이블)
+ */
+@RequiredArgsConstructor
+public class JpaMobileOAuthStateStore implements ShortLivedSecretStore<String> {
+
+    private final MobileOAuthStateRepository mobileOAuthStateRepository;
+
+    @Override
+    @Transactional
+    public void save(String key, String redirectUri, LocalDateTime expiresAt) {
+        mobileOAuthStateRepository.save(new MobileOAuthState(key, redirectUri, expiresAt));
+    }
+
+    @Override
+    @Transactional
+    public Optional<ShortLivedSecret<String>> consume(String key) {
+        return mobileOAuthStateRepository.findById(key)
+                .map(savedState -> {
+                    mobileOAuthStateRepository.delete(savedState);
+                    return new ShortLivedSecret<>(savedState.getRedirectUri(), savedState.getExpiresAt());
+                });
+    }
+}
@@ -1,10 +1,24 @@
 package com.eod.eod.domain.auth.infrastructure;
 
 import com.eod.eod.domain.auth.model.MobileAuthToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MobileAuthTokenRepository extends JpaRepository<MobileAuthToken, Long> {
-    Optional<MobileAuthToken> findByOneTimeToken(String oneTimeToken);
+    Optional<MobileAuthToken> findByOneTimeTokenHash(String oneTimeTokenHash);
+
+    // 만료된 일회용 토큰 ID를 청크 단위로 조회 (정리 작업용)
+    @Query("select t.id from MobileAuthToken t where t.expiresAt < :threshold order by t.id")
+    List<Long> findExpiredIds(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // 다이제스트가 없는 일회용 토큰 ID를 ID 키셋으로 청크 조회 (다이제스트 백필용)
+    @Query("select t.id from MobileAuthToken t where (t.oneTimeTokenHash is null or t.refreshTokenHash is null)"
+            + " and t.id > :afterId order by t.id")
+    List<Long> findIdsWithoutTokenHash(@Param("afterId") Long afterId, Pageable pageable);
 }
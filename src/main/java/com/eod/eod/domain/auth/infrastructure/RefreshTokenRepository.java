@@ -2,12 +2,28 @@ package com.eod.eod.domain.auth.infrastructure;
 
 import com.eod.eod.domain.auth.model.RefreshToken;
 import com.eod.eod.domain.user.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 다이제스트 도입 전에 저장된 토큰 조회 (token_hash가 NULL인 행만 원문으로 비교)
+    Optional<RefreshToken> findByTokenHashIsNullAndToken(String token);
     Optional<RefreshToken> findByUser(User user);
     void deleteByUser(User user);
+
+    // 만료된 토큰 ID를 청크 단위로 조회 (정리 작업용)
+    @Query("select r.id from RefreshToken r where r.expiresAt < :threshold order by r.id")
+    List<Long> findExpiredIds(@Param("threshold") LocalDateTime threshold, Pageable pageable);
+
+    // 다이제스트가 없는 토큰 ID를 ID 키셋으로 청크 조회 (다이제스트 백필용)
+    @Query("select r.id from RefreshToken r where r.tokenHash is null and r.id > :afterId order by r.id")
+    List<Long> findIdsWithoutTokenHash(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.eod.eod.domain.auth.model;
 
+import com.eod.eod.common.util.TokenDigest;
 import com.eod.eod.domain.user.model.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,7 +19,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "mobile_auth_tokens")
+@Table(name = "mobile_auth_tokens", indexes = {
+        @Index(name = "uk_mobile_auth_tokens_one_time_token_hash", columnList = "one_time_token_hash", unique = true),
+        @Index(name = "idx_mobile_auth_tokens_refresh_token_hash", columnList = "refresh_token_hash"),
+        @Index(name = "idx_mobile_auth_tokens_expires_at", columnList = "expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MobileAuthToken {
@@ -26,9 +32,13 @@ public class MobileAuthToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "one_time_token", nullable = false, unique = true, length = 128)
+    @Column(name = "one_time_token", nullable = false, length = 128)
     private String oneTimeToken;
 
+    // 교환 시 조회용 SHA-256 다이제스트
+    @Column(name = "one_time_token_hash", length = TokenDigest.LENGTH)
+    private String oneTimeTokenHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,6 +49,10 @@ public class MobileAuthToken {
     @Column(name = "refresh_token", nullable = false, columnDefinition = "TEXT")
     private String refreshToken;
 
+    // 발급한 Refresh Token 추적용 SHA-256 다이제스트 (TEXT 원문으로는 조회하지 않음)
+    @Column(name = "refresh_token_hash", length = TokenDigest.LENGTH)
+    private String refreshTokenHash;
+
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
@@ -47,12 +61,24 @@ public class MobileAuthToken {
 
     public MobileAuthToken(String oneTimeToken, User user, String accessToken, String refreshToken, LocalDateTime expiresAt) {
         this.oneTimeToken = oneTimeToken;
+        this.oneTimeTokenHash = TokenDigest.sha256(oneTimeToken);
         this.user = user;
         this.accessToken = accessToken;
         this.refreshToken = refreshToken;
+        this.refreshTokenHash = TokenDigest.sha256(refreshToken);
         this.expiresAt = expiresAt;
     }
 
+    // 다이제스트 도입 전에 저장된 행의 다이제스트 채우기
+    public void backfillTokenHashes() {
+        if (this.oneTimeTokenHash == null) {
+            this.oneTimeTokenHash = TokenDigest.sha256(this.oneTimeToken);
+        }
+        if (this.refreshTokenHash == null) {
+            this.refreshTokenHash = TokenDigest.sha256(this.refreshToken);
+        }
+    }
+
     public boolean isConsumable() {
         return consumedAt == null && LocalDateTime.now().isBefore(expiresAt);
     }
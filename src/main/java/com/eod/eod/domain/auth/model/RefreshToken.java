@@ -1,5 +1,6 @@
 package com.eod.eod.domain.auth.model;
 
+import com.eod.eod.common.util.TokenDigest;
 import com.eod.eod.domain.user.model.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,7 +11,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "uk_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
@@ -23,9 +27,13 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(name = "token", nullable = false, unique = true, columnDefinition = "TEXT")
+    @Column(name = "token", nullable = false, columnDefinition = "TEXT")
     private String token;
 
+    // 조회/중복 검사용 SHA-256 다이제스트 (TEXT 컬럼 대신 고정 길이 인덱스 사용)
+    @Column(name = "token_hash", length = TokenDigest.LENGTH)
+    private String tokenHash;
+
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
@@ -36,6 +44,7 @@ public class RefreshToken {
     public RefreshToken(User user, String token, LocalDateTime expiresAt) {
         this.user = user;
         this.token = token;
+        this.tokenHash = TokenDigest.sha256(token);
         this.expiresAt = expiresAt;
         this.createdAt = LocalDateTime.now();
     }
@@ -45,9 +54,17 @@ public class RefreshToken {
         return LocalDateTime.now().isAfter(this.expiresAt);
     }
 
+    // 다이제스트 도입 전에 저장된 행의 다이제스트 채우기
+    public void backfillTokenHash() {
+        if (this.tokenHash == null) {
+            this.tokenHash = TokenDigest.sha256(this.token);
+        }
+    }
+
     // 토큰 갱신
     public void updateToken(String newToken, LocalDateTime newExpiresAt) {
         this.token = newToken;
+        this.tokenHash = TokenDigest.sha256(newToken);
         this.expiresAt = newExpiresAt;
     }
 }
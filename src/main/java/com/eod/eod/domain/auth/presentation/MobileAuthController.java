@@ -3,9 +3,9 @@ package com.eod.eod.domain.auth.presentation;
 import com.eod.eod.common.util.CookieUtil;
 import com.eod.eod.domain.auth.application.AuthService;
 import com.eod.eod.domain.auth.application.BsmOAuthService;
+import com.eod.eod.domain.auth.application.MobileAuthGrant;
 import com.eod.eod.domain.auth.application.MobileAuthTokenService;
 import com.eod.eod.domain.auth.application.MobileOAuthStateService;
-import com.eod.eod.domain.auth.model.MobileAuthToken;
 import com.eod.eod.domain.auth.presentation.dto.request.MobileRefreshRequest;
 import com.eod.eod.domain.auth.presentation.dto.request.MobileTokenExchangeRequest;
 import com.eod.eod.domain.auth.presentation.dto.response.AuthUserResponse;
@@ -68,11 +68,11 @@ public class MobileAuthController {
     public ResponseEntity<MobileTokenResponse> exchangeMobileToken(
             @Valid @RequestBody MobileTokenExchangeRequest request
     ) {
-        MobileAuthToken token = mobileAuthTokenService.consume(request.oneTimeToken());
+        MobileAuthGrant grant = mobileAuthTokenService.consume(request.oneTimeToken());
         return ResponseEntity.ok(MobileTokenResponse.of(
-                token.getAccessToken(),
-                token.getRefreshToken(),
-                token.getUser()
+                grant.accessToken(),
+                grant.refreshToken(),
+                grant.user()
         ));
     }
 
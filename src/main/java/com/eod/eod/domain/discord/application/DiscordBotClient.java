@@ -1,84 +1,94 @@
 package com.eod.eod.domain.discord.application;
 
 import com.eod.eod.domain.discord.config.DiscordBotProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class DiscordBotClient {
 
-    private static final String DISCORD_API_BASE = "https://discord.com/api/v10";
-
-    private final WebClient webClient;
     private final DiscordBotProperties properties;
-
-    public DiscordBotClient(DiscordBotProperties properties, WebClient.Builder builder) {
-        this.properties = properties;
-        this.webClient = builder
-                .baseUrl(DISCORD_API_BASE)
-                .defaultHeader("Authorization", "Bot " + properties.getToken())
-                .build();
-    }
+    private final DiscordRequestDispatcher dispatcher;
+    private final DiscordDmChannelCache dmChannelCache;
 
     /**
-     * 인증 완료 후 Discord 역할 부여 + DM 발송 (비동기 fire-and-forget)
+     * 인증 완료 후 Discord 역할 부여 + DM 발송
+     * 역할 부여(PUT)는 멱등이므로 DM 발송이 실패해 다시 시도해도 안전합니다.
      */
-    public void notifyVerified(String discordUserId, String studentName) {
+    public Mono<Void> sendVerified(String discordUserId, String studentName) {
         if (!properties.isConfigured()) {
             log.warn("Discord bot not configured (token/guild/role 중 하나 비어있음), skipping notification for {}", discordUserId);
-            return;
+            return Mono.empty();
         }
 
-        grantRole(discordUserId)
+        return grantRole(discordUserId)
                 .doOnSuccess(v -> log.info("Discord role granted to {}", discordUserId))
-                .doOnError(e -> log.warn("Failed to grant Discord role to {}: {}", discordUserId, e.getMessage()))
-                .onErrorResume(e -> Mono.empty())
-                .subscribe();
-
-        sendDm(discordUserId, buildDmMessage(studentName))
-                .doOnSuccess(v -> log.info("Discord DM sent to {}", discordUserId))
-                .doOnError(e -> log.warn("Failed to send Discord DM to {}: {}", discordUserId, e.getMessage()))
-                .onErrorResume(e -> Mono.empty())
-                .subscribe();
+                .then(sendDm(discordUserId, buildDmMessage(studentName)))
+                .doOnSuccess(v -> log.info("Discord DM sent to {}", discordUserId));
     }
 
     private Mono<Void> grantRole(String discordUserId) {
-        return webClient.put()
-                .uri("/guilds/{guildId}/members/{userId}/roles/{roleId}",
-                        properties.getGuildId(), discordUserId, properties.getVerifiedRoleId())
-                .retrieve()
-                .toBodilessEntity()
+        return dispatcher.submit(DiscordRequest.of("grant_role", HttpMethod.PUT,
+                        "/guilds/{guildId}/members/{userId}/roles/{roleId}", null,
+                        properties.getGuildId(), discordUserId, properties.getVerifiedRoleId()))
                 .then();
     }
 
+    /**
+     * 캐시된 DM 채널로 바로 발송하고, 캐시에 없거나 채널이 사라졌으면(404) 채널을 새로 만들어 발송
+     * 캐시 조회/저장은 JPA 호출이므로 이벤트 루프가 아닌 boundedElastic 스레드에서 실행합니다.
+     */
     private Mono<Void> sendDm(String discordUserId, String message) {
+        return Mono.fromCallable(() -> dmChannelCache.find(discordUserId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached
+                        .map(channelId -> sendMessage(channelId, message)
+                                .onErrorResume(DiscordBotClient::isUnknownChannel, e -> {
+                                    log.info("Cached Discord DM channel for {} is gone, recreating", discordUserId);
+                                    return Mono.fromRunnable(() -> dmChannelCache.evict(discordUserId))
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .then(createDmChannelAndSend(discordUserId, message));
+                                }))
+                        .orElseGet(() -> createDmChannelAndSend(discordUserId, message)));
+    }
+
+    private Mono<Void> createDmChannelAndSend(String discordUserId, String message) {
         return createDmChannel(discordUserId)
-                .flatMap(channelId -> sendMessage(channelId, message));
+                .flatMap(channelId -> Mono.fromRunnable(() -> dmChannelCache.save(discordUserId, channelId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then(sendMessage(channelId, message)));
+    }
+
+    private static boolean isUnknownChannel(Throwable e) {
+        return e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().value() == HttpStatus.NOT_FOUND.value();
     }
 
     private Mono<String> createDmChannel(String discordUserId) {
-        return webClient.post()
-                .uri("/users/@me/channels")
-                .bodyValue(Map.of("recipient_id", discordUserId))
-                .retrieve()
-                .bodyToMono(Map.class)
+        return dispatcher.submit(DiscordRequest.of("create_dm", HttpMethod.POST,
+                        "/users/@me/channels", Map.of("recipient_id", discordUserId)))
                 .map(body -> (String) body.get("id"));
     }
 
     private Mono<Void> sendMessage(String channelId, String message) {
-        return webClient.post()
-                .uri("/channels/{channelId}/messages", channelId)
-                .bodyValue(Map.of("content", message))
-                .retrieve()
-                .toBodilessEntity()
+        return dispatcher.submit(DiscordRequest.of("send_message", HttpMethod.POST,
+                        "/channels/{channelId}/messages", Map.of("content", message), channelId))
                 .then();
     }
 
@@ -91,10 +101,10 @@ public class DiscordBotClient {
     /**
      * 소유권 주장 승인 알림 (DM 만)
      */
-    public void notifyClaimApproved(String discordUserId, String itemName, LocalDate visitDate) {
+    public Mono<Void> sendClaimApproved(String discordUserId, String itemName, LocalDate visitDate) {
         if (!properties.isTokenConfigured()) {
             log.warn("Discord bot token 미설정, claim approval DM 스킵 (discordId={})", discordUserId);
-            return;
+            return Mono.empty();
         }
         String visitSchedule = visitDate != null
                 ? visitDate.format(DateTimeFormatter.ISO_LOCAL_DATE) + " 13:30"
@@ -102,34 +112,30 @@ public class DiscordBotClient {
         String message = "✅ **소유권 주장 승인**\n" +
                 "**" + safe(itemName) + "**에 대한 소유권 주장이 승인되었습니다.\n" +
                 "방문 예정 시각은 **" + visitSchedule + "** 입니다.";
-        sendDmFireAndForget(discordUserId, message, "claim approval");
+        return sendDm(discordUserId, message);
     }
 
     /**
      * 소유권 주장 거절 알림 (DM 만)
      */
-    public void notifyClaimRejected(String discordUserId, String itemName) {
+    public Mono<Void> sendClaimRejected(String discordUserId, String itemName) {
         if (!properties.isTokenConfigured()) {
             log.warn("Discord bot token 미설정, claim rejection DM 스킵 (discordId={})", discordUserId);
-            return;
+            return Mono.empty();
         }
         String message = "❌ **소유권 주장 거절**\n" +
                 "**" + safe(itemName) + "**에 대한 소유권 주장이 거절되었습니다.";
-        sendDmFireAndForget(discordUserId, message, "claim rejection");
+        return sendDm(discordUserId, message);
     }
 
     /**
-     * 스태프(2명)에게 승인된 픽업 일정 DM 발송
+     * 스태프 한 명에게 승인된 픽업 일정 DM 발송
      */
-    public void notifyStaffPickupScheduled(Integer studentCode, String studentName, LocalDate visitDate, String itemName) {
+    public Mono<Void> sendStaffPickupScheduled(String staffDiscordId, Integer studentCode, String studentName,
+                                               LocalDate visitDate, String itemName) {
         if (!properties.isTokenConfigured()) {
             log.warn("Discord bot token 미설정, staff pickup notification 스킵");
-            return;
-        }
-        java.util.List<String> staffIds = properties.getActiveStaffNotificationIds();
-        if (staffIds.isEmpty()) {
-            log.warn("Discord staff notification IDs 미설정, staff pickup notification 스킵");
-            return;
+            return Mono.empty();
         }
         String visitDateStr = visitDate != null
                 ? visitDate.format(DateTimeFormatter.ISO_LOCAL_DATE)
@@ -139,33 +145,59 @@ public class DiscordBotClient {
         String message = "📦 **픽업 예정 알림**\n" +
                 "**" + studentCodeStr + " " + safeName + "** 학생이 **" +
                 visitDateStr + " 13:30**에 **" + safe(itemName) + "**을(를) 찾으러 옵니다.";
-        for (String staffId : staffIds) {
-            sendDmFireAndForget(staffId, message, "staff pickup notification");
+        return sendDm(staffDiscordId, message);
+    }
+
+    /**
+     * 스태프 한 명에게 여러 픽업 일정을 방문일별로 묶어 한 번에 발송 (한 건이면 단건 형식으로 발송)
+     */
+    public Mono<Void> sendStaffPickupDigest(String staffDiscordId, List<StaffPickup> pickups) {
+        if (pickups.size() == 1) {
+            StaffPickup pickup = pickups.get(0);
+            return sendStaffPickupScheduled(staffDiscordId, pickup.studentCode(), pickup.studentName(),
+                    pickup.visitDate(), pickup.itemName());
         }
+        if (!properties.isTokenConfigured()) {
+            log.warn("Discord bot token 미설정, staff pickup digest 스킵");
+            return Mono.empty();
+        }
+
+        Map<String, List<StaffPickup>> byVisitDate = pickups.stream()
+                .collect(Collectors.groupingBy(
+                        pickup -> pickup.visitDate() != null
+                                ? pickup.visitDate().format(DateTimeFormatter.ISO_LOCAL_DATE)
+                                : "방문일 미정",
+                        TreeMap::new,
+                        Collectors.toList()));
+
+        StringBuilder message = new StringBuilder("📦 **픽업 예정 알림 (" + pickups.size() + "건)**");
+        byVisitDate.forEach((visitDate, sameDay) -> {
+            message.append("\n**").append(visitDate).append(" 13:30**");
+            for (StaffPickup pickup : sameDay) {
+                String studentCodeStr = pickup.studentCode() != null ? pickup.studentCode().toString() : "학번 미등록";
+                String safeName = pickup.studentName() == null || pickup.studentName().isBlank()
+                        ? "이름 미등록" : pickup.studentName();
+                message.append("\n- ").append(studentCodeStr).append(" ").append(safeName)
+                        .append(" — ").append(safe(pickup.itemName()));
+            }
+        });
+        return sendDm(staffDiscordId, message.toString());
     }
 
     /**
      * 픽업 당일 아침 리마인더 (DM 만)
      */
-    public void notifyPickupReminder(String discordUserId, String itemName, LocalDateTime pickupTime) {
+    public Mono<Void> sendPickupReminder(String discordUserId, String itemName, LocalDateTime pickupTime) {
         if (!properties.isTokenConfigured()) {
             log.warn("Discord bot token 미설정, pickup reminder DM 스킵 (discordId={})", discordUserId);
-            return;
+            return Mono.empty();
         }
         String timeStr = pickupTime != null
                 ? pickupTime.format(DateTimeFormatter.ofPattern("HH:mm"))
                 : "예정된 시간";
         String message = "🔔 **오늘 픽업 예정**\n" +
                 "오늘 **" + timeStr + "**에 **" + safe(itemName) + "**를 찾으러 와주세요.";
-        sendDmFireAndForget(discordUserId, message, "pickup reminder");
-    }
-
-    private void sendDmFireAndForget(String discordUserId, String message, String purpose) {
-        sendDm(discordUserId, message)
-                .doOnSuccess(v -> log.info("Discord DM sent to {} ({})", discordUserId, purpose))
-                .doOnError(e -> log.warn("Failed to send Discord DM to {} ({}): {}", discordUserId, purpose, e.getMessage()))
-                .onErrorResume(e -> Mono.empty())
-                .subscribe();
+        return sendDm(discordUserId, message);
     }
 
     private String safe(String value) {
@@ -0,0 +1,76 @@
+package com.eod.eod.domain.discord.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.domain.discord.infrastructure.DiscordDmChannelRepository;
+import com.eod.eod.domain.discord.model.DiscordDmChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Discord DM 채널 ID 캐시
+ *
+ * DM 채널 ID는 사용자마다 고정이므로 메시지마다 채널을 새로 만들지 않도록 보관합니다.
+ * 메모리(LRU)에 없으면 discord_dm_channels 테이블에서 읽어 재시작 후에도 재사용합니다.
+ */
+@Component
+public class DiscordDmChannelCache {
+
+    private static final String CACHE_NAME = "discord_dm_channel";
+
+    private final DiscordDmChannelRepository dmChannelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, String> channels;
+
+    public DiscordDmChannelCache(DiscordDmChannelRepository dmChannelRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${discord.dm-channel-cache.max-size:10000}") int maxSize) {
+        this.dmChannelRepository = dmChannelRepository;
+        this.eventPublisher = eventPublisher;
+        this.channels = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * DM 채널 ID 조회 (메모리에 없으면 DB에서 읽어 메모리에 적재)
+     */
+    public Optional<String> find(String discordUserId) {
+        String cached = channels.get(discordUserId);
+        if (cached != null) {
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+            return Optional.of(cached);
+        }
+
+        eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "miss"));
+        Optional<String> stored = dmChannelRepository.findById(discordUserId)
+                .map(DiscordDmChannel::getChannelId);
+        stored.ifPresent(channelId -> channels.put(discordUserId, channelId));
+        return stored;
+    }
+
+    public void save(String discordUserId, String channelId) {
+        channels.put(discordUserId, channelId);
+        dmChannelRepository.save(new DiscordDmChannel(discordUserId, channelId));
+    }
+
+    /**
+     * 채널이 더 이상 유효하지 않을 때 메모리와 DB에서 모두 제거
+     */
+    public void evict(String discordUserId) {
+        channels.remove(discordUserId);
+        dmChannelRepository.deleteById(discordUserId);
+    }
+
+    int size() {
+        return channels.size();
+    }
+}
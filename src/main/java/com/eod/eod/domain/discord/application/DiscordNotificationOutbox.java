@@ -0,0 +1,89 @@
+package com.eod.eod.domain.discord.application;
+
+import com.eod.eod.domain.discord.config.DiscordBotProperties;
+import com.eod.eod.domain.discord.infrastructure.DiscordOutboxRepository;
+import com.eod.eod.domain.discord.model.DiscordOutboxMessage;
+import com.eod.eod.domain.discord.model.DiscordOutboxMessage.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Discord 알림 아웃박스 기록기
+ *
+ * 호출한 업무 트랜잭션에 참여해 알림을 discord_outbox에 저장합니다.
+ * 트랜잭션이 롤백되면 알림도 함께 사라지고, 실제 발송은 DiscordOutboxRelay가 담당합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class DiscordNotificationOutbox {
+
+    private final DiscordOutboxRepository outboxRepository;
+    private final DiscordBotProperties properties;
+
+    public void enqueueVerified(String discordUserId, String studentName) {
+        if (!hasText(discordUserId)) {
+            return;
+        }
+        outboxRepository.save(DiscordOutboxMessage.builder()
+                .type(NotificationType.VERIFIED)
+                .recipientDiscordId(discordUserId)
+                .studentName(studentName)
+                .build());
+    }
+
+    public void enqueueClaimApproved(String discordUserId, String itemName, LocalDate visitDate) {
+        if (!hasText(discordUserId)) {
+            return;
+        }
+        outboxRepository.save(DiscordOutboxMessage.builder()
+                .type(NotificationType.CLAIM_APPROVED)
+                .recipientDiscordId(discordUserId)
+                .itemName(itemName)
+                .visitDate(visitDate)
+                .build());
+    }
+
+    public void enqueueClaimRejected(String discordUserId, String itemName) {
+        if (!hasText(discordUserId)) {
+            return;
+        }
+        outboxRepository.save(DiscordOutboxMessage.builder()
+                .type(NotificationType.CLAIM_REJECTED)
+                .recipientDiscordId(discordUserId)
+                .itemName(itemName)
+                .build());
+    }
+
+    /**
+     * 스태프별로 한 행씩 저장하여 한 명에게 실패해도 다른 스태프에게 중복 발송되지 않도록 함
+     */
+    public void enqueueStaffPickupScheduled(Integer studentCode, String studentName, LocalDate visitDate, String itemName) {
+        List<String> staffIds = properties.getActiveStaffNotificationIds();
+        if (staffIds.isEmpty()) {
+            log.warn("Discord staff notification IDs 미설정, staff pickup notification 스킵");
+            return;
+        }
+        List<DiscordOutboxMessage> messages = staffIds.stream()
+                .map(staffId -> DiscordOutboxMessage.builder()
+                        .type(NotificationType.STAFF_PICKUP_SCHEDULED)
+                        .recipientDiscordId(staffId)
+                        .studentCode(studentCode)
+                        .studentName(studentName)
+                        .visitDate(visitDate)
+                        .itemName(itemName)
+                        .build())
+                .toList();
+        outboxRepository.saveAll(messages);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,251 @@
+package com.eod.eod.domain.discord.application;
+
+import com.eod.eod.common.annotation.SchedulerLock;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.discord.infrastructure.DiscordOutboxRepository;
+import com.eod.eod.domain.discord.model.DiscordOutboxMessage;
+import com.eod.eod.domain.discord.model.DiscordOutboxMessage.NotificationType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Discord 알림 아웃박스 릴레이
+ *
+ * 발송 시각이 된 알림을 배치로 읽어 동시 발송 수를 제한해 보내고,
+ * 결과를 한 트랜잭션에서 반영합니다(성공은 삭제, 실패는 백오프 후 재시도, 한도 초과는 DEAD).
+ * 프로세스가 중간에 내려가도 행이 남아 있으므로 다음 실행에서 다시 발송됩니다.
+ *
+ * 스태프 픽업 알림은 스태프별로 묶음 창(staff-digest.window) 동안 모았다가 방문일별 다이제스트 한 통으로 보내며,
+ * 모인 건수가 staff-digest.max-size에 닿거나 애플리케이션이 종료될 때는 창을 기다리지 않고 바로 보냅니다.
+ */
+@Slf4j
+@Component
+public class DiscordOutboxRelay {
+
+    private static final String METRIC_TASK_NAME = "discord_outbox_relay";
+    private static final int STAFF_DIGEST_FETCH_LIMIT = 500;
+
+    private final DiscordOutboxRepository outboxRepository;
+    private final DiscordBotClient discordBotClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration sendTimeout;
+    private final Duration staffDigestWindow;
+    private final int staffDigestMaxSize;
+
+    public DiscordOutboxRelay(DiscordOutboxRepository outboxRepository,
+                              DiscordBotClient discordBotClient,
+                              TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${discord.outbox.batch-size:50}") int batchSize,
+                              @Value("${discord.outbox.concurrency:4}") int concurrency,
+                              @Value("${discord.outbox.max-attempts:8}") int maxAttempts,
+                              @Value("${discord.outbox.base-backoff:PT10S}") Duration baseBackoff,
+                              @Value("${discord.outbox.send-timeout:PT30S}") Duration sendTimeout,
+                              @Value("${discord.outbox.staff-digest.window:PT2M}") Duration staffDigestWindow,
+                              @Value("${discord.outbox.staff-digest.max-size:20}") int staffDigestMaxSize) {
+        this.outboxRepository = outboxRepository;
+        this.discordBotClient = discordBotClient;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.sendTimeout = sendTimeout;
+        this.staffDigestWindow = staffDigestWindow;
+        this.staffDigestMaxSize = staffDigestMaxSize;
+    }
+
+    @Scheduled(fixedDelayString = "${discord.outbox.poll-interval-ms:2000}",
+            initialDelayString = "${discord.outbox.poll-interval-ms:2000}")
+    @SchedulerLock(name = "discord_outbox_relay", lockAtMostFor = "PT5M", lockAtLeastFor = "PT0S")
+    public void relay() {
+        relay(false);
+    }
+
+    /**
+     * 종료 시 묶음 창을 기다리던 스태프 다이제스트까지 모두 발송
+     * 컨텍스트 종료 이벤트는 빈 소멸 전에 발행되므로 DB와 Discord 클라이언트를 아직 쓸 수 있습니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    @SchedulerLock(name = "discord_outbox_relay", lockAtMostFor = "PT5M", lockAtLeastFor = "PT0S")
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 대기 중인 Discord 알림을 모두 발송합니다.");
+        relay(true);
+    }
+
+    private void relay(boolean flushDigests) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Send> sends = new ArrayList<>();
+
+        outboxRepository.findByStatusAndTypeNotAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        DiscordOutboxMessage.Status.PENDING, NotificationType.STAFF_PICKUP_SCHEDULED,
+                        now, PageRequest.of(0, batchSize))
+                .forEach(message -> sends.add(new Send(List.of(message), deliver(message))));
+        sends.addAll(staffDigests(now, flushDigests));
+
+        if (sends.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Delivery> deliveries = Flux.fromIterable(sends)
+                .flatMap(send -> send.action()
+                        .timeout(sendTimeout)
+                        .then(Mono.just(Delivery.success(send.messageIds())))
+                        .onErrorResume(e -> Mono.just(Delivery.failure(send.messageIds(), e))), concurrency)
+                .collectList()
+                .block();
+
+        int total = sends.stream().mapToInt(send -> send.messages().size()).sum();
+        Outcome outcome = applyResults(deliveries != null ? deliveries : List.of());
+        int sent = outcome.sent();
+        int dead = outcome.dead();
+        int retrying = total - sent - dead;
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        String result = sent == total ? "success" : "partial_failure";
+        eventPublisher.publishEvent(new EodSchedulerRunEvent(METRIC_TASK_NAME, result, sent, duration));
+        log.info("Discord 아웃박스 릴레이 완료 - DM {}통으로 {}건 발송, 재시도 대기 {}건, DEAD {}건, {}ms",
+                sends.size(), sent, retrying, dead, duration.toMillis());
+    }
+
+    /**
+     * 스태프별로 모인 픽업 알림 중 보낼 때가 된 묶음을 다이제스트 발송으로 변환
+     *
+     * 묶음은 가장 오래된 알림이 창을 넘겼거나, max-size만큼 모였거나, 종료 중일 때 보냅니다.
+     * 실패해 백오프 중인 알림이 섞인 묶음은 재시도 시각까지 기다립니다.
+     */
+    private List<Send> staffDigests(LocalDateTime now, boolean flush) {
+        List<DiscordOutboxMessage> pending = outboxRepository.findByStatusAndTypeOrderByIdAsc(
+                DiscordOutboxMessage.Status.PENDING, NotificationType.STAFF_PICKUP_SCHEDULED,
+                PageRequest.of(0, STAFF_DIGEST_FETCH_LIMIT));
+
+        Map<String, List<DiscordOutboxMessage>> byStaff = pending.stream()
+                .collect(Collectors.groupingBy(DiscordOutboxMessage::getRecipientDiscordId,
+                        LinkedHashMap::new, Collectors.toList()));
+
+        LocalDateTime windowStart = now.minus(staffDigestWindow);
+        List<Send> sends = new ArrayList<>();
+        byStaff.forEach((staffId, messages) -> {
+            for (int from = 0; from < messages.size(); from += staffDigestMaxSize) {
+                List<DiscordOutboxMessage> chunk = messages.subList(from, Math.min(from + staffDigestMaxSize, messages.size()));
+                boolean backingOff = chunk.stream().anyMatch(message -> message.getNextAttemptAt().isAfter(now));
+                boolean windowElapsed = !chunk.get(0).getCreatedAt().isAfter(windowStart);
+                boolean full = chunk.size() >= staffDigestMaxSize;
+                if (backingOff || !(flush || windowElapsed || full)) {
+                    continue;
+                }
+
+                List<StaffPickup> pickups = chunk.stream()
+                        .map(message -> new StaffPickup(message.getStudentCode(), message.getStudentName(),
+                                message.getVisitDate(), message.getItemName()))
+                        .toList();
+                sends.add(new Send(List.copyOf(chunk),
+                        Mono.defer(() -> discordBotClient.sendStaffPickupDigest(staffId, pickups))));
+            }
+        });
+        return sends;
+    }
+
+    private Mono<Void> deliver(DiscordOutboxMessage message) {
+        // 클라이언트 내부에서 동기 예외가 나도 실패 결과로 모으도록 지연 생성
+        return Mono.defer(() -> switch (message.getType()) {
+            case VERIFIED -> discordBotClient.sendVerified(
+                    message.getRecipientDiscordId(), message.getStudentName());
+            case CLAIM_APPROVED -> discordBotClient.sendClaimApproved(
+                    message.getRecipientDiscordId(), message.getItemName(), message.getVisitDate());
+            case CLAIM_REJECTED -> discordBotClient.sendClaimRejected(
+                    message.getRecipientDiscordId(), message.getItemName());
+            case STAFF_PICKUP_SCHEDULED -> discordBotClient.sendStaffPickupScheduled(
+                    message.getRecipientDiscordId(), message.getStudentCode(), message.getStudentName(),
+                    message.getVisitDate(), message.getItemName());
+        });
+    }
+
+    /**
+     * 발송 결과를 한 트랜잭션에서 반영
+     */
+    private Outcome applyResults(List<Delivery> deliveries) {
+        Outcome outcome = transactionTemplate.execute(status -> {
+            Map<Long, DiscordOutboxMessage> messages = outboxRepository
+                    .findAllById(deliveries.stream().flatMap(delivery -> delivery.messageIds().stream()).toList())
+                    .stream()
+                    .collect(Collectors.toMap(DiscordOutboxMessage::getId, Function.identity()));
+
+            LocalDateTime now = LocalDateTime.now();
+            int sent = 0;
+            int dead = 0;
+            for (Delivery delivery : deliveries) {
+                for (Long messageId : delivery.messageIds()) {
+                    DiscordOutboxMessage message = messages.get(messageId);
+                    if (message == null) {
+                        continue;
+                    }
+                    if (delivery.error() == null) {
+                        outboxRepository.delete(message);
+                        sent++;
+                        continue;
+                    }
+
+                    message.markFailed(delivery.error(), now, maxAttempts, baseBackoff);
+                    if (message.isDead()) {
+                        dead++;
+                        log.error("Discord 알림 재시도 한도 초과 - id={}, type={}, recipient={}, 오류: {}",
+                                message.getId(), message.getType(), message.getRecipientDiscordId(), delivery.error());
+                    } else {
+                        log.warn("Discord 알림 발송 실패 - id={}, type={}, attempts={}, 다음 시도 {}",
+                                message.getId(), message.getType(), message.getAttempts(), message.getNextAttemptAt());
+                    }
+                }
+            }
+            return new Outcome(sent, dead);
+        });
+        return outcome != null ? outcome : new Outcome(0, 0);
+    }
+
+    private record Send(List<DiscordOutboxMessage> messages, Mono<Void> action) {
+
+        List<Long> messageIds() {
+            return messages.stream().map(DiscordOutboxMessage::getId).toList();
+        }
+    }
+
+    private record Delivery(List<Long> messageIds, String error) {
+
+        static Delivery success(List<Long> messageIds) {
+            return new Delivery(messageIds, null);
+        }
+
+        static Delivery failure(List<Long> messageIds, Throwable error) {
+            String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+            return new Delivery(messageIds, message);
+        }
+    }
+
+    private record Outcome(int sent, int dead) {
+    }
+}
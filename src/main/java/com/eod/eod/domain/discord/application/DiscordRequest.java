@@ -0,0 +1,26 @@
+package com.eod.eod.domain.discord.application;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Discord REST 요청 명세
+ *
+ * route는 메트릭/로그용 이름이고, 레이트 리밋 버킷은 route와 주요 파라미터(채널/길드 ID)로 구분합니다.
+ */
+public record DiscordRequest(
+        String route,
+        HttpMethod method,
+        String uriTemplate,
+        Object[] uriVariables,
+        Object body
+) {
+
+    public static DiscordRequest of(String route, HttpMethod method, String uriTemplate, Object body, Object... uriVariables) {
+        return new DiscordRequest(route, method, uriTemplate, uriVariables, body);
+    }
+
+    String bucketKey() {
+        String majorParameter = uriVariables != null && uriVariables.length > 0 ? String.valueOf(uriVariables[0]) : "";
+        return route + ":" + majorParameter;
+    }
+}
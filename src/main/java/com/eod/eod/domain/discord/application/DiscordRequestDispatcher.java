@@ -0,0 +1,371 @@
+package com.eod.eod.domain.discord.application;
+
+import com.eod.eod.common.event.EodRateLimitEvent;
+import com.eod.eod.domain.discord.config.DiscordBotProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Discord 레이트 리밋을 지키는 요청 디스패처
+ *
+ * 요청을 버킷(route + 채널/길드 ID)별 대기열에 넣고 버킷당 한 건씩 순서대로 보냅니다.
+ * 응답의 X-RateLimit-Remaining/Reset-After 헤더로 버킷이 비면 리셋 시각까지 다음 요청을 미루고,
+ * 429 응답은 retry_after만큼 기다렸다가 다시 보냅니다(global이면 모든 버킷을 멈춤).
+ * 응답이 request-timeout 안에 오지 않으면 실패로 끝내 버킷이 멈추지 않게 하고,
+ * 채널마다 생기는 버킷은 비어 있고 막혀 있지 않으면 prune 주기마다 정리합니다.
+ * 호출 측이 타임아웃 등으로 구독을 취소하면 아직 보내지 않은 요청은 대기열에서 빼고 429 재시도도 하지 않아,
+ * 호출 측이 실패로 처리한 요청이 나중에 따로 발송되지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class DiscordRequestDispatcher implements DisposableBean {
+
+    private static final String DISCORD_API_BASE = "https://discord.com/api/v10";
+    private static final String PROVIDER = "discord";
+
+    private final WebClient webClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService scheduler;
+    private final int maxQueueSize;
+    private final int maxRetries;
+    private final Duration requestTimeout;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private volatile long globalBlockedUntilMillis;
+
+    @Autowired
+    public DiscordRequestDispatcher(DiscordBotProperties properties,
+                                    WebClient.Builder builder,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${discord.dispatch.max-queue-size:1000}") int maxQueueSize,
+                                    @Value("${discord.dispatch.max-retries:3}") int maxRetries,
+                                    @Value("${discord.dispatch.request-timeout:PT10S}") Duration requestTimeout) {
+        this(builder.baseUrl(DISCORD_API_BASE)
+                        .defaultHeader(HttpHeaders.AUTHORIZATION, "Bot " + properties.getToken())
+                        .build(),
+                eventPublisher,
+                meterRegistry,
+                Executors.newSingleThreadScheduledExecutor(createThreadFactory()),
+                maxQueueSize,
+                maxRetries,
+                requestTimeout);
+    }
+
+    DiscordRequestDispatcher(WebClient webClient,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             ScheduledExecutorService scheduler,
+                             int maxQueueSize,
+                             int maxRetries,
+                             Duration requestTimeout) {
+        this.webClient = webClient;
+        this.eventPublisher = eventPublisher;
+        this.scheduler = scheduler;
+        this.maxQueueSize = maxQueueSize;
+        this.maxRetries = maxRetries;
+        this.requestTimeout = requestTimeout;
+
+        Gauge.builder("eod_discord_dispatch_queue_depth", queued, AtomicInteger::get)
+                .description("Discord requests waiting for a rate-limit bucket")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 대기열에 넣고 응답 본문(없으면 빈 Map)을 돌려줌
+     * 대기열이 가득 찼거나 429 재시도 횟수를 넘기면 에러로 끝납니다.
+     * 구독을 취소하면 대기 중인 요청은 보내지 않습니다(이미 보내는 중인 한 번의 시도는 되돌릴 수 없음).
+     */
+    public Mono<Map<String, Object>> submit(DiscordRequest request) {
+        return Mono.defer(() -> {
+            if (queued.incrementAndGet() > maxQueueSize) {
+                queued.decrementAndGet();
+                publish(request, "dropped_queue_full", null);
+                return Mono.error(new IllegalStateException("Discord 요청 대기열이 가득 찼습니다."));
+            }
+
+            PendingRequest pending = new PendingRequest(request, Sinks.one(), System.nanoTime());
+            // 정리와 겹쳐도 지워진 버킷에 넣지 않도록 등록과 적재를 같은 원자 구간에서 수행
+            Bucket bucket = buckets.compute(request.bucketKey(), (key, existing) -> {
+                Bucket target = existing != null ? existing : new Bucket();
+                synchronized (target) {
+                    target.queue.addLast(pending);
+                }
+                return target;
+            });
+            drain(bucket);
+            return pending.sink.asMono()
+                    .doOnCancel(() -> cancel(bucket, pending));
+        });
+    }
+
+    int queuedCount() {
+        return queued.get();
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 대기 요청이 없고 보내는 중이거나 막혀 있지 않은 버킷 정리 (DM 채널마다 버킷이 생기므로 무한히 쌓이지 않게 함)
+     */
+    @Scheduled(fixedDelayString = "${discord.dispatch.prune-interval-ms:60000}",
+            initialDelayString = "${discord.dispatch.prune-interval-ms:60000}")
+    public void pruneIdleBuckets() {
+        long now = System.currentTimeMillis();
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (bucketKey, bucket) -> {
+                synchronized (bucket) {
+                    return bucket.isIdle(now) ? null : bucket;
+                }
+            });
+        }
+    }
+
+    private void drain(Bucket bucket) {
+        PendingRequest next;
+        synchronized (bucket) {
+            if (bucket.inFlight || bucket.queue.isEmpty()) {
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            long blockedUntil = Math.max(globalBlockedUntilMillis, bucket.blockedUntilMillis);
+            if (blockedUntil > now) {
+                scheduleDrain(bucket, blockedUntil - now);
+                return;
+            }
+
+            next = bucket.queue.pollFirst();
+            bucket.inFlight = true;
+        }
+        dispatch(bucket, next);
+    }
+
+    private void cancel(Bucket bucket, PendingRequest pending) {
+        boolean removed;
+        synchronized (bucket) {
+            pending.cancelled = true;
+            removed = bucket.queue.remove(pending);
+        }
+        if (removed) {
+            queued.decrementAndGet();
+            publish(pending.request, "cancelled", null);
+        }
+    }
+
+    private void scheduleDrain(Bucket bucket, long delayMillis) {
+        if (bucket.drainScheduled) {
+            return;
+        }
+        bucket.drainScheduled = true;
+        scheduler.schedule(() -> {
+            synchronized (bucket) {
+                bucket.drainScheduled = false;
+            }
+            drain(bucket);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void dispatch(Bucket bucket, PendingRequest pending) {
+        pending.attempts++;
+        Duration waitTime = Duration.ofNanos(System.nanoTime() - pending.enqueuedAtNanos);
+        DiscordRequest request = pending.request;
+
+        Mono<Outcome> exchange;
+        try {
+            WebClient.RequestBodySpec spec = webClient.method(request.method())
+                    .uri(request.uriTemplate(), request.uriVariables() != null ? request.uriVariables() : new Object[0]);
+            WebClient.RequestHeadersSpec<?> headersSpec = request.body() != null ? spec.bodyValue(request.body()) : spec;
+            exchange = headersSpec.exchangeToMono(this::toOutcome);
+        } catch (RuntimeException e) {
+            // 요청 생성 중 예외도 버킷을 비워야 다음 요청이 나감
+            onFailure(bucket, pending, e);
+            return;
+        }
+
+        exchange.timeout(requestTimeout)
+                .subscribe(
+                        outcome -> onOutcome(bucket, pending, outcome, waitTime),
+                        error -> onFailure(bucket, pending, error)
+                );
+    }
+
+    private Mono<Outcome> toOutcome(ClientResponse response) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        long resetAfterMillis = parseSecondsToMillis(headers.getFirst("X-RateLimit-Reset-After"));
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        long blockMillis = "0".equals(remaining) ? resetAfterMillis : 0L;
+
+        if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            boolean globalHeader = "true".equalsIgnoreCase(headers.getFirst("X-RateLimit-Global"));
+            long retryAfterHeaderMillis = parseSecondsToMillis(headers.getFirst(HttpHeaders.RETRY_AFTER));
+            return response.bodyToMono(Map.class)
+                    .defaultIfEmpty(Map.of())
+                    .map(body -> {
+                        long retryAfterMillis = parseSecondsToMillis(body.get("retry_after"));
+                        if (retryAfterMillis == 0L) {
+                            retryAfterMillis = Math.max(retryAfterHeaderMillis, resetAfterMillis);
+                        }
+                        boolean global = globalHeader || Boolean.TRUE.equals(body.get("global"));
+                        return Outcome.rateLimited(retryAfterMillis, global);
+                    });
+        }
+
+        if (response.statusCode().isError()) {
+            return response.createException().flatMap(Mono::error);
+        }
+
+        return response.bodyToMono(Map.class)
+                .defaultIfEmpty(Map.of())
+                .map(body -> Outcome.success(castBody(body), blockMillis));
+    }
+
+    private void onOutcome(Bucket bucket, PendingRequest pending, Outcome outcome, Duration waitTime) {
+        long now = System.currentTimeMillis();
+
+        if (outcome.rateLimited()) {
+            publish(pending.request, "rate_limited", null);
+            boolean retry;
+            synchronized (bucket) {
+                retry = pending.attempts <= maxRetries && !pending.cancelled;
+                if (outcome.global()) {
+                    globalBlockedUntilMillis = Math.max(globalBlockedUntilMillis, now + outcome.blockMillis());
+                } else {
+                    bucket.blockedUntilMillis = Math.max(bucket.blockedUntilMillis, now + outcome.blockMillis());
+                }
+                if (retry) {
+                    // 순서를 지키기 위해 대기열 맨 앞에 다시 넣음
+                    bucket.queue.addFirst(pending);
+                }
+                bucket.inFlight = false;
+            }
+            if (!retry && pending.cancelled) {
+                queued.decrementAndGet();
+                publish(pending.request, "cancelled", null);
+            } else if (!retry) {
+                queued.decrementAndGet();
+                publish(pending.request, "dropped_retries_exhausted", null);
+                log.warn("Discord 요청 재시도 초과로 폐기 - route={}, attempts={}", pending.request.route(), pending.attempts);
+                pending.sink.tryEmitError(new IllegalStateException("Discord 레이트 리밋 재시도 횟수를 초과했습니다."));
+            }
+            drain(bucket);
+            return;
+        }
+
+        synchronized (bucket) {
+            if (outcome.blockMillis() > 0) {
+                bucket.blockedUntilMillis = now + outcome.blockMillis();
+            }
+            bucket.inFlight = false;
+        }
+        queued.decrementAndGet();
+        publish(pending.request, "dispatched", waitTime);
+        pending.sink.tryEmitValue(outcome.body());
+        drain(bucket);
+    }
+
+    private void onFailure(Bucket bucket, PendingRequest pending, Throwable error) {
+        synchronized (bucket) {
+            bucket.inFlight = false;
+        }
+        queued.decrementAndGet();
+        publish(pending.request, "failed", null);
+        pending.sink.tryEmitError(error);
+        drain(bucket);
+    }
+
+    private void publish(DiscordRequest request, String result, Duration waitTime) {
+        eventPublisher.publishEvent(new EodRateLimitEvent(PROVIDER, request.route(), result, waitTime));
+    }
+
+    private static long parseSecondsToMillis(Object seconds) {
+        if (seconds == null) {
+            return 0L;
+        }
+        try {
+            double value = seconds instanceof Number number ? number.doubleValue() : Double.parseDouble(seconds.toString());
+            return Math.max(0L, (long) Math.ceil(value * 1000));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castBody(Map<?, ?> body) {
+        return (Map<String, Object>) body;
+    }
+
+    private static CustomizableThreadFactory createThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("discord-dispatch-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    private static final class Bucket {
+        private final Deque<PendingRequest> queue = new ArrayDeque<>();
+        private boolean inFlight;
+        private boolean drainScheduled;
+        private long blockedUntilMillis;
+
+        private boolean isIdle(long now) {
+            return !inFlight && !drainScheduled && queue.isEmpty() && blockedUntilMillis <= now;
+        }
+    }
+
+    private static final class PendingRequest {
+        private final DiscordRequest request;
+        private final Sinks.One<Map<String, Object>> sink;
+        private final long enqueuedAtNanos;
+        private int attempts;
+        private volatile boolean cancelled;
+
+        private PendingRequest(DiscordRequest request, Sinks.One<Map<String, Object>> sink, long enqueuedAtNanos) {
+            this.request = request;
+            this.sink = sink;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+
+    private record Outcome(boolean rateLimited, boolean global, long blockMillis, Map<String, Object> body) {
+
+        static Outcome success(Map<String, Object> body, long blockMillis) {
+            return new Outcome(false, false, blockMillis, body);
+        }
+
+        static Outcome rateLimited(long retryAfterMillis, boolean global) {
+            return new Outcome(true, global, retryAfterMillis, Map.of());
+        }
+    }
+}
@@ -3,13 +3,13 @@ package com.eod.eod.domain.discord.application;
 import com.eod.eod.domain.discord.exception.DiscordVerifyException;
 import com.eod.eod.domain.discord.presentation.dto.request.DiscordVerifyRequest;
 import com.eod.eod.domain.discord.presentation.dto.response.DiscordVerifyResponse;
+import com.eod.eod.domain.user.application.event.UserChangedEvent;
 import com.eod.eod.domain.user.infrastructure.UserRepository;
 import com.eod.eod.domain.user.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Objects;
@@ -24,7 +24,8 @@ public class DiscordVerifyService {
     private static final Pattern NICKNAME_PATTERN = Pattern.compile("^(\\d+)기_([^_]+)$");
 
     private final UserRepository userRepository;
-    private final DiscordBotClient discordBotClient;
+    private final DiscordNotificationOutbox discordNotificationOutbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DiscordVerifyResponse verify(DiscordVerifyRequest request) {
@@ -125,9 +126,9 @@ public class DiscordVerifyService {
                 });
 
         student.updateDiscordId(discordUserId);
+        eventPublisher.publishEvent(new UserChangedEvent(student.getId()));
 
-        String studentName = student.getName();
-        registerAfterCommit(() -> discordBotClient.notifyVerified(discordUserId, studentName));
+        discordNotificationOutbox.enqueueVerified(discordUserId, student.getName());
 
         return DiscordVerifyResponse.success("인증이 완료되었습니다.");
     }
@@ -136,20 +137,6 @@ public class DiscordVerifyService {
         return value != null && !value.isBlank();
     }
 
-    private void registerAfterCommit(Runnable action) {
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            action.run();
-            return;
-        }
-
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                action.run();
-            }
-        });
-    }
-
     private record ParsedNickname(String name, Integer expectedGrade) {
     }
 }
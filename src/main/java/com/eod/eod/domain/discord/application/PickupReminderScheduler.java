@@ -1,49 +1,127 @@
 package com.eod.eod.domain.discord.application;
 
+import com.eod.eod.common.annotation.SchedulerLock;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
 import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
 import com.eod.eod.domain.item.model.ItemClaim;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PickupReminderScheduler {
 
+    private static final String METRIC_TASK_NAME = "pickup_reminder";
+
     private final ItemClaimRepository itemClaimRepository;
     private final DiscordBotClient discordBotClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int pageSize;
+    private final int concurrency;
+    private final Duration sendTimeout;
+
+    public PickupReminderScheduler(ItemClaimRepository itemClaimRepository,
+                                   DiscordBotClient discordBotClient,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${discord.reminder.page-size:100}") int pageSize,
+                                   @Value("${discord.reminder.concurrency:4}") int concurrency,
+                                   @Value("${discord.reminder.send-timeout:PT30S}") Duration sendTimeout) {
+        this.itemClaimRepository = itemClaimRepository;
+        this.discordBotClient = discordBotClient;
+        this.eventPublisher = eventPublisher;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.sendTimeout = sendTimeout;
+    }
 
     /**
      * 매일 08:00에 실행. visit_date가 오늘인 승인된 클레임 대상자에게 Discord DM 리마인더를 보낸다.
+     *
+     * 클레임을 id 키셋으로 페이지 단위로 읽고, 페이지마다 동시 발송 수를 제한해 보낸 뒤 실제 발송 결과를 기다립니다.
+     * 레이트 리밋은 DiscordRequestDispatcher가 지키므로 여기서는 동시에 대기열에 넣는 양만 제한합니다.
      */
     @Scheduled(cron = "0 0 8 * * *")
+    @SchedulerLock(name = "pickup_reminder")
     public void sendPickupReminders() {
         LocalDate today = LocalDate.now();
         LocalDateTime pickupTime = today.atTime(13, 30);
-        List<ItemClaim> claims = itemClaimRepository.findByStatusAndVisitDate(ItemClaim.ClaimStatus.APPROVED, today);
-        log.info("픽업 리마인더 스케줄러 시작 - 대상 {}건", claims.size());
-
-        int sent = 0;
-        for (ItemClaim claim : claims) {
-            try {
-                String discordId = claim.getClaimant().getDiscordId();
-                if (discordId == null || discordId.isBlank()) {
-                    log.warn("픽업 리마인더 스킵 - discord_id 없음 claimId={} userId={}", claim.getId(), claim.getClaimant().getId());
-                    continue;
+        long startedAt = System.nanoTime();
+        log.info("픽업 리마인더 스케줄러 시작");
+
+        long lastId = 0L;
+        int delivered = 0;
+        int failed = 0;
+        int skipped = 0;
+
+        while (true) {
+            List<ItemClaim> claims = itemClaimRepository.findByStatusAndVisitDateAndIdGreaterThanOrderByIdAsc(
+                    ItemClaim.ClaimStatus.APPROVED, today, lastId, PageRequest.of(0, pageSize));
+            if (claims.isEmpty()) {
+                break;
+            }
+            lastId = claims.get(claims.size() - 1).getId();
+
+            List<ReminderResult> results = Flux.fromIterable(claims)
+                    .flatMap(claim -> sendReminder(claim, pickupTime), concurrency)
+                    .collectList()
+                    .block();
+
+            for (ReminderResult result : results != null ? results : List.<ReminderResult>of()) {
+                switch (result) {
+                    case DELIVERED -> delivered++;
+                    case FAILED -> failed++;
+                    case SKIPPED -> skipped++;
                 }
-                discordBotClient.notifyPickupReminder(discordId, claim.getItem().getName(), pickupTime);
-                sent++;
-                log.info("픽업 리마인더 발송 claimId={} userId={} itemName={}", claim.getId(), claim.getClaimant().getId(), claim.getItem().getName());
-            } catch (Exception e) {
-                log.error("픽업 리마인더 발송 실패 claimId={}", claim.getId(), e);
             }
+
+            if (claims.size() < pageSize) {
+                break;
+            }
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        String result = failed == 0 ? "success" : "partial_failure";
+        eventPublisher.publishEvent(new EodSchedulerRunEvent(METRIC_TASK_NAME, result, delivered, duration,
+                Map.of("delivered", delivered, "failed", failed, "skipped", skipped)));
+        log.info("픽업 리마인더 스케줄러 완료 - 발송 {}건, 실패 {}건, 스킵 {}건, {}ms",
+                delivered, failed, skipped, duration.toMillis());
+    }
+
+    private Mono<ReminderResult> sendReminder(ItemClaim claim, LocalDateTime pickupTime) {
+        String discordId = claim.getClaimant().getDiscordId();
+        if (discordId == null || discordId.isBlank()) {
+            log.warn("픽업 리마인더 스킵 - discord_id 없음 claimId={} userId={}", claim.getId(), claim.getClaimant().getId());
+            return Mono.just(ReminderResult.SKIPPED);
         }
-        log.info("픽업 리마인더 스케줄러 완료 - 총 {}건 발송", sent);
+
+        String itemName = claim.getItem().getName();
+        return Mono.defer(() -> discordBotClient.sendPickupReminder(discordId, itemName, pickupTime))
+                .timeout(sendTimeout)
+                .then(Mono.fromCallable(() -> {
+                    log.info("픽업 리마인더 발송 claimId={} userId={} itemName={}", claim.getId(), claim.getClaimant().getId(), itemName);
+                    return ReminderResult.DELIVERED;
+                }))
+                .onErrorResume(e -> {
+                    log.error("픽업 리마인더 발송 실패 claimId={}: {}", claim.getId(), e.getMessage());
+                    return Mono.just(ReminderResult.FAILED);
+                });
+    }
+
+    private enum ReminderResult {
+        DELIVERED,
+        FAILED,
+        SKIPPED
     }
 }
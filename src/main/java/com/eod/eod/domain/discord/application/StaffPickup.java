@@ -0,0 +1,14 @@
+package com.eod.eod.domain.discord.application;
+
+import java.time.LocalDate;
+
+/**
+ * 스태프 픽업 예정 다이제스트의 한 줄
+ */
+public record StaffPickup(
+        Integer studentCode,
+        String studentName,
+        LocalDate visitDate,
+        String itemName
+) {
+}
@@ -0,0 +1,7 @@
+package com.eod.eod.domain.discord.infrastructure;
+
+import com.eod.eod.domain.discord.model.DiscordDmChannel;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DiscordDmChannelRepository extends JpaRepository<DiscordDmChannel, String> {
+}
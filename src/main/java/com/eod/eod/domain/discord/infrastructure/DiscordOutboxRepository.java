@@ -0,0 +1,20 @@
+package com.eod.eod.domain.discord.infrastructure;
+
+import com.eod.eod.domain.discord.model.DiscordOutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DiscordOutboxRepository extends JpaRepository<DiscordOutboxMessage, Long> {
+
+    // 발송 시각이 된 개별 알림을 먼저 쌓인 순서대로 조회 (다이제스트로 묶는 유형은 제외)
+    List<DiscordOutboxMessage> findByStatusAndTypeNotAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            DiscordOutboxMessage.Status status, DiscordOutboxMessage.NotificationType excludedType,
+            LocalDateTime now, Pageable pageable);
+
+    // 다이제스트로 묶을 알림 조회 (묶음 창이 지났는지는 릴레이가 판단)
+    List<DiscordOutboxMessage> findByStatusAndTypeOrderByIdAsc(
+            DiscordOutboxMessage.Status status, DiscordOutboxMessage.NotificationType type, Pageable pageable);
+}
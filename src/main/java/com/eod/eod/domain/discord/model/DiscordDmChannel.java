@@ -0,0 +1,34 @@
+package com.eod.eod.domain.discord.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "discord_dm_channels")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiscordDmChannel {
+
+    @Id
+    @Column(name = "discord_user_id", nullable = false, length = 20)
+    private String discordUserId;
+
+    @Column(name = "channel_id", nullable = false, length = 20)
+    private String channelId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public DiscordDmChannel(String discordUserId, String channelId) {
+        this.discordUserId = discordUserId;
+        this.channelId = channelId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,121 @@
+package com.eod.eod.domain.discord.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Discord 알림 아웃박스
+ *
+ * 업무 트랜잭션 안에서 알림을 행으로 남기고, 릴레이가 커밋된 행만 읽어 Discord로 보냅니다.
+ * 발송에 성공한 행은 삭제하고, 재시도 한도를 넘긴 행은 DEAD 상태로 남겨 확인할 수 있게 합니다.
+ */
+@Entity
+@Table(name = "discord_outbox", indexes = {
+        @Index(name = "idx_discord_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiscordOutboxMessage {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 40)
+    private NotificationType type;
+
+    @Column(name = "recipient_discord_id", nullable = false, length = 20)
+    private String recipientDiscordId;
+
+    @Column(name = "item_name")
+    private String itemName;
+
+    @Column(name = "student_name", length = 50)
+    private String studentName;
+
+    @Column(name = "student_code")
+    private Integer studentCode;
+
+    @Column(name = "visit_date")
+    private LocalDate visitDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public DiscordOutboxMessage(NotificationType type, String recipientDiscordId, String itemName,
+                                String studentName, Integer studentCode, LocalDate visitDate) {
+        LocalDateTime now = LocalDateTime.now();
+        this.type = type;
+        this.recipientDiscordId = recipientDiscordId;
+        this.itemName = itemName;
+        this.studentName = studentName;
+        this.studentCode = studentCode;
+        this.visitDate = visitDate;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /**
+     * 발송 실패 기록 (지수 백오프로 다음 시도 시각을 미루고, 한도를 넘기면 DEAD 처리)
+     */
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, Duration baseBackoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = Status.DEAD;
+            return;
+        }
+        long multiplier = 1L << Math.min(attempts - 1, 10);
+        this.nextAttemptAt = now.plus(baseBackoff.multipliedBy(multiplier));
+    }
+
+    public boolean isDead() {
+        return status == Status.DEAD;
+    }
+
+    public enum NotificationType {
+        VERIFIED,               // 디스코드 인증 완료 (역할 부여 + DM)
+        CLAIM_APPROVED,         // 소유권 주장 승인
+        CLAIM_REJECTED,         // 소유권 주장 거절
+        STAFF_PICKUP_SCHEDULED  // 스태프 픽업 예정 알림
+    }
+
+    public enum Status {
+        PENDING,  // 발송 대기 (실패 후 재시도 대기 포함)
+        DEAD      // 재시도 한도 초과
+    }
+}
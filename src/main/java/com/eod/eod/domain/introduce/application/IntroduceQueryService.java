@@ -1,12 +1,17 @@
 package com.eod.eod.domain.introduce.application;
 
+import com.eod.eod.common.util.EntityTag;
 import com.eod.eod.domain.introduce.infrastructure.IntroduceRepository;
+import com.eod.eod.domain.introduce.infrastructure.IntroduceVersion;
 import com.eod.eod.domain.introduce.model.Introduce;
 import com.eod.eod.domain.introduce.presentation.dto.response.IntroduceQueryResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -22,4 +27,12 @@ public class IntroduceQueryService {
 
         return IntroduceQueryResponse.from(introduce);
     }
+
+    // 소개 페이지 검증값 (본문을 읽지 않고 ID와 수정 시각으로 계산, 없으면 빈 값 - 본 조회에서 404)
+    public Optional<EntityTag> getIntroduceTag() {
+        return introduceRepository.findFirstByOrderByIdDesc(IntroduceVersion.class)
+                .map(version -> EntityTag.of(
+                        version.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                        "introduce", version.getId(), version.getUpdatedAt()));
+    }
 }
@@ -9,4 +9,7 @@ public interface IntroduceRepository extends JpaRepository<Introduce, Long> {
 
     // 가장 최근 소개 페이지 조회 (ID 내림차순 첫 번째)
     Optional<Introduce> findFirstByOrderByIdDesc();
+
+    // 가장 최근 소개 페이지를 원하는 프로젝션으로 조회 (조건부 GET 검증값용)
+    <T> Optional<T> findFirstByOrderByIdDesc(Class<T> type);
 }
@@ -0,0 +1,13 @@
+package com.eod.eod.domain.introduce.infrastructure;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소개 페이지 ETag 계산용 프로젝션 (본문 TEXT 컬럼은 읽지 않음)
+ */
+public interface IntroduceVersion {
+
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -1,5 +1,6 @@
 package com.eod.eod.domain.introduce.presentation;
 
+import com.eod.eod.common.util.EntityTag;
 import com.eod.eod.domain.introduce.application.IntroduceQueryService;
 import com.eod.eod.domain.introduce.application.IntroduceService;
 import com.eod.eod.domain.introduce.presentation.dto.request.IntroduceUpdateRequest;
@@ -7,6 +8,7 @@ import com.eod.eod.domain.introduce.presentation.dto.response.IntroduceQueryResp
 import com.eod.eod.domain.introduce.presentation.dto.response.IntroduceUpdateResponse;
 import com.eod.eod.domain.user.model.User;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,9 +17,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/introduce")
@@ -28,7 +35,7 @@ public class IntroduceController {
     private final IntroduceService introduceService;
     private final IntroduceQueryService introduceQueryService;
 
-    @Operation(summary = "소개 페이지 조회", description = "모든 사용자가 소개 페이지를 조회할 수 있습니다.")
+    @Operation(summary = "소개 페이지 조회", description = "모든 사용자가 소개 페이지를 조회할 수 있습니다. 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
@@ -45,12 +52,21 @@ public class IntroduceController {
                             mediaType = "application/json",
                             examples = @ExampleObject(value = "{\"error\": \"소개 페이지를 찾을 수 없습니다.\"}")
                     )
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
-    public ResponseEntity<IntroduceQueryResponse> getIntroduce() {
+    public ResponseEntity<IntroduceQueryResponse> getIntroduce(
+            @Parameter(hidden = true)
+            WebRequest webRequest
+    ) {
+        Optional<EntityTag> tag = introduceQueryService.getIntroduceTag();
+        if (tag.isPresent() && tag.get().isNotModified(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         IntroduceQueryResponse response = introduceQueryService.getIntroduce();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @Operation(summary = "소개 페이지 수정", description = "관리자가 소개 페이지 내용을 수정합니다.")
@@ -5,6 +5,7 @@ import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
 import com.eod.eod.domain.item.model.ItemClaim;
 import com.eod.eod.domain.item.presentation.dto.response.ClaimItemResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ClaimItemListResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ClaimRequestResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ClaimRequestsResponse;
 import com.eod.eod.domain.item.presentation.dto.response.MyClaimsResponse;
 import lombok.RequiredArgsConstructor;
@@ -22,9 +23,10 @@ import java.util.List;
 public class ItemClaimQueryService {
 
     private final ItemClaimRepository itemClaimRepository;
+    private final ItemFacade itemFacade;
 
     public long countPendingClaims() {
-        return itemClaimRepository.countByStatusAndItemDeletedAtIsNull(ItemClaim.ClaimStatus.PENDING);
+        return itemFacade.sumPendingClaimCount();
     }
 
     public ClaimItemListResponse getPendingClaimItems() {
@@ -42,23 +44,12 @@ public class ItemClaimQueryService {
                 sortBy
         );
 
-        Page<ItemClaim> claimPage;
+        ItemClaim.ClaimStatus claimStatus = status == null || status.isBlank()
+                ? null
+                : ItemClaim.ClaimStatus.valueOf(status.toUpperCase());
+        Page<ClaimRequestResponse> requestPage = itemClaimRepository.searchClaimRequests(itemId, claimStatus, pageable);
 
-        if (itemId != null) {
-            if (status == null || status.isBlank()) {
-                claimPage = itemClaimRepository.findByItemIdAndItemDeletedAtIsNull(itemId, pageable);
-            } else {
-                ItemClaim.ClaimStatus claimStatus = ItemClaim.ClaimStatus.valueOf(status.toUpperCase());
-                claimPage = itemClaimRepository.findByItemIdAndStatusAndItemDeletedAtIsNull(itemId, claimStatus, pageable);
-            }
-        } else if (status == null || status.isBlank()) {
-            claimPage = itemClaimRepository.findByItemDeletedAtIsNull(pageable);
-        } else {
-            ItemClaim.ClaimStatus claimStatus = ItemClaim.ClaimStatus.valueOf(status.toUpperCase());
-            claimPage = itemClaimRepository.findByStatusAndItemDeletedAtIsNull(claimStatus, pageable);
-        }
-
-        return ClaimRequestsResponse.from(claimPage, page);
+        return ClaimRequestsResponse.from(requestPage, page);
     }
 
     public MyClaimsResponse getMyClaims(Long userId, Integer page, Integer size) {
@@ -2,25 +2,24 @@ package com.eod.eod.domain.item.application;
 
 import com.eod.eod.common.annotation.RequireAdmin;
 import com.eod.eod.common.event.EodBusinessEvent;
-import com.eod.eod.domain.discord.application.DiscordBotClient;
+import com.eod.eod.domain.discord.application.DiscordNotificationOutbox;
 import org.springframework.context.ApplicationEventPublisher;
 import com.eod.eod.domain.item.exception.ItemConflictException;
 import com.eod.eod.domain.item.exception.ItemForbiddenException;
 import com.eod.eod.domain.item.exception.ItemResourceNotFoundException;
 import com.eod.eod.domain.item.infrastructure.GiveRecordRepository;
 import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
+import com.eod.eod.domain.item.infrastructure.ItemClaimTombstoneRepository;
 import com.eod.eod.domain.item.model.GiveRecord;
 import com.eod.eod.domain.item.model.Item;
 import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.item.model.ItemClaimTombstone;
 import com.eod.eod.domain.item.presentation.dto.response.ItemClaimResponse;
 import com.eod.eod.domain.user.model.User;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -31,9 +30,10 @@ public class ItemClaimService {
 
     private final ItemFacade itemFacade;
     private final ItemClaimRepository itemClaimRepository;
+    private final ItemClaimTombstoneRepository itemClaimTombstoneRepository;
     private final GiveRecordRepository giveRecordRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final DiscordBotClient discordBotClient;
+    private final DiscordNotificationOutbox discordNotificationOutbox;
 
     public ItemClaimResponse claimItem(Long itemId, LocalDate visitDate, User currentUser) {
         // 아이템 존재 여부 확인
@@ -55,6 +55,8 @@ public class ItemClaimService {
                 .build();
 
         itemClaimRepository.save(claim);
+        // 같은 트랜잭션에서 물품의 대기 중인 회수 요청 집계 갱신
+        itemFacade.refreshPendingClaimSummary(itemId);
 
         eventPublisher.publishEvent(new EodBusinessEvent("claim", "create", "success"));
         return ItemClaimResponse.success();
@@ -85,7 +87,6 @@ public class ItemClaimService {
                 .build();
         giveRecordRepository.save(giveRecord);
 
-        // afterCommit 시 알림 보낼 정보 캡처
         String itemName = item.getName();
         User claimant = claim.getClaimant();
         String approvedDiscordId = claimant.getDiscordId();
@@ -94,31 +95,28 @@ public class ItemClaimService {
         LocalDate visitDate = claim.getVisitDate();
 
         // 같은 물품에 대한 다른 PENDING 상태의 주장들을 모두 거절
+        // 대상을 잠금 조회로 확정한 뒤 그 ID만 UPDATE 1회로 거절하므로, 거절된 주장과 거절 알림 대상이 항상 일치함
         Long itemId = item.getId();
-        List<ItemClaim> otherPendingClaims = itemClaimRepository
-                .findByItemIdAndStatus(itemId, ItemClaim.ClaimStatus.PENDING);
-
-        List<String> autoRejectedDiscordIds = new ArrayList<>();
-        for (ItemClaim otherClaim : otherPendingClaims) {
-            if (!otherClaim.getId().equals(claimId)) {
-                otherClaim.reject();
-                String otherDiscordId = otherClaim.getClaimant().getDiscordId();
-                if (otherDiscordId != null && !otherDiscordId.isBlank()) {
-                    autoRejectedDiscordIds.add(otherDiscordId);
-                }
-            }
+        List<ItemClaim> autoRejectedClaims = itemClaimRepository.findByItemIdAndStatusExcludingForUpdate(
+                itemId, ItemClaim.ClaimStatus.PENDING, claimId);
+        List<String> autoRejectedDiscordIds = autoRejectedClaims.stream()
+                .map(rejected -> rejected.getClaimant().getDiscordId())
+                .filter(discordId -> discordId != null && !discordId.isEmpty())
+                .toList();
+        if (!autoRejectedClaims.isEmpty()) {
+            itemClaimRepository.updateStatusByIds(
+                    autoRejectedClaims.stream().map(ItemClaim::getId).toList(),
+                    ItemClaim.ClaimStatus.PENDING, ItemClaim.ClaimStatus.REJECTED);
         }
+        itemFacade.refreshPendingClaimSummary(itemId);
         eventPublisher.publishEvent(new EodBusinessEvent("claim", "approve", "success"));
 
-        registerAfterCommit(() -> {
-            if (approvedDiscordId != null && !approvedDiscordId.isBlank()) {
-                discordBotClient.notifyClaimApproved(approvedDiscordId, itemName, visitDate);
-            }
-            for (String rejectedDiscordId : autoRejectedDiscordIds) {
-                discordBotClient.notifyClaimRejected(rejectedDiscordId, itemName);
-            }
-            discordBotClient.notifyStaffPickupScheduled(claimantStudentCode, claimantName, visitDate, itemName);
-        });
+        // 같은 트랜잭션에서 아웃박스에 기록하고 발송은 릴레이가 담당
+        discordNotificationOutbox.enqueueClaimApproved(approvedDiscordId, itemName, visitDate);
+        for (String rejectedDiscordId : autoRejectedDiscordIds) {
+            discordNotificationOutbox.enqueueClaimRejected(rejectedDiscordId, itemName);
+        }
+        discordNotificationOutbox.enqueueStaffPickupScheduled(claimantStudentCode, claimantName, visitDate, itemName);
     }
 
     /**
@@ -132,31 +130,14 @@ public class ItemClaimService {
 
         // 거절 처리
         claim.reject();
+        itemFacade.refreshPendingClaimSummary(claim.getItem().getId());
 
-        // afterCommit 시 알림 보낼 정보 캡처
         String itemName = claim.getItem().getName();
         String rejectedDiscordId = claim.getClaimant().getDiscordId();
 
         eventPublisher.publishEvent(new EodBusinessEvent("claim", "reject", "success"));
 
-        registerAfterCommit(() -> {
-            if (rejectedDiscordId != null && !rejectedDiscordId.isBlank()) {
-                discordBotClient.notifyClaimRejected(rejectedDiscordId, itemName);
-            }
-        });
-    }
-
-    private void registerAfterCommit(Runnable action) {
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            action.run();
-            return;
-        }
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                action.run();
-            }
-        });
+        discordNotificationOutbox.enqueueClaimRejected(rejectedDiscordId, itemName);
     }
 
     /**
@@ -177,8 +158,13 @@ public class ItemClaimService {
             throw new ItemConflictException("대기 중인 소유권 주장만 취소할 수 있습니다.");
         }
 
-        // 취소 처리 - 레코드 삭제
+        // 취소 처리 - 레코드 삭제 (동기화 클라이언트용 삭제 기록을 같은 트랜잭션에 남김)
         itemClaimRepository.delete(claim);
+        itemClaimTombstoneRepository.save(ItemClaimTombstone.builder()
+                .claimId(claim.getId())
+                .claimantId(currentUser.getId())
+                .build());
+        itemFacade.refreshPendingClaimSummary(claim.getItem().getId());
         eventPublisher.publishEvent(new EodBusinessEvent("claim", "cancel", "success"));
     }
 }
@@ -2,6 +2,7 @@ package com.eod.eod.domain.item.application;
 
 import com.eod.eod.common.annotation.RequireAdmin;
 import com.eod.eod.common.event.EodBusinessEvent;
+import com.eod.eod.domain.item.application.event.ItemChangedEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import com.eod.eod.domain.item.model.Item;
 import com.eod.eod.domain.user.model.User;
@@ -25,5 +26,6 @@ public class ItemDeleteService {
         // 물품 논리 삭제
         item.softDelete();
         eventPublisher.publishEvent(new EodBusinessEvent("item", "delete", "success"));
+        eventPublisher.publishEvent(ItemChangedEvent.deleted(itemId));
     }
 }
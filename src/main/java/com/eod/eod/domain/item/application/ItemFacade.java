@@ -1,11 +1,15 @@
 package com.eod.eod.domain.item.application;
 
+import com.eod.eod.common.util.ChangeVersion;
 import com.eod.eod.domain.item.exception.ItemResourceNotFoundException;
 import com.eod.eod.domain.item.infrastructure.ItemRepository;
 import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.model.ItemClaim;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -13,6 +17,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItemFacade {
 
+    // 보정 쿼리에서 방문일 NULL 비교용 기준값
+    private static final LocalDate NO_VISIT_DATE = LocalDate.of(1970, 1, 1);
+
     private final ItemRepository itemRepository;
 
     // ID로 Item 조회 (존재하지 않으면 예외 발생)
@@ -33,7 +40,29 @@ public class ItemFacade {
         return itemRepository.findByStatusAndCreatedAtBeforeAndDeletedAtIsNull(status, threshold);
     }
 
-    public List<Item> findByStatusAndDiscardedAtBefore(Item.ItemStatus status, LocalDateTime threshold) {
-        return itemRepository.findByStatusAndDiscardedAtBeforeAndDeletedAtIsNull(status, threshold);
+    public List<Long> findIdsByStatusAndDiscardedAtBefore(Item.ItemStatus status, LocalDateTime threshold,
+                                                          Long lastId, int limit) {
+        return itemRepository.findIdsByStatusAndDiscardedAtBefore(status, threshold, lastId, PageRequest.of(0, limit));
+    }
+
+    public int updateStatusByIds(List<Long> ids, Item.ItemStatus from, Item.ItemStatus to) {
+        return itemRepository.updateStatusByIds(ids, from, to, ChangeVersion.next());
+    }
+
+    // 대기 중인 회수 요청 집계 컬럼 재계산 (회수 요청을 바꾼 트랜잭션 안에서 호출)
+    public void refreshPendingClaimSummary(Long itemId) {
+        itemRepository.refreshPendingClaimSummary(itemId, ItemClaim.ClaimStatus.PENDING);
+    }
+
+    public long sumPendingClaimCount() {
+        return itemRepository.sumPendingClaimCount();
+    }
+
+    public List<Long> findIdsAfter(Long lastId, int limit) {
+        return itemRepository.findIdsAfter(lastId, PageRequest.of(0, limit));
+    }
+
+    public int reconcilePendingClaimSummaries(List<Long> ids) {
+        return itemRepository.reconcilePendingClaimSummaries(ids, ItemClaim.ClaimStatus.PENDING, NO_VISIT_DATE);
     }
 }
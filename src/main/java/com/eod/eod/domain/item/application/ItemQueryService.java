@@ -1,29 +1,41 @@
 package com.eod.eod.domain.item.application;
 
-import com.eod.eod.common.util.DatePrecisionFormatter;
+import com.eod.eod.common.util.ChangeVersion;
+import com.eod.eod.common.util.EntityTag;
 import com.eod.eod.domain.item.exception.ItemResourceNotFoundException;
+import com.eod.eod.domain.item.infrastructure.ItemKeyset;
+import com.eod.eod.domain.item.infrastructure.ItemKeysetRow;
 import com.eod.eod.domain.item.infrastructure.ItemRepositoryCustom;
+import com.eod.eod.domain.item.infrastructure.ItemSearchFilter;
+import com.eod.eod.domain.item.infrastructure.ItemSearchHits;
+import com.eod.eod.domain.item.infrastructure.ItemSearchIndex;
 import com.eod.eod.domain.item.model.Item;
 import com.eod.eod.domain.item.presentation.dto.request.ItemSearchSort;
 import com.eod.eod.domain.item.presentation.dto.response.ItemDetailResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ItemSearchResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
-import com.eod.eod.domain.place.infrastructure.PlaceRepository;
-import com.eod.eod.domain.place.model.Place;
+import com.eod.eod.domain.place.application.PlaceCatalog;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,33 +43,57 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ItemQueryService {
 
-    private final ItemFacade itemFacade;
     private final ItemRepositoryCustom itemRepository;
-    private final PlaceRepository placeRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemVersionCache itemVersionCache;
+    private final PlaceCatalog placeCatalog;
+
+    // 이보다 최근 버전은 더 작은 버전의 변경이 아직 커밋 중일 수 있음
+    @Value("${item.sync.commit-lag:PT10S}")
+    private Duration commitLag;
+
+    /**
+     * 물품 상세 조회의 검증값 (없거나 삭제된 물품이면 빈 값 - 본 조회에서 404로 응답)
+     * 버전 캐시와 장소 카탈로그만 사용하므로 재검증 요청은 items 테이블을 읽지 않습니다.
+     * 캐시 적중 시 커넥션도 잡지 않도록 트랜잭션을 열지 않습니다.
+     * 신고자/장소 이름은 물품 변경 버전과 무관하게 바뀌므로 Last-Modified 없이 ETag로만 검증합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<EntityTag> getItemDetailTag(Long itemId) {
+        return itemVersionCache.find(itemId)
+                .map(row -> EntityTag.of(-1L,
+                        "item", itemId, row.changeVersion(), row.reporterStudentCode(), row.reporterName(),
+                        placeCatalog.findName(row.foundPlaceId()).orElse(null)));
+    }
+
+    /**
+     * 물품 검색의 검증값 - 같은 검색 조건이면 물품 최신 버전, 신고자 정보 최신 버전, 장소 카탈로그, 검색 색인 세대가
+     * 바뀌기 전까지 응답이 같음
+     * 색인 적재/resync나 DB 폴백 전환으로 같은 URL의 결과가 달라질 수 있으므로 색인 세대를 포함하고,
+     * 최신 버전이 commit-lag 이내면 그보다 작은 버전의 변경이 아직 커밋 중일 수 있으므로 검증값을 주지 않습니다.
+     * 버전 밖의 입력이 섞여 있으므로 Last-Modified 없이 ETag로만 검증합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<EntityTag> getSearchTag(String queryString) {
+        long latestVersion = itemVersionCache.latestVersion();
+        long reporterVersion = itemVersionCache.latestReporterVersion();
+        long stableVersion = ChangeVersion.stableBefore(commitLag);
+        if (latestVersion > stableVersion || reporterVersion > stableVersion) {
+            return Optional.empty();
+        }
+        return Optional.of(EntityTag.of(-1L,
+                "search", queryString, latestVersion, reporterVersion, placeCatalog.tag().value(),
+                itemSearchIndex.generation()));
+    }
 
     public ItemDetailResponse getItemDetail(Long itemId) {
-        Item item = itemFacade.getItemById(itemId);
-
-        Place place = placeRepository.findById(item.getFoundPlaceId())
-                .orElseThrow(() -> new ItemResourceNotFoundException("등록되지 않은 장소입니다."));
-
-        String formattedFoundAt = DatePrecisionFormatter.format(
-                item.getFoundAt(),
-                item.getFoundAtPrecision()
-        );
-
-        return ItemDetailResponse.builder()
-                .id(item.getId())
-                .name(item.getName())
-                .reporterStudentCode(item.getStudent() != null ? item.getStudent().getStudentCode() : null)
-                .reporterName(item.getStudent() != null ? item.getStudent().getName() : null)
-                .imageUrl(item.getImage())
-                .foundAt(formattedFoundAt)
-                .foundPlace(place.getPlace())
-                .foundPlaceDetail(item.getFoundPlaceDetail())
-                .category(item.getCategory())
-                .disposalDate(item.getDiscardedAt())
-                .build();
+        ItemDetailResponse detail = itemRepository.findItemDetail(itemId)
+                .orElseThrow(() -> new ItemResourceNotFoundException("해당 물품을 찾을 수 없습니다."));
+
+        if (detail.getFoundPlace() == null) {
+            throw new ItemResourceNotFoundException("등록되지 않은 장소입니다.");
+        }
+        return detail;
     }
 
     public ItemSearchResponse searchItems(String query, List<Long> placeIds, List<String> statuses,
@@ -70,15 +106,113 @@ public class ItemQueryService {
         List<Item.ItemCategory> itemCategories = parseCategories(categories);
         String trimmedQuery = parseQuery(query);
 
-        Page<Item> itemPage = itemRepository.searchItems(trimmedQuery, placeIds, itemStatuses,
+        Page<ItemSummaryResponse> itemPage = findItemPage(trimmedQuery, placeIds, itemStatuses,
                                                           foundAtFrom, foundAtTo,
                                                           itemCategories, pageable);
 
-        Map<Long, String> placeMap = buildPlaceMap(itemPage.getContent());
+        return ItemSearchResponse.from(itemPage);
+    }
 
-        Page<ItemSummaryResponse> dtoPage = itemPage.map(item -> toSummaryDto(item, placeMap));
+    /**
+     * 커서 기반 물품 검색 (모바일 무한 스크롤용)
+     * (습득일, ID) 키셋으로 다음/이전 구간만 조회하며 COUNT 쿼리를 실행하지 않습니다.
+     */
+    public ItemSearchResponse searchItemsByCursor(String query, List<Long> placeIds, List<String> statuses,
+                                                  LocalDate foundAtFrom, LocalDate foundAtTo,
+                                                  List<String> categories, String sort, String cursor, int size) {
+        ItemSearchSort sortOrder = parseSortOrder(sort);
+        ItemSearchCursor decodedCursor = ItemSearchCursor.decode(cursor);
+        if (decodedCursor != null) {
+            decodedCursor.validateSort(sortOrder);
+        }
+        boolean backward = decodedCursor != null && decodedCursor.backward();
+        boolean ascending = sortOrder.getDirection().isAscending();
 
-        return ItemSearchResponse.from(dtoPage);
+        List<Item.ItemStatus> itemStatuses = parseStatuses(statuses);
+        List<Item.ItemCategory> itemCategories = parseCategories(categories);
+        String trimmedQuery = parseQuery(query);
+        ItemKeyset keyset = decodedCursor != null ? decodedCursor.toKeyset() : null;
+
+        // 이전 페이지는 정렬 반대 방향으로 조회한 뒤 뒤집어서 반환
+        // 검색 색인을 쓸 수 있으면 색인에서 경계 이후 size + 1건의 ID를 정한 뒤 해당 물품만 DB에서 조회
+        Optional<List<Long>> hitIds = trimmedQuery == null ? Optional.empty()
+                : itemSearchIndex.searchAfter(trimmedQuery,
+                        ItemSearchFilter.of(placeIds, itemStatuses, foundAtFrom, foundAtTo, itemCategories),
+                        ascending != backward, keyset, size + 1);
+        List<ItemKeysetRow> rows;
+        boolean hasMore;
+        if (hitIds.isPresent()) {
+            hasMore = hitIds.get().size() > size;
+            List<Long> pageIds = hasMore ? hitIds.get().subList(0, size) : hitIds.get();
+            rows = findRowsInOrder(pageIds, placeIds, itemStatuses, foundAtFrom, foundAtTo, itemCategories);
+        } else {
+            List<ItemKeysetRow> fetched = itemRepository.searchItemsByKeyset(trimmedQuery, placeIds, itemStatuses,
+                    foundAtFrom, foundAtTo, itemCategories, keyset, ascending != backward, size + 1);
+            hasMore = fetched.size() > size;
+            rows = hasMore ? fetched.subList(0, size) : fetched;
+        }
+
+        List<ItemKeysetRow> items = new ArrayList<>(rows);
+        if (backward) {
+            Collections.reverse(items);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!items.isEmpty()) {
+            if (backward || hasMore) {
+                nextCursor = ItemSearchCursor.forward(items.get(items.size() - 1), sortOrder).encode();
+            }
+            if (backward ? hasMore : decodedCursor != null) {
+                prevCursor = ItemSearchCursor.backward(items.get(0), sortOrder).encode();
+            }
+        }
+
+        List<ItemSummaryResponse> content = items.stream()
+                .map(ItemKeysetRow::summary)
+                .toList();
+
+        return ItemSearchResponse.ofCursor(content, size, nextCursor, prevCursor);
+    }
+
+    /**
+     * 검색어가 있으면 검색 색인에서 필터/정렬/페이지를 계산해 해당 페이지 물품만 조회하고,
+     * 색인이 준비되지 않았거나 색인으로 처리할 수 없는 검색어면 DB LIKE 검색으로 폴백
+     */
+    private Page<ItemSummaryResponse> findItemPage(String trimmedQuery, List<Long> placeIds, List<Item.ItemStatus> itemStatuses,
+                                                   LocalDate foundAtFrom, LocalDate foundAtTo,
+                                                   List<Item.ItemCategory> itemCategories, Pageable pageable) {
+        if (trimmedQuery != null) {
+            Sort.Order foundAtOrder = pageable.getSort().getOrderFor("foundAt");
+            boolean ascending = foundAtOrder != null && foundAtOrder.isAscending();
+            Optional<ItemSearchHits> hits = itemSearchIndex.searchPage(trimmedQuery,
+                    ItemSearchFilter.of(placeIds, itemStatuses, foundAtFrom, foundAtTo, itemCategories),
+                    ascending, pageable.getOffset(), pageable.getPageSize());
+            if (hits.isPresent()) {
+                List<ItemSummaryResponse> content = findRowsInOrder(hits.get().ids(), placeIds, itemStatuses,
+                        foundAtFrom, foundAtTo, itemCategories).stream()
+                        .map(ItemKeysetRow::summary)
+                        .toList();
+                return new PageImpl<>(content, pageable, hits.get().total());
+            }
+        }
+        return itemRepository.searchItems(trimmedQuery, placeIds, itemStatuses,
+                foundAtFrom, foundAtTo, itemCategories, pageable);
+    }
+
+    /**
+     * 검색 색인이 정한 순서대로 해당 물품 행을 조회 (그 사이 삭제되었거나 필터에서 벗어난 물품은 빠짐)
+     */
+    private List<ItemKeysetRow> findRowsInOrder(List<Long> ids, List<Long> placeIds, List<Item.ItemStatus> itemStatuses,
+                                                LocalDate foundAtFrom, LocalDate foundAtTo,
+                                                List<Item.ItemCategory> itemCategories) {
+        Map<Long, ItemKeysetRow> rowsById = itemRepository.findSearchRowsByIds(ids, placeIds, itemStatuses,
+                        foundAtFrom, foundAtTo, itemCategories).stream()
+                .collect(Collectors.toMap(row -> row.summary().getId(), Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private List<Item.ItemStatus> parseStatuses(List<String> statuses) {
@@ -117,45 +251,13 @@ public class ItemQueryService {
     }
 
     private Sort parseSort(String sort) {
-        if (sort == null || sort.isBlank()) {
-            return ItemSearchSort.LATEST.toSort();
-        }
-        ItemSearchSort sortOrder = ItemSearchSort.valueOf(sort.trim().toUpperCase());
-        return sortOrder.toSort();
+        return parseSortOrder(sort).toSort();
     }
 
-
-    private Map<Long, String> buildPlaceMap(List<Item> items) {
-        if (items == null || items.isEmpty()) {
-            return java.util.Collections.emptyMap();
+    private ItemSearchSort parseSortOrder(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return ItemSearchSort.LATEST;
         }
-        
-        Set<Long> placeIds = items.stream()
-                .map(Item::getFoundPlaceId)
-                .collect(Collectors.toSet());
-
-        return placeRepository.findAllById(placeIds).stream()
-                .collect(Collectors.toMap(Place::getId, Place::getPlace));
-    }
-
-
-    private ItemSummaryResponse toSummaryDto(Item item, Map<Long, String> placeMap) {
-        String formattedFoundAt = DatePrecisionFormatter.format(
-                item.getFoundAt(),
-                item.getFoundAtPrecision()
-        );
-
-        return ItemSummaryResponse.builder()
-                .id(item.getId())
-                .name(item.getName())
-                .reporterName(item.getStudent() != null ? item.getStudent().getName() : null)
-                .foundAt(formattedFoundAt)
-                .foundPlace(placeMap.getOrDefault(item.getFoundPlaceId(), ""))
-                .placeDetail(item.getFoundPlaceDetail())
-                .imageUrl(item.getImage())
-                .status(item.getStatus().name())
-                .disposalDate(item.getDiscardedAt())
-                .category(item.getCategory())
-                .build();
+        return ItemSearchSort.valueOf(sort.trim().toUpperCase());
     }
 }
@@ -5,12 +5,13 @@ import com.eod.eod.common.event.EodBusinessEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import com.eod.eod.common.util.DatePrecisionParser;
 import com.eod.eod.common.util.DatePrecisionParser.ParsedDate;
+import com.eod.eod.domain.item.application.event.ItemChangedEvent;
 import com.eod.eod.domain.item.application.command.ItemRegistrationCommand;
 import com.eod.eod.domain.item.application.command.ItemUpdateCommand;
 import com.eod.eod.domain.item.exception.ItemBadRequestException;
 import com.eod.eod.domain.item.exception.ItemResourceNotFoundException;
 import com.eod.eod.domain.item.model.Item;
-import com.eod.eod.domain.place.infrastructure.PlaceRepository;
+import com.eod.eod.domain.place.application.PlaceCatalog;
 import com.eod.eod.domain.user.model.User;
 import com.eod.eod.domain.user.infrastructure.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ItemRegistrationService {
 
     private final ItemFacade itemFacade;
-    private final PlaceRepository placeRepository;
+    private final PlaceCatalog placeCatalog;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -45,6 +46,7 @@ public class ItemRegistrationService {
 
         Item savedItem = itemFacade.save(item);
         eventPublisher.publishEvent(new EodBusinessEvent("item", "register", "success"));
+        eventPublisher.publishEvent(ItemChangedEvent.upserted(savedItem));
         return savedItem.getId();
     }
 
@@ -86,7 +88,7 @@ public class ItemRegistrationService {
         if (placeId == null) {
             throw new ItemBadRequestException("필수 항목이 누락되었습니다.");
         }
-        if (!placeRepository.existsById(placeId)) {
+        if (!placeCatalog.exists(placeId)) {
             throw new ItemResourceNotFoundException("등록되지 않은 장소입니다.");
         }
     }
@@ -109,5 +111,6 @@ public class ItemRegistrationService {
                 parsedDate.getPrecision()
         );
         eventPublisher.publishEvent(new EodBusinessEvent("item", "update", "success"));
+        eventPublisher.publishEvent(ItemChangedEvent.upserted(item));
     }
 }
@@ -1,19 +1,22 @@
 package com.eod.eod.domain.item.application;
 
+import com.eod.eod.common.annotation.SchedulerLock;
+import com.eod.eod.common.event.EodSchedulerChunkEvent;
 import com.eod.eod.common.event.EodSchedulerRunEvent;
 import com.eod.eod.domain.item.model.Item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -22,25 +25,29 @@ public class ItemSchedulerService {
 
     private final ItemFacade itemFacade;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     // 폐기 유예 기간 (2주)
     private static final int GRACE_PERIOD_WEEKS = 2;
 
+    // 한 트랜잭션에서 처리할 물품 수
+    @Value("${item.scheduler.chunk-size:500}")
+    private int chunkSize;
+
     /**
      * 매일 자정(00:00)에 실행되어 폐기일이 2주 이내로 남은 분실물을 폐기 예정 상태로 변경
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
+    @SchedulerLock(name = "auto_mark_to_be_discarded")
     public void autoMarkItemsAsToBeDiscarded() {
         LocalDateTime twoWeeksLater = LocalDateTime.now().plusWeeks(GRACE_PERIOD_WEEKS);
 
         processScheduledTask(
                 "폐기 예정 전환",
                 "auto_mark_to_be_discarded",
-                () -> itemFacade.findByStatusAndDiscardedAtBefore(Item.ItemStatus.LOST, twoWeeksLater),
-                Item::markAsToBeDiscarded,
-                item -> String.format("ID: %d, 이름: %s, 등록일: %s, 폐기 예정일: %s",
-                        item.getId(), item.getName(), item.getCreatedAt(), item.getDiscardedAt())
+                Item.ItemStatus.LOST,
+                Item.ItemStatus.TO_BE_DISCARDED,
+                twoWeeksLater
         );
     }
 
@@ -48,53 +55,133 @@ public class ItemSchedulerService {
      * 매일 자정(00:00)에 실행되어 폐기 예정일이 지난 물품을 자동으로 폐기 처리
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
+    @SchedulerLock(name = "auto_discard_expired_items")
     public void autoDiscardExpiredItems() {
         LocalDateTime now = LocalDateTime.now();
 
         processScheduledTask(
                 "자동 폐기",
                 "auto_discard_expired_items",
-                () -> itemFacade.findByStatusAndDiscardedAtBefore(Item.ItemStatus.TO_BE_DISCARDED, now),
-                Item::discard,
-                item -> String.format("ID: %d, 이름: %s, 폐기 예정일: %s",
-                        item.getId(), item.getName(), item.getDiscardedAt())
+                Item.ItemStatus.TO_BE_DISCARDED,
+                Item.ItemStatus.DISCARDED,
+                now
         );
     }
 
+    /**
+     * 매일 새벽(03:30)과 애플리케이션 기동 시 물품의 대기 중인 회수 요청 집계를 item_claims 기준으로 보정
+     *
+     * 집계는 회수 요청 변경 트랜잭션에서 갱신되지만, 동시 요청이나 직접 수정된 데이터로 어긋난 값을 바로잡습니다.
+     * 물품을 id 키셋 청크로 나누어 청크마다 별도 트랜잭션에서 어긋난 물품만 UPDATE 합니다.
+     */
+    @Scheduled(cron = "${item.claim-summary.reconcile-cron:0 30 3 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(name = "reconcile_pending_claim_summary")
+    public void reconcilePendingClaimSummaries() {
+        String taskName = "회수 요청 집계 보정";
+        String metricTaskName = "reconcile_pending_claim_summary";
+        log.info("{} 스케줄러 시작", taskName);
+        long startedAt = System.nanoTime();
+
+        long lastId = 0L;
+        int correctedCount = 0;
+        boolean failed = false;
+
+        while (true) {
+            long chunkStartedAt = System.nanoTime();
+            List<Long> ids = itemFacade.findIdsAfter(lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            try {
+                Integer corrected = transactionTemplate.execute(status -> itemFacade.reconcilePendingClaimSummaries(ids));
+                int chunkCorrected = corrected != null ? corrected : 0;
+                correctedCount += chunkCorrected;
+
+                Duration chunkDuration = Duration.ofNanos(System.nanoTime() - chunkStartedAt);
+                eventPublisher.publishEvent(new EodSchedulerChunkEvent(metricTaskName, chunkCorrected, chunkDuration));
+            } catch (Exception e) {
+                // 보정은 멱등이므로 실패한 청크는 다음 실행에서 다시 보정됨
+                failed = true;
+                log.error("{} 청크 처리 중 오류 발생 - ID {}~{}, 오류: {}", taskName, ids.get(0), lastId, e.getMessage());
+            }
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (correctedCount > 0) {
+            log.warn("{} - 집계가 어긋난 물품 {}개를 보정했습니다.", taskName, correctedCount);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        String result = failed ? "partial_failure" : "success";
+        eventPublisher.publishEvent(new EodSchedulerRunEvent(metricTaskName, result, correctedCount, duration));
+        log.info("{} 스케줄러 완료 - {}개 물품 보정, {}ms", taskName, correctedCount, duration.toMillis());
+    }
+
     /**
      * 스케줄 작업 공통 처리 로직
+     *
+     * 대상 ID를 id 오름차순 키셋으로 chunkSize만큼 읽고, 청크마다 별도 트랜잭션에서 UPDATE 한 번으로 상태를 전환합니다.
+     * 전환된 물품은 조회 조건(status)에서 빠지므로, 중간에 실패하거나 서버가 내려가도
+     * 다음 실행은 커밋된 청크를 다시 처리하지 않고 남은 물품부터 이어서 처리합니다.
      */
     private void processScheduledTask(
             String taskName,
             String metricTaskName,
-            Supplier<List<Item>> itemsFetcher,
-            Consumer<Item> itemProcessor,
-            Function<Item, String> itemInfoProvider
+            Item.ItemStatus from,
+            Item.ItemStatus to,
+            LocalDateTime threshold
     ) {
         log.info("{} 스케줄러 시작", taskName);
+        long startedAt = System.nanoTime();
 
-        List<Item> items = itemsFetcher.get();
+        long lastId = 0L;
+        int processedCount = 0;
+        int chunkCount = 0;
+        boolean failed = false;
 
-        if (items.isEmpty()) {
-            log.info("{} 대상 물품이 없습니다.", taskName);
-            eventPublisher.publishEvent(new EodSchedulerRunEvent(metricTaskName, "success", 0));
-            return;
-        }
+        while (true) {
+            long chunkStartedAt = System.nanoTime();
+            List<Long> ids = itemFacade.findIdsByStatusAndDiscardedAtBefore(from, threshold, lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
 
-        int processedCount = 0;
-        for (Item item : items) {
             try {
-                itemProcessor.accept(item);
-                processedCount++;
-                log.info("{} 완료 - {}", taskName, itemInfoProvider.apply(item));
+                Integer updated = transactionTemplate.execute(status -> itemFacade.updateStatusByIds(ids, from, to));
+                int updatedCount = updated != null ? updated : 0;
+                processedCount += updatedCount;
+                chunkCount++;
+
+                Duration chunkDuration = Duration.ofNanos(System.nanoTime() - chunkStartedAt);
+                eventPublisher.publishEvent(new EodSchedulerChunkEvent(metricTaskName, updatedCount, chunkDuration));
+                log.info("{} 청크 완료 - ID {}~{}, {}개 처리, {}ms",
+                        taskName, ids.get(0), lastId, updatedCount, chunkDuration.toMillis());
             } catch (Exception e) {
-                log.error("{} 중 오류 발생 - ID: {}, 오류: {}", taskName, item.getId(), e.getMessage());
+                // 실패한 청크는 상태가 그대로이므로 다음 실행에서 다시 대상이 됨
+                failed = true;
+                log.error("{} 청크 처리 중 오류 발생 - ID {}~{}, 오류: {}", taskName, ids.get(0), lastId, e.getMessage());
+            }
+
+            if (ids.size() < chunkSize) {
+                break;
             }
         }
 
-        String result = processedCount == items.size() ? "success" : "partial_failure";
-        eventPublisher.publishEvent(new EodSchedulerRunEvent(metricTaskName, result, processedCount));
-        log.info("{} 스케줄러 완료 - 총 {}개 물품 처리", taskName, processedCount);
+        if (processedCount == 0 && !failed) {
+            log.info("{} 대상 물품이 없습니다.", taskName);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        String result = failed ? "partial_failure" : "success";
+        eventPublisher.publishEvent(new EodSchedulerRunEvent(metricTaskName, result, processedCount, duration));
+        log.info("{} 스케줄러 완료 - 총 {}개 물품 처리 ({}개 청크, {}ms)",
+                taskName, processedCount, chunkCount, duration.toMillis());
     }
 }
@@ -0,0 +1,76 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.domain.item.exception.ItemBadRequestException;
+import com.eod.eod.domain.item.infrastructure.ItemKeyset;
+import com.eod.eod.domain.item.infrastructure.ItemKeysetRow;
+import com.eod.eod.domain.item.presentation.dto.request.ItemSearchSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 물품 검색 커서
+ *
+ * (습득일, ID) 경계와 이동 방향, 정렬을 Base64 URL 문자열로 인코딩하여
+ * 클라이언트에는 내부 구조를 노출하지 않는 불투명한 값으로 전달합니다.
+ * 경계의 의미가 정렬에 따라 달라지므로 다른 정렬로 재사용한 커서는 거부합니다.
+ */
+public record ItemSearchCursor(boolean backward, ItemSearchSort sort, LocalDateTime foundAt, Long id) {
+
+    private static final String FORWARD = "N";
+    private static final String BACKWARD = "P";
+    private static final String DELIMITER = "|";
+
+    public static ItemSearchCursor forward(ItemKeysetRow row, ItemSearchSort sort) {
+        return new ItemSearchCursor(false, sort, row.foundAt(), row.summary().getId());
+    }
+
+    public static ItemSearchCursor backward(ItemKeysetRow row, ItemSearchSort sort) {
+        return new ItemSearchCursor(true, sort, row.foundAt(), row.summary().getId());
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지를 의미하므로 null 반환)
+     */
+    public static ItemSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 4 || !(FORWARD.equals(parts[0]) || BACKWARD.equals(parts[0]))) {
+                throw new ItemBadRequestException("유효하지 않은 커서입니다.");
+            }
+            return new ItemSearchCursor(
+                    BACKWARD.equals(parts[0]),
+                    ItemSearchSort.valueOf(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ItemBadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = (backward ? BACKWARD : FORWARD) + DELIMITER + sort.name() + DELIMITER + foundAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청 정렬과 커서를 만든 정렬이 같은지 검증 (다르면 엉뚱한 구간을 반환하므로 400)
+     */
+    public void validateSort(ItemSearchSort requested) {
+        if (sort != requested) {
+            throw new ItemBadRequestException("커서와 정렬 조건이 일치하지 않습니다. 첫 페이지부터 다시 조회해 주세요.");
+        }
+    }
+
+    public ItemKeyset toKeyset() {
+        return new ItemKeyset(foundAt, id);
+    }
+}
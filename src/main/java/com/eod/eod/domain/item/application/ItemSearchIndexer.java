@@ -0,0 +1,159 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.common.util.ChangeVersion;
+import com.eod.eod.domain.item.application.event.ItemChangedEvent;
+import com.eod.eod.domain.item.infrastructure.ItemRepositoryCustom;
+import com.eod.eod.domain.item.infrastructure.ItemSearchChange;
+import com.eod.eod.domain.item.infrastructure.ItemSearchDocument;
+import com.eod.eod.domain.item.infrastructure.ItemSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 물품 검색 색인 적재 및 증분 갱신
+ *
+ * 애플리케이션 기동 후 전체 물품을 ID 순으로 나눠 적재하고,
+ * 이후에는 커밋된 등록/수정/삭제 이벤트만 반영합니다.
+ *
+ * 이벤트는 이 인스턴스에서 커밋된 등록/수정/삭제만 전달되므로, resync 주기마다 변경 버전 기준으로
+ * 다른 인스턴스에서 바뀐 물품과 상태 전환(지급, 폐기 등)도 읽어 반영합니다. 색인은 인스턴스마다 있으므로 분산 락 없이 모든 인스턴스가 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndexer {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ItemRepositoryCustom itemRepository;
+    private final ItemSearchIndex itemSearchIndex;
+
+    @Value("${item.search.index.enabled:true}")
+    private boolean enabled;
+
+    // 이보다 최근 버전은 더 작은 버전의 변경이 아직 커밋 중일 수 있음
+    @Value("${item.sync.commit-lag:PT10S}")
+    private Duration commitLag;
+
+    // 색인에 반영을 마친 (변경 버전, ID) 경계 (rebuild/resync가 this로 직렬화되어 보호)
+    private long syncedVersion;
+    private long syncedId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            log.info("물품 검색 색인 비활성화 - DB 검색만 사용합니다.");
+            return;
+        }
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        // 적재 시작 전에 커밋된 변경은 적재 결과에 포함되므로 이 버전 이후만 resync로 반영
+        long loadedUpTo = ChangeVersion.stableBefore(commitLag);
+        boolean finished = false;
+        itemSearchIndex.beginRebuild();
+        try {
+            Long lastId = null;
+            int loaded = 0;
+            while (true) {
+                List<ItemSearchDocument> documents = itemRepository.findSearchDocuments(lastId, LOAD_BATCH_SIZE);
+                if (documents.isEmpty()) {
+                    break;
+                }
+                documents.forEach(itemSearchIndex::load);
+                loaded += documents.size();
+                lastId = documents.get(documents.size() - 1).id();
+                if (documents.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+            }
+            itemSearchIndex.finishRebuild();
+            finished = true;
+            syncedVersion = loadedUpTo;
+            syncedId = 0L;
+            log.info("물품 검색 색인 적재 완료 - {}건, {}ms", loaded, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("물품 검색 색인 적재 실패 - DB 검색으로 폴백합니다.", e);
+        } finally {
+            if (!finished) {
+                itemSearchIndex.abortRebuild();
+            }
+        }
+    }
+
+    /**
+     * 마지막 반영 이후 변경된 물품을 (변경 버전, ID) 순으로 읽어 색인에 반영
+     * 적재가 실패해 색인이 준비되지 않았으면 전체 적재를 다시 시도합니다.
+     * 중간에 실패하면 반영한 행까지만 경계를 옮기고 다음 주기에 이어서 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${item.search.index.resync-interval-ms:30000}",
+            initialDelayString = "${item.search.index.resync-interval-ms:30000}")
+    public synchronized void resync() {
+        if (!enabled) {
+            return;
+        }
+        if (!itemSearchIndex.isReady()) {
+            rebuild();
+            return;
+        }
+
+        long upTo = ChangeVersion.stableBefore(commitLag);
+        int applied = 0;
+        try {
+            while (true) {
+                List<ItemSearchChange> rows = itemRepository.findSearchChangesSince(syncedVersion, syncedId, upTo, LOAD_BATCH_SIZE);
+                for (ItemSearchChange row : rows) {
+                    apply(row);
+                    syncedVersion = row.changeVersion();
+                    syncedId = row.document().id();
+                }
+                applied += rows.size();
+                if (rows.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (upTo > syncedVersion) {
+                syncedVersion = upTo;
+                syncedId = 0L;
+            }
+        } catch (Exception e) {
+            log.warn("물품 검색 색인 resync 실패 - 다음 주기에 이어서 반영합니다.", e);
+        }
+        if (applied > 0) {
+            log.debug("물품 검색 색인 resync - {}건 반영", applied);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (!enabled || event.itemId() == null) {
+            return;
+        }
+        if (event.deleted()) {
+            itemSearchIndex.remove(event.itemId());
+        } else {
+            itemSearchIndex.upsert(new ItemSearchDocument(event.itemId(), event.name(), event.foundPlaceDetail(),
+                    event.category(), event.foundPlaceId(), event.status(), event.foundAt()));
+        }
+    }
+
+    private void apply(ItemSearchChange row) {
+        if (row.deletedAt() != null) {
+            itemSearchIndex.remove(row.document().id());
+        } else {
+            itemSearchIndex.upsert(row.document());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.common.annotation.SchedulerLock;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.common.util.ChangeVersion;
+import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
+import com.eod.eod.domain.item.infrastructure.ItemClaimTombstoneRepository;
+import com.eod.eod.domain.item.infrastructure.ItemRepositoryCustom;
+import com.eod.eod.domain.item.infrastructure.ItemSyncRow;
+import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSyncResponse;
+import com.eod.eod.domain.item.presentation.dto.response.MyClaimResponse;
+import com.eod.eod.domain.item.presentation.dto.response.MyClaimsSyncResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모바일 델타 동기화
+ *
+ * 물품과 회수 요청은 변경될 때마다 단조 증가하는 변경 버전을 받으므로, 클라이언트는 직전 응답의 highWaterMark를
+ * since로 보내 그 이후 바뀐 행과 목록에서 빠진 행의 ID만 받습니다.
+ * 버전은 커밋 전에 발급되므로 commit-lag보다 최근 버전은 highWaterMark로 확정하지 않고 다음 동기화에서 다시 확인합니다.
+ *
+ * 취소된 회수 요청은 행이 삭제되므로 삭제 기록(tombstone)을 tombstone-retention 동안 보관하고,
+ * since가 그보다 오래되었으면 전체 목록으로 응답해 클라이언트가 로컬 목록을 교체하게 합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ItemSyncService {
+
+    // 전체 동기화를 나타내는 since (버전 0인 기존 행까지 포함)
+    static final long FULL_SYNC = -1L;
+
+    private final ItemRepositoryCustom itemRepository;
+    private final ItemClaimRepository itemClaimRepository;
+    private final ItemClaimTombstoneRepository itemClaimTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration commitLag;
+    private final Duration tombstoneRetention;
+
+    public ItemSyncService(ItemRepositoryCustom itemRepository,
+                           ItemClaimRepository itemClaimRepository,
+                           ItemClaimTombstoneRepository itemClaimTombstoneRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${item.sync.commit-lag:PT10S}") Duration commitLag,
+                           @Value("${item.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.itemRepository = itemRepository;
+        this.itemClaimRepository = itemClaimRepository;
+        this.itemClaimTombstoneRepository = itemClaimTombstoneRepository;
+        this.eventPublisher = eventPublisher;
+        this.commitLag = commitLag;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * 물품 목록 델타 동기화 - (변경 버전, ID) 키셋으로 size만큼씩 조회
+     * since가 없으면 전체 동기화로 보고 현재 목록에 보이는 물품만 반환합니다.
+     */
+    public ItemSyncResponse syncItems(Long since, Long sinceId, int size) {
+        long from = since != null ? since : FULL_SYNC;
+        long fromId = since != null && sinceId != null ? sinceId : 0L;
+        long upTo = ChangeVersion.stableBefore(commitLag);
+
+        List<ItemSyncRow> rows = from <= upTo
+                ? itemRepository.findChangedSince(from, fromId, upTo, size + 1)
+                : List.of();
+        boolean hasMore = rows.size() > size;
+        List<ItemSyncRow> page = hasMore ? rows.subList(0, size) : rows;
+
+        List<ItemSummaryResponse> items = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (ItemSyncRow row : page) {
+            if (!row.isRemoved()) {
+                items.add(row.summary());
+            } else if (from != FULL_SYNC) {
+                removedIds.add(row.summary().getId());
+            }
+        }
+
+        // 다음 페이지는 마지막 행 바로 뒤부터, 다 받았으면 확정된 버전까지 받은 것으로 표시
+        ItemSyncRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        long highWaterMark;
+        long highWaterId;
+        if (last != null && (hasMore || last.changeVersion() == upTo)) {
+            highWaterMark = last.changeVersion();
+            highWaterId = last.summary().getId();
+        } else if (upTo > from) {
+            highWaterMark = upTo;
+            highWaterId = 0L;
+        } else {
+            highWaterMark = from;
+            highWaterId = fromId;
+        }
+
+        return ItemSyncResponse.builder()
+                .items(items)
+                .removedIds(removedIds)
+                .highWaterMark(highWaterMark)
+                .highWaterId(highWaterId)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 내 회수 요청 델타 동기화
+     * 회수 요청 자체나 물품 정보(이름/이미지)가 since 이후 바뀐 요청을 반환합니다.
+     */
+    public MyClaimsSyncResponse syncMyClaims(Long userId, Long since) {
+        // 삭제 기록이 정리된 구간을 건너뛰었을 수 있으면 전체 목록으로 다시 맞춤
+        boolean resyncRequired = since != null && since < ChangeVersion.stableBefore(tombstoneRetention);
+        long from = since == null || resyncRequired ? FULL_SYNC : since;
+
+        List<MyClaimResponse> claims = new ArrayList<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (ItemClaim claim : itemClaimRepository.findByClaimantIdChangedSince(userId, from)) {
+            if (!claim.getItem().isDeleted()) {
+                claims.add(MyClaimResponse.from(claim));
+            } else if (from != FULL_SYNC) {
+                removedIds.add(claim.getId());
+            }
+        }
+        if (from != FULL_SYNC) {
+            removedIds.addAll(itemClaimTombstoneRepository.findClaimIdsChangedSince(userId, from));
+        }
+
+        // 페이지 없이 모두 반환하므로 확정된 버전까지 받은 것으로 표시 (이후 커밋된 변경은 다음에 다시 받음)
+        return MyClaimsSyncResponse.builder()
+                .claims(claims)
+                .removedIds(removedIds)
+                .highWaterMark(Math.max(from, ChangeVersion.stableBefore(commitLag)))
+                .resyncRequired(resyncRequired)
+                .build();
+    }
+
+    /**
+     * 매일 새벽(04:00) 보존 기간이 지난 회수 요청 삭제 기록 정리
+     */
+    @Scheduled(cron = "${item.sync.tombstone-purge-cron:0 0 4 * * *}")
+    @SchedulerLock(name = "purge_claim_tombstones")
+    @Transactional
+    public void purgeClaimTombstones() {
+        long startedAt = System.nanoTime();
+        int purged = itemClaimTombstoneRepository.deleteByDeletedAtBefore(
+                LocalDateTime.now().minus(tombstoneRetention));
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        eventPublisher.publishEvent(new EodSchedulerRunEvent("purge_claim_tombstones", "success", purged, duration));
+        log.info("회수 요청 삭제 기록 정리 완료 - {}건, {}ms", purged, duration.toMillis());
+    }
+}
@@ -0,0 +1,145 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.common.event.EodBusinessEvent;
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.item.infrastructure.ItemRepository;
+import com.eod.eod.domain.item.infrastructure.ItemVersionRow;
+import com.eod.eod.domain.user.application.event.UserChangedEvent;
+import com.eod.eod.domain.user.infrastructure.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 조건부 GET용 물품 변경 버전 캐시
+ *
+ * If-None-Match 비교에는 변경 버전만 필요하므로, 물품별 버전과 전체 최신 버전, 신고자 정보 최신 버전을 메모리에 짧게 보관해
+ * 재검증 요청이 items/users 테이블을 읽지 않고 304로 끝나게 합니다.
+ * 이 인스턴스에서 물품에 영향을 주는 작업이 커밋되면 바로 비우고, 다른 인스턴스의 변경은 ttl 안에 반영됩니다.
+ */
+@Component
+public class ItemVersionCache {
+
+    private static final String CACHE_NAME = "item_version";
+    private static final Set<String> ITEM_DOMAINS = Set.of("item", "disposal", "claim");
+    private static final Set<String> ITEM_TASKS = Set.of("auto_mark_to_be_discarded", "auto_discard_expired_items");
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long ttlMillis;
+    private final Map<Long, Entry> items;
+
+    private volatile Latest latest;
+    private volatile Latest latestReporter;
+
+    public ItemVersionCache(ItemRepository itemRepository,
+                            UserRepository userRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${item.etag.version-ttl:PT5S}") Duration ttl,
+                            @Value("${item.etag.max-size:10000}") int maxSize) {
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.ttlMillis = ttl.toMillis();
+        this.items = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 삭제되지 않은 물품의 버전 정보 (없는 물품은 캐시하지 않음)
+     */
+    public Optional<ItemVersionRow> find(Long itemId) {
+        long now = System.currentTimeMillis();
+        Entry cached = items.get(itemId);
+        if (cached != null && cached.expiresAt() > now) {
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+            return Optional.of(cached.row());
+        }
+
+        eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "miss"));
+        Optional<ItemVersionRow> row = itemRepository.findVersionRow(itemId);
+        row.ifPresent(found -> items.put(itemId, new Entry(found, now + ttlMillis)));
+        return row;
+    }
+
+    /**
+     * 전체 물품 중 가장 큰 변경 버전 (물품 목록 응답의 검증값)
+     */
+    public long latestVersion() {
+        long now = System.currentTimeMillis();
+        Latest current = latest;
+        if (current != null && current.expiresAt() > now) {
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+            return current.version();
+        }
+
+        eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "miss"));
+        long version = itemRepository.findMaxChangeVersion();
+        latest = new Latest(version, now + ttlMillis);
+        return version;
+    }
+
+    /**
+     * 사용자 중 가장 큰 신고자 정보 변경 버전 (물품 목록 응답에 포함된 신고자 이름의 검증값)
+     */
+    public long latestReporterVersion() {
+        long now = System.currentTimeMillis();
+        Latest current = latestReporter;
+        if (current != null && current.expiresAt() > now) {
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+            return current.version();
+        }
+
+        eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "miss"));
+        long version = userRepository.findMaxChangeVersion();
+        latestReporter = new Latest(version, now + ttlMillis);
+        return version;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBusinessEvent(EodBusinessEvent event) {
+        if (ITEM_DOMAINS.contains(event.domain()) && "success".equals(event.result())) {
+            invalidate();
+        }
+    }
+
+    @EventListener
+    public void onSchedulerRun(EodSchedulerRunEvent event) {
+        if (ITEM_TASKS.contains(event.task()) && event.processedItems() > 0) {
+            invalidate();
+        }
+    }
+
+    void invalidate() {
+        items.clear();
+        latest = null;
+        latestReporter = null;
+    }
+
+    private record Entry(ItemVersionRow row, long expiresAt) {
+    }
+
+    private record Latest(long version, long expiresAt) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.eod.eod.domain.item.application.event;
+
+import com.eod.eod.domain.item.model.Item;
+
+import java.time.LocalDateTime;
+
+/**
+ * 물품 등록/수정/삭제 이벤트
+ *
+ * 트랜잭션 커밋 이후 검색 색인 등 파생 데이터를 갱신하는 데 사용합니다.
+ */
+public record ItemChangedEvent(
+        Long itemId,
+        String name,
+        String foundPlaceDetail,
+        Item.ItemCategory category,
+        Long foundPlaceId,
+        Item.ItemStatus status,
+        LocalDateTime foundAt,
+        boolean deleted
+) {
+
+    public static ItemChangedEvent upserted(Item item) {
+        return new ItemChangedEvent(item.getId(), item.getName(), item.getFoundPlaceDetail(), item.getCategory(),
+                item.getFoundPlaceId(), item.getStatus(), item.getFoundAt(), false);
+    }
+
+    public static ItemChangedEvent deleted(Long itemId) {
+        return new ItemChangedEvent(itemId, null, null, null, null, null, null, true);
+    }
+}
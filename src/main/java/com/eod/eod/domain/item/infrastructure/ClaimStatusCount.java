@@ -0,0 +1,13 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.ItemClaim;
+
+/**
+ * 상태별 회수 요청 개수 집계 프로젝션
+ */
+public interface ClaimStatusCount {
+
+    ItemClaim.ClaimStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,13 @@
+package com.eod.eod.domain.item.infrastructure;
+
+/**
+ * 관리자 대시보드 카운터 집계 프로젝션
+ */
+public interface DashboardCounts {
+
+    long getPendingClaims();
+
+    long getToBeDiscardedItems();
+
+    long getRewardEligibleItems();
+}
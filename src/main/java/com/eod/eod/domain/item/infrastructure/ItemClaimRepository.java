@@ -1,10 +1,16 @@
 package com.eod.eod.domain.item.infrastructure;
 
+import com.eod.eod.common.util.ChangeVersion;
 import com.eod.eod.domain.item.model.ItemClaim;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,32 +24,55 @@ public interface ItemClaimRepository extends JpaRepository<ItemClaim, Long>, Ite
     // 특정 사용자가 특정 아이템에 대해 특정 상태의 소유권 주장을 했는지 확인
     boolean existsByItemIdAndClaimantIdAndStatus(Long itemId, Long claimantId, ItemClaim.ClaimStatus status);
 
-    // 특정 상태의 회수 신청 개수 조회
-    long countByStatusAndItemDeletedAtIsNull(ItemClaim.ClaimStatus status);
+    // 상태별 회수 신청 개수를 한 번에 집계 (메트릭 스냅샷용)
+    @Query("SELECT c.status AS status, COUNT(c) AS count FROM ItemClaim c " +
+            "WHERE c.item.deletedAt IS NULL " +
+            "GROUP BY c.status")
+    List<ClaimStatusCount> countGroupByStatus();
 
-    // 특정 상태의 회수 요청 목록 조회 (페이지네이션)
-    Page<ItemClaim> findByStatusAndItemDeletedAtIsNull(ItemClaim.ClaimStatus status, Pageable pageable);
+    // 같은 물품의 다른 주장을 주장자와 함께 잠그며 조회 (승인 시 일괄 거절 대상 확정용)
+    // 잠금 읽기는 스냅샷이 아닌 최신 커밋 상태를 읽고 커밋까지 행을 잠그므로, 조회와 거절 사이에 끼어든 주장이 알림 없이 거절되지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ItemClaim c JOIN FETCH c.claimant " +
+            "WHERE c.item.id = :itemId " +
+            "AND c.status = :status " +
+            "AND c.id <> :excludedClaimId")
+    List<ItemClaim> findByItemIdAndStatusExcludingForUpdate(@Param("itemId") Long itemId,
+                                                           @Param("status") ItemClaim.ClaimStatus status,
+                                                           @Param("excludedClaimId") Long excludedClaimId);
 
-    // 삭제되지 않은 물품의 회수 요청 목록 조회 (페이지네이션)
-    Page<ItemClaim> findByItemDeletedAtIsNull(Pageable pageable);
+    // 지정한 주장들의 상태를 UPDATE 한 번으로 일괄 전환 (현재 상태가 from인 행만 변경)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ItemClaim c SET c.status = :to, c.changeVersion = :version " +
+            "WHERE c.id IN :ids " +
+            "AND c.status = :from")
+    int updateStatusByIds(@Param("ids") List<Long> ids,
+                          @Param("from") ItemClaim.ClaimStatus from,
+                          @Param("to") ItemClaim.ClaimStatus to,
+                          @Param("version") long version);
 
-    // 특정 물품에 대한 특정 상태의 소유권 주장 목록 조회
-    List<ItemClaim> findByItemIdAndStatus(Long itemId, ItemClaim.ClaimStatus status);
+    // 변경 버전을 새로 발급해 일괄 전환
+    default int updateStatusByIds(List<Long> ids, ItemClaim.ClaimStatus from, ItemClaim.ClaimStatus to) {
+        return updateStatusByIds(ids, from, to, ChangeVersion.next());
+    }
 
     // 특정 물품에 대한 전체 소유권 주장 목록 조회 (삭제된 물품 제외)
     List<ItemClaim> findByItemIdAndItemDeletedAtIsNull(Long itemId);
 
-    // 특정 물품의 회수 요청 목록 조회 (페이지네이션)
-    Page<ItemClaim> findByItemIdAndItemDeletedAtIsNull(Long itemId, Pageable pageable);
-
-    // 특정 물품의 특정 상태 회수 요청 목록 조회 (페이지네이션)
-    Page<ItemClaim> findByItemIdAndStatusAndItemDeletedAtIsNull(Long itemId, ItemClaim.ClaimStatus status, Pageable pageable);
-
     // 특정 사용자의 회수 요청 목록 조회 (삭제된 물품 제외, 페이지네이션) - item fetch join으로 N+1 방지
     @EntityGraph(attributePaths = "item")
     Page<ItemClaim> findByClaimantIdAndItemDeletedAtIsNull(Long claimantId, Pageable pageable);
 
-    // 픽업 리마인더용: 지정한 방문 날짜의 승인된 클레임
+    // 내 회수 요청 델타 동기화: 주장 또는 물품이 since 이후 변경된 주장을 물품과 함께 조회
+    @Query("SELECT c FROM ItemClaim c JOIN FETCH c.item i " +
+            "WHERE c.claimant.id = :claimantId " +
+            "AND (c.changeVersion > :since OR i.changeVersion > :since) " +
+            "ORDER BY c.id")
+    List<ItemClaim> findByClaimantIdChangedSince(@Param("claimantId") Long claimantId,
+                                                 @Param("since") long since);
+
+    // 픽업 리마인더용: 지정한 방문 날짜의 승인된 클레임을 id 키셋으로 페이지 단위 조회
     @EntityGraph(attributePaths = {"item", "claimant"})
-    List<ItemClaim> findByStatusAndVisitDate(ItemClaim.ClaimStatus status, LocalDate visitDate);
+    List<ItemClaim> findByStatusAndVisitDateAndIdGreaterThanOrderByIdAsc(
+            ItemClaim.ClaimStatus status, LocalDate visitDate, Long lastId, Pageable pageable);
 }
@@ -1,6 +1,10 @@
 package com.eod.eod.domain.item.infrastructure;
 
+import com.eod.eod.domain.item.model.ItemClaim;
 import com.eod.eod.domain.item.presentation.dto.response.ClaimItemResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ClaimRequestResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -10,6 +14,13 @@ public interface ItemClaimRepositoryCustom {
      * 회수 신청이 있는 분실물 목록 조회
      * PENDING 상태의 회수 신청이 1건 이상 있는 분실물만 조회
      * DISCARDED, GIVEN 상태의 분실물은 제외
+     * 신청 건수와 가장 이른 방문일은 물품의 집계 컬럼에서 읽음
      */
     List<ClaimItemResponse> findItemsWithPendingClaims();
+
+    /**
+     * 관리자용 회수 요청 목록 조회
+     * 물품 ID와 상태는 선택 조건이며, 물품/신청자를 조인해 응답 DTO로 바로 조회 (삭제된 물품 제외)
+     */
+    Page<ClaimRequestResponse> searchClaimRequests(Long itemId, ItemClaim.ClaimStatus status, Pageable pageable);
 }
@@ -5,11 +5,19 @@ import com.eod.eod.domain.item.model.ItemClaim;
 import com.eod.eod.domain.item.model.QItem;
 import com.eod.eod.domain.item.model.QItemClaim;
 import com.eod.eod.domain.item.presentation.dto.response.ClaimItemResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ClaimRequestResponse;
 import com.eod.eod.domain.place.model.QPlace;
+import com.eod.eod.domain.user.model.QUser;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 
@@ -22,9 +30,9 @@ public class ItemClaimRepositoryImpl implements ItemClaimRepositoryCustom {
     public List<ClaimItemResponse> findItemsWithPendingClaims() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QItem item = QItem.item;
-        QItemClaim claim = QItemClaim.itemClaim;
         QPlace place = QPlace.place1;
 
+        // 회수 요청을 집계하지 않고 물품의 집계 컬럼(pending_claim_count 인덱스)으로 범위 조회
         return queryFactory
                 .select(Projections.constructor(
                         ClaimItemResponse.class,
@@ -33,19 +41,69 @@ public class ItemClaimRepositoryImpl implements ItemClaimRepositoryCustom {
                         item.foundAt,
                         place.place,
                         item.image,
-                        claim.id.count(),
-                        claim.visitDate.min()
+                        item.pendingClaimCount,
+                        item.earliestPendingVisitDate
                 ))
                 .from(item)
-                .join(claim).on(claim.item.id.eq(item.id))
                 .join(place).on(place.id.eq(item.foundPlaceId))
                 .where(
-                        claim.status.eq(ItemClaim.ClaimStatus.PENDING),
+                        item.pendingClaimCount.gt(0L),
                         item.deletedAt.isNull(),
                         item.status.notIn(Item.ItemStatus.DISCARDED, Item.ItemStatus.GIVEN)
                 )
-                .groupBy(item.id, item.name, item.foundAt, place.place, item.image)
-                .having(claim.id.count().gt(0))
                 .fetch();
     }
+
+    @Override
+    public Page<ClaimRequestResponse> searchClaimRequests(Long itemId, ItemClaim.ClaimStatus status, Pageable pageable) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItemClaim claim = QItemClaim.itemClaim;
+        QItem item = QItem.item;
+        QUser claimant = QUser.user;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(item.deletedAt.isNull());
+        if (itemId != null) {
+            builder.and(claim.item.id.eq(itemId));
+        }
+        if (status != null) {
+            builder.and(claim.status.eq(status));
+        }
+
+        Sort.Order claimedAtOrder = pageable.getSort().getOrderFor("claimedAt");
+        boolean ascending = claimedAtOrder != null && claimedAtOrder.isAscending();
+
+        // 물품과 신청자를 조인해 한 번의 쿼리로 응답 생성 (엔티티 지연 로딩 없음)
+        List<ClaimRequestResponse> content = queryFactory
+                .select(Projections.constructor(
+                        ClaimRequestResponse.class,
+                        claim.id,
+                        item.id,
+                        item.name,
+                        item.image,
+                        claimant.name,
+                        claimant.role,
+                        claim.claimedAt,
+                        claim.status,
+                        claim.visitDate
+                ))
+                .from(claim)
+                .join(claim.item, item)
+                .join(claim.claimant, claimant)
+                .where(builder)
+                .orderBy(ascending ? claim.claimedAt.asc() : claim.claimedAt.desc(),
+                        ascending ? claim.id.asc() : claim.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 전체 개수는 신청자 조인 없이 집계 (삭제 여부 필터 때문에 물품만 조인)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(claim.count())
+                .from(claim)
+                .join(claim.item, item)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
 }
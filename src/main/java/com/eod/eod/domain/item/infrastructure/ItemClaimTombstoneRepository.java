@@ -0,0 +1,25 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.ItemClaimTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItemClaimTombstoneRepository extends JpaRepository<ItemClaimTombstone, Long> {
+
+    // 사용자의 since 이후 삭제된 소유권 주장 ID 조회 (내 회수 요청 델타 동기화용)
+    @Query("SELECT t.claimId FROM ItemClaimTombstone t " +
+            "WHERE t.claimantId = :claimantId " +
+            "AND t.changeVersion > :since")
+    List<Long> findClaimIdsChangedSince(@Param("claimantId") Long claimantId,
+                                        @Param("since") long since);
+
+    // 보존 기간이 지난 삭제 기록 일괄 정리
+    @Modifying
+    @Query("DELETE FROM ItemClaimTombstone t WHERE t.deletedAt < :threshold")
+    int deleteByDeletedAtBefore(@Param("threshold") LocalDateTime threshold);
+}
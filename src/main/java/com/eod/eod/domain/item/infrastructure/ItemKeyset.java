@@ -0,0 +1,9 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키셋 페이지네이션 기준점 (습득일, ID)
+ */
+public record ItemKeyset(LocalDateTime foundAt, Long id) {
+}
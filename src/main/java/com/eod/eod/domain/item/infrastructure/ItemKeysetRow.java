@@ -0,0 +1,15 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키셋 검색 결과 행 (응답 DTO와 커서 생성용 원본 습득일)
+ */
+public record ItemKeysetRow(ItemSummaryResponse summary, LocalDateTime foundAt) {
+
+    public ItemKeyset toKeyset() {
+        return new ItemKeyset(foundAt, summary.getId());
+    }
+}
@@ -1,13 +1,16 @@
 package com.eod.eod.domain.item.infrastructure;
 
 import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.model.ItemClaim;
 import com.eod.eod.domain.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -15,8 +18,86 @@ import java.util.Optional;
 public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
     Optional<Item> findByIdAndDeletedAtIsNull(Long id);
 
-    // 폐기 예정일이 지난 물품 조회 (자동 폐기용)
-    List<Item> findByStatusAndDiscardedAtBeforeAndDeletedAtIsNull(Item.ItemStatus status, LocalDateTime dateTime);
+    // 폐기 스케줄러 대상 ID를 키셋(id) 순서로 청크 조회
+    @Query("SELECT i.id FROM Item i " +
+            "WHERE i.status = :status " +
+            "AND i.discardedAt < :threshold " +
+            "AND i.deletedAt IS NULL " +
+            "AND i.id > :lastId " +
+            "ORDER BY i.id")
+    List<Long> findIdsByStatusAndDiscardedAtBefore(@Param("status") Item.ItemStatus status,
+                                                   @Param("threshold") LocalDateTime threshold,
+                                                   @Param("lastId") Long lastId,
+                                                   Pageable pageable);
+
+    // 청크 단위 상태 일괄 전환 (현재 상태가 from인 행만 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i SET i.status = :to, i.changeVersion = :version " +
+            "WHERE i.id IN :ids " +
+            "AND i.status = :from")
+    int updateStatusByIds(@Param("ids") List<Long> ids,
+                          @Param("from") Item.ItemStatus from,
+                          @Param("to") Item.ItemStatus to,
+                          @Param("version") long version);
+
+    // 특정 물품의 대기 중인 회수 요청 집계를 item_claims 기준으로 다시 계산
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Item i SET " +
+            "i.pendingClaimCount = (SELECT COUNT(c) FROM ItemClaim c WHERE c.item.id = :itemId AND c.status = :status), " +
+            "i.earliestPendingVisitDate = (SELECT MIN(c.visitDate) FROM ItemClaim c WHERE c.item.id = :itemId AND c.status = :status) " +
+            "WHERE i.id = :itemId")
+    int refreshPendingClaimSummary(@Param("itemId") Long itemId,
+                                   @Param("status") ItemClaim.ClaimStatus status);
+
+    // 보정 작업 대상 ID를 키셋(id) 순서로 청크 조회
+    @Query("SELECT i.id FROM Item i " +
+            "WHERE i.deletedAt IS NULL " +
+            "AND i.id > :lastId " +
+            "ORDER BY i.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 청크 단위 집계 보정 (실제 값과 어긋난 물품만 갱신하므로 반환값이 보정된 물품 수)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i SET " +
+            "i.pendingClaimCount = (SELECT COUNT(c) FROM ItemClaim c WHERE c.item.id = i.id AND c.status = :status), " +
+            "i.earliestPendingVisitDate = (SELECT MIN(c.visitDate) FROM ItemClaim c WHERE c.item.id = i.id AND c.status = :status) " +
+            "WHERE i.id IN :ids " +
+            "AND (i.pendingClaimCount <> (SELECT COUNT(c) FROM ItemClaim c WHERE c.item.id = i.id AND c.status = :status) " +
+            "OR COALESCE(i.earliestPendingVisitDate, :none) <> " +
+            "COALESCE((SELECT MIN(c.visitDate) FROM ItemClaim c WHERE c.item.id = i.id AND c.status = :status), :none))")
+    int reconcilePendingClaimSummaries(@Param("ids") List<Long> ids,
+                                       @Param("status") ItemClaim.ClaimStatus status,
+                                       @Param("none") LocalDate none);
+
+    // 상세 조회 ETag용 변경 버전 (학번은 ItemRepositoryImpl.findItemDetail과 같은 식으로 계산)
+    @Query("SELECT new com.eod.eod.domain.item.infrastructure.ItemVersionRow(" +
+            "i.changeVersion, i.foundPlaceId, s.grade * 1000 + s.classNo * 100 + s.studentNo, s.name) " +
+            "FROM Item i LEFT JOIN i.student s " +
+            "WHERE i.id = :itemId " +
+            "AND i.deletedAt IS NULL")
+    Optional<ItemVersionRow> findVersionRow(@Param("itemId") Long itemId);
+
+    // 목록 조회 ETag용 최신 변경 버전 ((change_version, id) 인덱스만 읽음)
+    @Query("SELECT COALESCE(MAX(i.changeVersion), 0) FROM Item i")
+    long findMaxChangeVersion();
+
+    // 대기 중인 회수 요청 총 개수 (삭제되지 않은 물품의 집계 컬럼 합)
+    @Query("SELECT COALESCE(SUM(i.pendingClaimCount), 0) FROM Item i " +
+            "WHERE i.pendingClaimCount > 0 " +
+            "AND i.deletedAt IS NULL")
+    long sumPendingClaimCount();
+
+    // 관리자 대시보드 카운터를 삭제되지 않은 물품 한 번 순회로 집계
+    // (대기 회수 요청 합계, 폐기 예정 물품 수, 상점 지급 대기 물품 수)
+    @Query("SELECT COALESCE(SUM(i.pendingClaimCount), 0) AS pendingClaims, " +
+            "COALESCE(SUM(CASE WHEN i.status = :toBeDiscarded THEN 1 ELSE 0 END), 0) AS toBeDiscardedItems, " +
+            "COALESCE(SUM(CASE WHEN i.status = :given AND s.role = :studentRole " +
+            "AND NOT EXISTS (SELECT r FROM RewardRecord r WHERE r.item = i) THEN 1 ELSE 0 END), 0) AS rewardEligibleItems " +
+            "FROM Item i LEFT JOIN i.student s " +
+            "WHERE i.deletedAt IS NULL")
+    DashboardCounts summarizeDashboard(@Param("toBeDiscarded") Item.ItemStatus toBeDiscarded,
+                                       @Param("given") Item.ItemStatus given,
+                                       @Param("studentRole") User.Role studentRole);
 
     // 장기 방치된 분실물 조회 (자동 폐기 예정 전환용)
     List<Item> findByStatusAndCreatedAtBeforeAndDeletedAtIsNull(Item.ItemStatus status, LocalDateTime dateTime);
@@ -24,6 +105,12 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositor
     // 특정 상태의 물품 개수 조회
     long countByStatusAndDeletedAtIsNull(Item.ItemStatus status);
 
+    // 상태별 물품 개수를 한 번에 집계 (메트릭 스냅샷용)
+    @Query("SELECT i.status AS status, COUNT(i) AS count FROM Item i " +
+            "WHERE i.deletedAt IS NULL " +
+            "GROUP BY i.status")
+    List<ItemStatusCount> countGroupByStatus();
+
     // 상점 지급 리스트: 주인에게 지급된 물품 중 습득 신고자가 있는 목록
     @Query("SELECT i FROM Item i " +
             "JOIN FETCH i.student s " +
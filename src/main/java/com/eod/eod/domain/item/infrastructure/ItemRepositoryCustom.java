@@ -1,16 +1,19 @@
 package com.eod.eod.domain.item.infrastructure;
 
 import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.presentation.dto.response.ItemDetailResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepositoryCustom {
 
     /**
-     * 동적 쿼리를 사용한 물품 검색
+     * 동적 쿼리를 사용한 물품 검색 (신고자/장소를 조인한 프로젝션으로 목록 + COUNT 두 번의 쿼리만 실행)
      * @param placeIds 장소 ID 리스트 (선택 사항)
      * @param statuses 물품 상태 리스트 (선택 사항)
      * @param foundAtFrom 습득일 시작 날짜 (선택 사항)
@@ -19,7 +22,56 @@ public interface ItemRepositoryCustom {
      * @param pageable 페이징 정보
      * @return 검색된 물품 페이지
      */
-    Page<Item> searchItems(String trimmedQuery, List<Long> placeIds, List<Item.ItemStatus> statuses,
-                          LocalDate foundAtFrom, LocalDate foundAtTo,
-                          List<Item.ItemCategory> categories, Pageable pageable);
+    Page<ItemSummaryResponse> searchItems(String trimmedQuery, List<Long> placeIds, List<Item.ItemStatus> statuses,
+                                          LocalDate foundAtFrom, LocalDate foundAtTo,
+                                          List<Item.ItemCategory> categories, Pageable pageable);
+
+    /**
+     * 검색 색인이 정렬/페이지까지 계산한 물품 ID로 해당 페이지 물품만 조회 (순서는 보장하지 않음)
+     * 색인이 아직 반영하지 못한 변경이 있을 수 있으므로 검색 필터를 다시 적용하며, 조건에 맞지 않게 된 물품은 빠집니다.
+     * @param ids 검색 색인이 반환한 페이지의 물품 ID 리스트
+     * @return 검색된 물품 행 (ID가 없으면 빈 리스트)
+     */
+    List<ItemKeysetRow> findSearchRowsByIds(List<Long> ids, List<Long> placeIds, List<Item.ItemStatus> statuses,
+                                            LocalDate foundAtFrom, LocalDate foundAtTo,
+                                            List<Item.ItemCategory> categories);
+
+    /**
+     * 키셋(커서) 방식 물품 검색 - (습득일, ID) 기준으로 정렬하며 COUNT 쿼리를 실행하지 않음 (검색 색인을 쓸 수 없을 때의 폴백)
+     * @param keyset 직전 페이지의 경계 (첫 페이지는 null)
+     * @param ascending 조회 방향 (true면 오래된 순으로 keyset 이후를 조회)
+     * @param limit 조회할 최대 건수
+     */
+    List<ItemKeysetRow> searchItemsByKeyset(String trimmedQuery, List<Long> placeIds,
+                                            List<Item.ItemStatus> statuses, LocalDate foundAtFrom, LocalDate foundAtTo,
+                                            List<Item.ItemCategory> categories, ItemKeyset keyset,
+                                            boolean ascending, int limit);
+
+    /**
+     * 물품 상세 조회 (신고자/장소를 조인한 단일 쿼리 프로젝션)
+     * 장소가 등록되어 있지 않으면 foundPlace가 null로 채워집니다.
+     * @return 삭제되지 않은 물품의 상세 정보
+     */
+    Optional<ItemDetailResponse> findItemDetail(Long itemId);
+
+    /**
+     * 검색 색인 적재용 물품 조회 (ID 기준 키셋 페이징)
+     * @param lastId 직전 배치의 마지막 물품 ID (첫 배치는 null)
+     * @param limit 배치 크기
+     */
+    List<ItemSearchDocument> findSearchDocuments(Long lastId, int limit);
+
+    /**
+     * 델타 동기화용 변경 물품 조회 - (변경 버전, ID) 키셋 순서로 삭제/지급된 물품도 함께 반환
+     * @param since 직전 동기화의 변경 버전 (전체 동기화는 음수)
+     * @param sinceId 직전 페이지 마지막 물품 ID (같은 버전 안에서 이어 조회, 없으면 0)
+     * @param upTo 조회할 최대 변경 버전 (아직 커밋되지 않았을 수 있는 최근 변경 제외)
+     * @param limit 조회할 최대 건수
+     */
+    List<ItemSyncRow> findChangedSince(long since, long sinceId, long upTo, int limit);
+
+    /**
+     * 검색 색인 resync용 변경 물품 조회 - findChangedSince와 같은 (변경 버전, ID) 키셋으로 색인 필드만 반환
+     */
+    List<ItemSearchChange> findSearchChangesSince(long since, long sinceId, long upTo, int limit);
 }
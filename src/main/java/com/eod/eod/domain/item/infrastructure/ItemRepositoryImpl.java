@@ -2,8 +2,15 @@ package com.eod.eod.domain.item.infrastructure;
 
 import com.eod.eod.domain.item.model.Item;
 import com.eod.eod.domain.item.model.QItem;
+import com.eod.eod.domain.item.presentation.dto.response.ItemDetailResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
+import com.eod.eod.domain.place.model.QPlace;
+import com.eod.eod.domain.user.model.QUser;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
@@ -16,29 +23,221 @@ import org.springframework.data.support.PageableExecutionUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
+    private static final QUser REPORTER = new QUser("reporter");
+    private static final QPlace PLACE = QPlace.place1;
+
     private final EntityManager entityManager;
 
     @Override
-    public Page<Item> searchItems(String trimmedQuery, List<Long> placeIds, List<Item.ItemStatus> statuses,
-                                   LocalDate foundAtFrom, LocalDate foundAtTo,
-                                   List<Item.ItemCategory> categories, Pageable pageable) {
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+    public Page<ItemSummaryResponse> searchItems(String trimmedQuery, List<Long> placeIds,
+                                                 List<Item.ItemStatus> statuses,
+                                                 LocalDate foundAtFrom, LocalDate foundAtTo,
+                                                 List<Item.ItemCategory> categories, Pageable pageable) {
         QItem item = QItem.item;
 
         // 동적 쿼리 조건 생성
+        BooleanBuilder builder = buildSearchCondition(placeIds, statuses, foundAtFrom, foundAtTo, categories);
+
+        if (trimmedQuery != null && !trimmedQuery.isBlank()) {
+            builder.and(queryCondition(trimmedQuery));
+        }
+
+        return fetchPage(builder, pageable);
+    }
+
+    @Override
+    public List<ItemKeysetRow> findSearchRowsByIds(List<Long> ids, List<Long> placeIds,
+                                                   List<Item.ItemStatus> statuses,
+                                                   LocalDate foundAtFrom, LocalDate foundAtTo,
+                                                   List<Item.ItemCategory> categories) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItem item = QItem.item;
+
+        // 색인이 다른 인스턴스의 변경을 아직 반영하지 못했을 수 있으므로 필터를 다시 적용 (PK 조회라 비용은 페이지 크기만큼)
+        BooleanBuilder builder = buildSearchCondition(placeIds, statuses, foundAtFrom, foundAtTo, categories);
+        builder.and(item.id.in(ids));
+
+        return queryFactory
+                .select(Projections.constructor(ItemKeysetRow.class, summaryProjection(), item.foundAt))
+                .from(item)
+                .leftJoin(item.student, REPORTER)
+                .leftJoin(PLACE).on(PLACE.id.eq(item.foundPlaceId))
+                .where(builder)
+                .fetch();
+    }
+
+    @Override
+    public List<ItemKeysetRow> searchItemsByKeyset(String trimmedQuery, List<Long> placeIds,
+                                                   List<Item.ItemStatus> statuses, LocalDate foundAtFrom,
+                                                   LocalDate foundAtTo, List<Item.ItemCategory> categories,
+                                                   ItemKeyset keyset, boolean ascending, int limit) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItem item = QItem.item;
+
+        BooleanBuilder builder = buildSearchCondition(placeIds, statuses, foundAtFrom, foundAtTo, categories);
+        if (trimmedQuery != null && !trimmedQuery.isBlank()) {
+            builder.and(queryCondition(trimmedQuery));
+        }
+
+        // (found_at, id) 복합 인덱스를 타도록 경계 이후 구간만 조회
+        if (keyset != null) {
+            if (ascending) {
+                builder.and(item.foundAt.gt(keyset.foundAt())
+                        .or(item.foundAt.eq(keyset.foundAt()).and(item.id.gt(keyset.id()))));
+            } else {
+                builder.and(item.foundAt.lt(keyset.foundAt())
+                        .or(item.foundAt.eq(keyset.foundAt()).and(item.id.lt(keyset.id()))));
+            }
+        }
+
+        return queryFactory
+                .select(Projections.constructor(ItemKeysetRow.class, summaryProjection(), item.foundAt))
+                .from(item)
+                .leftJoin(item.student, REPORTER)
+                .leftJoin(PLACE).on(PLACE.id.eq(item.foundPlaceId))
+                .where(builder)
+                .orderBy(ascending ? item.foundAt.asc() : item.foundAt.desc(),
+                        ascending ? item.id.asc() : item.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Optional<ItemDetailResponse> findItemDetail(Long itemId) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItem item = QItem.item;
+
+        ItemDetailResponse detail = queryFactory
+                .select(Projections.constructor(
+                        ItemDetailResponse.class,
+                        item.id,
+                        item.name,
+                        // 학번 = 학년 * 1000 + 반 * 100 + 번호 (User.getStudentCode와 동일, 하나라도 null이면 null)
+                        REPORTER.grade.multiply(1000)
+                                .add(REPORTER.classNo.multiply(100))
+                                .add(REPORTER.studentNo),
+                        REPORTER.name,
+                        item.image,
+                        item.foundAt,
+                        item.foundAtPrecision,
+                        PLACE.place,
+                        item.foundPlaceDetail,
+                        item.category,
+                        item.discardedAt
+                ))
+                .from(item)
+                .leftJoin(item.student, REPORTER)
+                .leftJoin(PLACE).on(PLACE.id.eq(item.foundPlaceId))
+                .where(item.id.eq(itemId), item.deletedAt.isNull())
+                .fetchOne();
+
+        return Optional.ofNullable(detail);
+    }
+
+    @Override
+    public List<ItemSearchDocument> findSearchDocuments(Long lastId, int limit) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItem item = QItem.item;
+
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(item.deletedAt.isNull());
-        builder.and(item.status.ne(Item.ItemStatus.GIVEN));
+        if (lastId != null) {
+            builder.and(item.id.gt(lastId));
+        }
 
-        if (trimmedQuery != null && !trimmedQuery.isBlank()) {
-            builder.and(item.name.containsIgnoreCase(trimmedQuery));
+        return queryFactory
+                .select(searchDocumentProjection())
+                .from(item)
+                .where(builder)
+                .orderBy(item.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ItemSearchChange> findSearchChangesSince(long since, long sinceId, long upTo, int limit) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItem item = QItem.item;
+
+        // findChangedSince와 같은 (change_version, id) 키셋이지만 조인 없이 색인에 필요한 컬럼만 조회
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(item.changeVersion.gt(since)
+                .or(item.changeVersion.eq(since).and(item.id.gt(sinceId))));
+        builder.and(item.changeVersion.loe(upTo));
+
+        return queryFactory
+                .select(Projections.constructor(ItemSearchChange.class,
+                        searchDocumentProjection(), item.changeVersion, item.deletedAt))
+                .from(item)
+                .where(builder)
+                .orderBy(item.changeVersion.asc(), item.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<ItemSyncRow> findChangedSince(long since, long sinceId, long upTo, int limit) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItem item = QItem.item;
+
+        // (change_version, id) 복합 인덱스를 타도록 경계 이후 구간만 조회
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(item.changeVersion.gt(since)
+                .or(item.changeVersion.eq(since).and(item.id.gt(sinceId))));
+        builder.and(item.changeVersion.loe(upTo));
+
+        return queryFactory
+                .select(Projections.constructor(ItemSyncRow.class, summaryProjection(), item.changeVersion, item.deletedAt))
+                .from(item)
+                .leftJoin(item.student, REPORTER)
+                .leftJoin(PLACE).on(PLACE.id.eq(item.foundPlaceId))
+                .where(builder)
+                .orderBy(item.changeVersion.asc(), item.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 검색어 조건 - 검색 색인(ItemSearchIndex)과 같은 필드(이름, 습득 장소 상세, 카테고리 라벨)에서
+     * 검색어 전체를 대소문자 구분 없이 부분 일치로 찾습니다.
+     * 카테고리는 라벨로 저장되지 않으므로 라벨이 검색어를 포함하는 카테고리 목록으로 바꿔 비교합니다.
+     */
+    private BooleanExpression queryCondition(String trimmedQuery) {
+        QItem item = QItem.item;
+        String lowerQuery = trimmedQuery.toLowerCase(Locale.ROOT);
+
+        BooleanExpression condition = item.name.containsIgnoreCase(trimmedQuery)
+                .or(item.foundPlaceDetail.containsIgnoreCase(trimmedQuery));
+        List<Item.ItemCategory> labelMatches = Arrays.stream(Item.ItemCategory.values())
+                .filter(category -> category.getKoreanName().toLowerCase(Locale.ROOT).contains(lowerQuery))
+                .toList();
+        if (!labelMatches.isEmpty()) {
+            condition = condition.or(item.category.in(labelMatches));
         }
+        return condition;
+    }
+
+    private BooleanBuilder buildSearchCondition(List<Long> placeIds, List<Item.ItemStatus> statuses,
+                                                LocalDate foundAtFrom, LocalDate foundAtTo,
+                                                List<Item.ItemCategory> categories) {
+        QItem item = QItem.item;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(item.deletedAt.isNull());
+        builder.and(item.status.ne(Item.ItemStatus.GIVEN));
 
         if (placeIds != null) {
             List<Long> filteredPlaceIds = placeIds.stream()
@@ -73,6 +272,13 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
             builder.and(item.category.in(categories));
         }
 
+        return builder;
+    }
+
+    private Page<ItemSummaryResponse> fetchPage(BooleanBuilder builder, Pageable pageable) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QItem item = QItem.item;
+
         // 쿼리 실행
         OrderSpecifier<LocalDateTime> orderSpecifier = item.foundAt.desc();
         Sort.Order foundAtOrder = pageable.getSort().getOrderFor("foundAt");
@@ -80,15 +286,19 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
             orderSpecifier = item.foundAt.asc();
         }
 
-        List<Item> content = queryFactory
-                .selectFrom(item)
+        // 신고자 이름과 장소명을 조인으로 함께 가져와 N+1 없이 한 번에 조회
+        List<ItemSummaryResponse> content = queryFactory
+                .select(summaryProjection())
+                .from(item)
+                .leftJoin(item.student, REPORTER)
+                .leftJoin(PLACE).on(PLACE.id.eq(item.foundPlaceId))
                 .where(builder)
                 .orderBy(orderSpecifier)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 전체 개수 쿼리 (최적화를 위해 별도 실행)
+        // 전체 개수 쿼리 (최적화를 위해 별도 실행, 필터가 물품 컬럼뿐이므로 조인 없이 집계)
         JPAQuery<Long> countQuery = queryFactory
                 .select(item.count())
                 .from(item)
@@ -96,4 +306,36 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
+
+    private ConstructorExpression<ItemSummaryResponse> summaryProjection() {
+        QItem item = QItem.item;
+        return Projections.constructor(
+                ItemSummaryResponse.class,
+                item.id,
+                item.name,
+                REPORTER.name,
+                item.foundAt,
+                item.foundAtPrecision,
+                PLACE.place,
+                item.foundPlaceDetail,
+                item.image,
+                item.status,
+                item.category,
+                item.discardedAt
+        );
+    }
+
+    private ConstructorExpression<ItemSearchDocument> searchDocumentProjection() {
+        QItem item = QItem.item;
+        return Projections.constructor(
+                ItemSearchDocument.class,
+                item.id,
+                item.name,
+                item.foundPlaceDetail,
+                item.category,
+                item.foundPlaceId,
+                item.status,
+                item.foundAt
+        );
+    }
 }
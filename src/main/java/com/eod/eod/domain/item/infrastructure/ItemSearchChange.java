@@ -0,0 +1,9 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 resync용 변경 행 (색인 문서, 커서용 변경 버전, 삭제 여부 판단용 삭제 시각)
+ */
+public record ItemSearchChange(ItemSearchDocument document, long changeVersion, LocalDateTime deletedAt) {
+}
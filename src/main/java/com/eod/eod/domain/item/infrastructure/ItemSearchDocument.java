@@ -0,0 +1,19 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.Item;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 적재용 물품 프로젝션 (검색어 매칭 필드와 색인 안에서 필터/정렬에 쓰는 필드)
+ */
+public record ItemSearchDocument(
+        Long id,
+        String name,
+        String foundPlaceDetail,
+        Item.ItemCategory category,
+        Long foundPlaceId,
+        Item.ItemStatus status,
+        LocalDateTime foundAt
+) {
+}
@@ -0,0 +1,66 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.Item;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 색인 안에서 적용하는 물품 검색 필터
+ * ItemRepositoryImpl의 검색 조건과 같은 규칙(지급 완료 제외, 습득일 범위는 날짜 단위)으로 판정합니다.
+ * 각 조건이 null이면 필터를 적용하지 않습니다.
+ */
+public record ItemSearchFilter(
+        Set<Long> placeIds,
+        Set<Item.ItemStatus> statuses,
+        LocalDateTime foundAtFrom,
+        LocalDateTime foundAtTo,
+        Set<Item.ItemCategory> categories
+) {
+
+    public static ItemSearchFilter of(List<Long> placeIds, List<Item.ItemStatus> statuses,
+                                      LocalDate foundAtFrom, LocalDate foundAtTo,
+                                      List<Item.ItemCategory> categories) {
+        return new ItemSearchFilter(
+                toSet(placeIds),
+                toSet(statuses),
+                foundAtFrom != null ? foundAtFrom.atStartOfDay() : null,
+                foundAtTo != null ? foundAtTo.atTime(LocalTime.MAX) : null,
+                toSet(categories)
+        );
+    }
+
+    public boolean matches(Long foundPlaceId, Item.ItemStatus status, LocalDateTime foundAt, Item.ItemCategory category) {
+        if (status == Item.ItemStatus.GIVEN) {
+            return false;
+        }
+        if (placeIds != null && !placeIds.contains(foundPlaceId)) {
+            return false;
+        }
+        if (statuses != null && !statuses.contains(status)) {
+            return false;
+        }
+        if (foundAtFrom != null && foundAt.isBefore(foundAtFrom)) {
+            return false;
+        }
+        if (foundAtTo != null && foundAt.isAfter(foundAtTo)) {
+            return false;
+        }
+        return categories == null || categories.contains(category);
+    }
+
+    private static <T> Set<T> toSet(List<T> values) {
+        if (values == null) {
+            return null;
+        }
+        Set<T> filtered = values.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+        return filtered.isEmpty() ? null : filtered;
+    }
+}
@@ -0,0 +1,9 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import java.util.List;
+
+/**
+ * 검색 색인의 페이지 결과 (정렬 순서대로의 해당 페이지 물품 ID, 필터까지 적용한 전체 매칭 수)
+ */
+public record ItemSearchHits(List<Long> ids, long total) {
+}
@@ -0,0 +1,264 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 물품 검색용 인메모리 역색인
+ *
+ * 물품 이름, 습득 장소 상세, 카테고리 라벨을 바이그램으로 색인하고
+ * 검색어의 모든 토큰을 포함하는 물품 중 세 필드 중 하나가 검색어 전체를 포함하는 물품 ID를 반환합니다.
+ * 바이그램은 후보를 좁히는 데만 쓰고 최종 판정은 DB 폴백(ItemRepositoryImpl)과 같은 대소문자 무시 부분 일치로 하므로
+ * 색인 준비 여부와 관계없이 같은 검색어는 같은 결과를 반환합니다.
+ * 장소/상태/습득일/카테고리도 함께 보관하여 필터, (습득일, ID) 정렬, 페이지 계산까지 색인 안에서 끝내고
+ * DB에서는 해당 페이지의 물품만 ID로 조회합니다. 관련도 점수는 사용하지 않습니다.
+ * 쓰기(등록/수정/삭제)는 드물기 때문에 synchronized로 직렬화하고, 읽기는 잠금 없이 수행합니다.
+ * 색인 내용이 바뀔 때마다 세대 번호가 올라가므로 검색 응답의 ETag에 포함해 색인 상태가 다른 응답을 구분합니다.
+ */
+@Component
+public class ItemSearchIndex {
+
+    private static final Comparator<ItemKeyset> ASCENDING =
+            Comparator.comparing(ItemKeyset::foundAt).thenComparing(ItemKeyset::id);
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedItem> documents = new ConcurrentHashMap<>();
+    private final Set<Long> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 색인 세대 번호 (준비 완료, 등록/수정/삭제가 반영될 때마다 증가)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 페이지 번호 방식 검색 - 필터를 통과한 매칭을 (습득일, ID) 순으로 정렬해 offset부터 limit건의 ID와 전체 매칭 수를 반환
+     * 색인이 준비되지 않았거나 색인으로 처리할 수 없는 검색어면 빈 값을 반환하여 DB 검색으로 폴백하게 합니다.
+     */
+    public Optional<ItemSearchHits> searchPage(String query, ItemSearchFilter filter, boolean ascending,
+                                               long offset, int limit) {
+        return match(query, filter)
+                .map(matched -> new ItemSearchHits(
+                        top(matched, order(ascending), offset, limit), matched.size()));
+    }
+
+    /**
+     * 키셋(커서) 방식 검색 - keyset 이후의 매칭을 (습득일, ID) 순으로 최대 limit건 반환 (첫 페이지는 keyset이 null)
+     * 색인이 준비되지 않았거나 색인으로 처리할 수 없는 검색어면 빈 값을 반환하여 DB 검색으로 폴백하게 합니다.
+     */
+    public Optional<List<Long>> searchAfter(String query, ItemSearchFilter filter, boolean ascending,
+                                            ItemKeyset keyset, int limit) {
+        Comparator<ItemKeyset> order = order(ascending);
+        return match(query, filter)
+                .map(matched -> {
+                    if (keyset == null) {
+                        return matched;
+                    }
+                    return matched.stream()
+                            .filter(document -> order.compare(document.keyset(), keyset) > 0)
+                            .toList();
+                })
+                .map(matched -> top(matched, order, 0, limit));
+    }
+
+    public synchronized void upsert(ItemSearchDocument document) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(document.id());
+        }
+        put(document);
+        generation.incrementAndGet();
+    }
+
+    public synchronized void remove(Long itemId) {
+        if (rebuilding) {
+            touchedDuringRebuild.add(itemId);
+        }
+        IndexedItem previous = documents.remove(itemId);
+        if (previous != null) {
+            unlink(itemId, previous);
+        }
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 전체 재색인 시작
+     * 재색인 중에도 기존 색인으로 검색은 계속 가능하며, 그 사이 변경된 물품은 적재 대상에서 제외합니다.
+     */
+    public synchronized void beginRebuild() {
+        rebuilding = true;
+        touchedDuringRebuild.clear();
+    }
+
+    /**
+     * 재색인용 적재 (재색인 도중 등록/수정/삭제된 물품은 최신 상태를 보존하기 위해 건너뜀)
+     */
+    public synchronized void load(ItemSearchDocument document) {
+        if (touchedDuringRebuild.contains(document.id())) {
+            return;
+        }
+        put(document);
+    }
+
+    public synchronized void finishRebuild() {
+        rebuilding = false;
+        touchedDuringRebuild.clear();
+        ready = true;
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 재색인 중단 (적재 실패 시 기존 색인과 준비 상태는 그대로 두고 재색인 표시만 해제)
+     */
+    public synchronized void abortRebuild() {
+        rebuilding = false;
+        touchedDuringRebuild.clear();
+    }
+
+    /**
+     * 검색어와 필터를 모두 만족하는 물품 (순서 없음)
+     */
+    private Optional<List<IndexedItem>> match(String query, ItemSearchFilter filter) {
+        if (!ready || query == null) {
+            return Optional.empty();
+        }
+
+        Optional<Set<String>> queryTokens = KoreanNgramTokenizer.tokenizeQuery(query);
+        if (queryTokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String lowerQuery = query.trim().toLowerCase(Locale.ROOT);
+        Set<Long> smallest = null;
+        for (String token : queryTokens.get()) {
+            Set<Long> posting = postings.get(token);
+            if (posting == null || posting.isEmpty()) {
+                return Optional.of(List.of());
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+
+        List<IndexedItem> matched = new ArrayList<>();
+        for (Long itemId : smallest) {
+            IndexedItem document = documents.get(itemId);
+            if (document != null && document.matches(lowerQuery) && document.matches(filter)) {
+                matched.add(document);
+            }
+        }
+        return Optional.of(matched);
+    }
+
+    /**
+     * 정렬 순서상 offset번째부터 limit건의 ID (전체를 정렬하지 않고 offset + limit 크기의 힙으로 상위만 추림)
+     */
+    private static List<Long> top(List<IndexedItem> matched, Comparator<ItemKeyset> order, long offset, int limit) {
+        Comparator<IndexedItem> byKeyset = Comparator.comparing(IndexedItem::keyset, order);
+        long wanted = offset + limit;
+
+        List<IndexedItem> head;
+        if (wanted >= matched.size()) {
+            head = new ArrayList<>(matched);
+        } else {
+            // 힙의 루트가 지금까지 고른 것 중 정렬상 가장 뒤에 오는 물품
+            PriorityQueue<IndexedItem> heap = new PriorityQueue<>((int) wanted + 1, byKeyset.reversed());
+            for (IndexedItem document : matched) {
+                heap.offer(document);
+                if (heap.size() > wanted) {
+                    heap.poll();
+                }
+            }
+            head = new ArrayList<>(heap);
+        }
+        head.sort(byKeyset);
+
+        return head.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(document -> document.keyset().id())
+                .toList();
+    }
+
+    private static Comparator<ItemKeyset> order(boolean ascending) {
+        return ascending ? ASCENDING : ASCENDING.reversed();
+    }
+
+    private void put(ItemSearchDocument source) {
+        String categoryLabel = source.category() != null ? source.category().getKoreanName() : null;
+        Set<String> tokens = new HashSet<>(KoreanNgramTokenizer.tokenize(source.name()));
+        tokens.addAll(KoreanNgramTokenizer.tokenize(source.foundPlaceDetail()));
+        tokens.addAll(KoreanNgramTokenizer.tokenize(categoryLabel));
+        IndexedItem document = new IndexedItem(
+                new ItemKeyset(source.foundAt(), source.id()),
+                tokens,
+                lower(source.name()),
+                lower(source.foundPlaceDetail()),
+                lower(categoryLabel),
+                source
+        );
+
+        Long itemId = source.id();
+        IndexedItem previous = documents.put(itemId, document);
+        if (previous != null) {
+            unlink(itemId, previous);
+        }
+        for (String token : document.tokens()) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(itemId);
+        }
+    }
+
+    private void unlink(Long itemId, IndexedItem previous) {
+        IndexedItem current = documents.get(itemId);
+        for (String token : previous.tokens()) {
+            if (current != null && current.tokens().contains(token)) {
+                continue;
+            }
+            postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(itemId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static String lower(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private record IndexedItem(ItemKeyset keyset, Set<String> tokens,
+                               String name, String foundPlaceDetail, String categoryLabel,
+                               ItemSearchDocument source) {
+
+        boolean matches(String lowerQuery) {
+            return name.contains(lowerQuery) || foundPlaceDetail.contains(lowerQuery) || categoryLabel.contains(lowerQuery);
+        }
+
+        boolean matches(ItemSearchFilter filter) {
+            return filter == null
+                    || filter.matches(source.foundPlaceId(), source.status(), source.foundAt(), source.category());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.Item;
+
+/**
+ * 상태별 물품 개수 집계 프로젝션
+ */
+public interface ItemStatusCount {
+
+    Item.ItemStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,19 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 델타 동기화 결과 행 (응답 DTO와 커서용 변경 버전, 삭제 여부 판단용 삭제 시각)
+ */
+public record ItemSyncRow(ItemSummaryResponse summary, long changeVersion, LocalDateTime deletedAt) {
+
+    /**
+     * 목록에서 빠져야 하는 물품인지 (삭제되었거나 지급 완료되어 공개 목록에 나오지 않음)
+     */
+    public boolean isRemoved() {
+        return deletedAt != null || Item.ItemStatus.GIVEN.name().equals(summary.getStatus());
+    }
+}
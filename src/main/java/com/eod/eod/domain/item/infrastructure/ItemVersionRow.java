@@ -0,0 +1,7 @@
+package com.eod.eod.domain.item.infrastructure;
+
+/**
+ * 물품 상세 ETag 계산용 행 (변경 버전과 상세 응답 중 물품 행 밖에서 오는 값의 키)
+ */
+public record ItemVersionRow(long changeVersion, Long foundPlaceId, Integer reporterStudentCode, String reporterName) {
+}
@@ -0,0 +1,77 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 검색용 바이그램(2-gram) 토크나이저
+ *
+ * 형태소 분석기 없이도 "아이폰" 검색 시 "아이폰15", "흰색 아이폰" 모두 매칭되도록
+ * 단어를 2글자 단위로 잘라 색인합니다.
+ */
+public final class KoreanNgramTokenizer {
+
+    static final int GRAM_SIZE = 2;
+
+    private static final Pattern WORD_SPLITTER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private KoreanNgramTokenizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 색인용 토큰 생성
+     * 2글자 미만의 단어는 단어 그대로 토큰으로 사용합니다.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : splitWords(text)) {
+            if (word.length() < GRAM_SIZE) {
+                tokens.add(word);
+                continue;
+            }
+            addGrams(word, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어용 토큰 생성
+     * 1글자 단어가 포함된 검색어는 바이그램으로 부분 일치를 보장할 수 없으므로 빈 값을 반환합니다.
+     */
+    public static Optional<Set<String>> tokenizeQuery(String query) {
+        String[] words = splitWords(query);
+        if (words.length == 0) {
+            return Optional.empty();
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word.length() < GRAM_SIZE) {
+                return Optional.empty();
+            }
+            addGrams(word, tokens);
+        }
+        return Optional.of(tokens);
+    }
+
+    private static String[] splitWords(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+        return WORD_SPLITTER.splitAsStream(normalized)
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static void addGrams(String word, Set<String> tokens) {
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            tokens.add(word.substring(i, i + GRAM_SIZE));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.eod.eod.domain.item.model;
 
+import com.eod.eod.common.util.ChangeVersion;
 import com.eod.eod.domain.item.exception.ItemBadRequestException;
 import com.eod.eod.domain.item.exception.ItemConflictException;
 import com.eod.eod.domain.user.model.User;
@@ -11,11 +12,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+        @Index(name = "idx_items_found_at_id", columnList = "found_at, id"),
+        @Index(name = "idx_items_status_discarded_at", columnList = "status, discarded_at"),
+        @Index(name = "idx_items_pending_claim_count", columnList = "pending_claim_count"),
+        @Index(name = "idx_items_change_version_id", columnList = "change_version, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Item {
@@ -79,6 +86,19 @@ public class Item {
     @Column(name = "approved_at")
     private LocalDateTime approvedAt;
 
+    // 대기 중인 회수 요청 집계 (회수 요청 변경 트랜잭션과 야간 보정 작업의 벌크 UPDATE로만 갱신)
+    // 엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 insertable/updatable=false
+    @Column(name = "pending_claim_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private long pendingClaimCount;
+
+    @Column(name = "earliest_pending_visit_date", insertable = false, updatable = false)
+    private LocalDate earliestPendingVisitDate;
+
+    // 델타 동기화용 변경 버전 (변경 메서드마다 갱신, 벌크 UPDATE는 쿼리에서 직접 갱신)
+    @Column(name = "change_version", nullable = false, columnDefinition = "bigint default 0")
+    private long changeVersion;
+
     @Builder
     public Item(User student, User admin, Long foundPlaceId, String foundPlaceDetail,
                 String name, String image, ItemStatus status, ItemCategory category, LocalDateTime foundAt, DatePrecision foundAtPrecision) {
@@ -95,6 +115,7 @@ public class Item {
         this.createdAt = LocalDateTime.now();
         this.discardedAt = this.createdAt.plusMonths(6);
         this.approvalStatus = ApprovalStatus.PENDING;
+        this.changeVersion = ChangeVersion.next();
     }
 
     public static Item registerLostItem(User admin, User student, Long foundPlaceId, String foundPlaceDetail,
@@ -132,6 +153,7 @@ public class Item {
         this.category = category;
         this.foundAt = foundAt;
         this.foundAtPrecision = foundAtPrecision != null ? foundAtPrecision : DatePrecision.DAY;
+        touch();
     }
 
     // 물품 지급 처리
@@ -140,6 +162,7 @@ public class Item {
             throw new ItemConflictException("해당 물품은 이미 지급 처리되었습니다.");
         }
         this.status = ItemStatus.GIVEN;
+        touch();
     }
 
     // 승인/거절 처리
@@ -157,6 +180,7 @@ public class Item {
 
         this.approvedBy = approver;
         this.approvedAt = LocalDateTime.now();
+        touch();
     }
 
     // 승인 처리 가능 여부 검증
@@ -187,6 +211,7 @@ public class Item {
     public void softDelete() {
         if (this.deletedAt == null) {
             this.deletedAt = LocalDateTime.now();
+            touch();
         }
     }
 
@@ -211,6 +236,7 @@ public class Item {
         if (this.discardedAt.isAfter(LocalDateTime.now().plusWeeks(2))) {
             this.status = ItemStatus.LOST;
         }
+        touch();
     }
 
     public void extendDisposalDateWith(DisposalReason disposalReason) {
@@ -239,6 +265,7 @@ public class Item {
             throw new ItemConflictException("분실물 상태의 물품만 폐기 예정으로 변경할 수 있습니다.");
         }
         this.status = ItemStatus.TO_BE_DISCARDED;
+        touch();
     }
 
     /**
@@ -252,6 +279,12 @@ public class Item {
         if (this.discardedAt == null) {
             this.discardedAt = LocalDateTime.now();
         }
+        touch();
+    }
+
+    // 동기화 클라이언트가 변경을 받아가도록 변경 버전 갱신
+    private void touch() {
+        this.changeVersion = ChangeVersion.next();
     }
 
     public String getDiscardedAt() {
@@ -1,5 +1,6 @@
 package com.eod.eod.domain.item.model;
 
+import com.eod.eod.common.util.ChangeVersion;
 import com.eod.eod.domain.item.exception.ItemBadRequestException;
 import com.eod.eod.domain.item.exception.ItemConflictException;
 import com.eod.eod.domain.user.model.User;
@@ -13,7 +14,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "item_claims")
+@Table(name = "item_claims", indexes = {
+        @Index(name = "idx_item_claims_user_change_version", columnList = "user_id, change_version")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ItemClaim {
@@ -40,6 +43,10 @@ public class ItemClaim {
     @Column(name = "claimed_at", nullable = false, updatable = false)
     private LocalDateTime claimedAt;
 
+    // 델타 동기화용 변경 버전 (변경 메서드마다 갱신, 벌크 UPDATE는 쿼리에서 직접 갱신)
+    @Column(name = "change_version", nullable = false, columnDefinition = "bigint default 0")
+    private long changeVersion;
+
     @Builder
     public ItemClaim(Item item, User claimant, LocalDate visitDate) {
         validateVisitDate(visitDate);
@@ -48,6 +55,7 @@ public class ItemClaim {
         this.visitDate = visitDate;
         this.status = ClaimStatus.PENDING;
         this.claimedAt = LocalDateTime.now();
+        this.changeVersion = ChangeVersion.next();
     }
 
     /**
@@ -58,6 +66,7 @@ public class ItemClaim {
             throw new ItemConflictException("대기 중인 소유권 주장만 승인할 수 있습니다.");
         }
         this.status = ClaimStatus.APPROVED;
+        this.changeVersion = ChangeVersion.next();
     }
 
     /**
@@ -68,6 +77,7 @@ public class ItemClaim {
             throw new ItemConflictException("대기 중인 소유권 주장만 거절할 수 있습니다.");
         }
         this.status = ClaimStatus.REJECTED;
+        this.changeVersion = ChangeVersion.next();
     }
 
     private static void validateVisitDate(LocalDate visitDate) {
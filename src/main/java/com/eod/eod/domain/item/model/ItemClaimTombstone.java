@@ -0,0 +1,45 @@
+package com.eod.eod.domain.item.model;
+
+import com.eod.eod.common.util.ChangeVersion;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된(취소된) 소유권 주장 기록
+ * 주장 행은 취소 시 삭제되므로, 델타 동기화 클라이언트가 로컬 사본을 지울 수 있도록 ID와 변경 버전을 남깁니다.
+ */
+@Entity
+@Table(name = "item_claim_tombstones", indexes = {
+        @Index(name = "idx_item_claim_tombstones_claimant_version", columnList = "claimant_id, change_version"),
+        @Index(name = "idx_item_claim_tombstones_deleted_at", columnList = "deleted_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemClaimTombstone {
+
+    @Id
+    @Column(name = "claim_id")
+    private Long claimId;
+
+    @Column(name = "claimant_id", nullable = false)
+    private Long claimantId;
+
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Builder
+    public ItemClaimTombstone(Long claimId, Long claimantId) {
+        this.claimId = claimId;
+        this.claimantId = claimantId;
+        this.changeVersion = ChangeVersion.next();
+        this.deletedAt = LocalDateTime.now();
+    }
+}
@@ -3,6 +3,7 @@ package com.eod.eod.domain.item.presentation;
 import com.eod.eod.common.validation.EnumValue;
 import com.eod.eod.domain.item.application.ItemClaimQueryService;
 import com.eod.eod.domain.item.application.ItemClaimService;
+import com.eod.eod.domain.item.application.ItemSyncService;
 import com.eod.eod.domain.item.model.ItemClaim;
 import com.eod.eod.domain.item.presentation.dto.request.ItemClaimRequest;
 import com.eod.eod.domain.item.presentation.dto.response.ClaimCountResponse;
@@ -10,6 +11,7 @@ import com.eod.eod.domain.item.presentation.dto.response.ClaimItemListResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ClaimRequestsResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ItemClaimResponse;
 import com.eod.eod.domain.item.presentation.dto.response.MyClaimsResponse;
+import com.eod.eod.domain.item.presentation.dto.response.MyClaimsSyncResponse;
 import com.eod.eod.domain.user.model.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,6 +38,7 @@ public class ItemClaimController {
 
     private final ItemClaimService itemClaimService;
     private final ItemClaimQueryService itemClaimQueryService;
+    private final ItemSyncService itemSyncService;
 
     @Operation(summary = "소유권 주장", description = "사용자가 분실물에 대한 소유권을 주장합니다.")
     @ApiResponses(value = {
@@ -297,6 +300,26 @@ public class ItemClaimController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "내 회수 요청 델타 동기화", description = "since(직전 응답의 highWaterMark) 이후 변경된 본인 회수 요청과 취소/삭제된 요청 ID만 반환합니다. since가 너무 오래되었으면 resyncRequired와 함께 전체 목록을 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "동기화 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = MyClaimsSyncResponse.class)
+                    )),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자",
+                    content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/claims/my/sync")
+    public ResponseEntity<MyClaimsSyncResponse> syncMyClaims(
+            @Parameter(description = "직전 응답의 highWaterMark (없으면 전체 동기화)")
+            @RequestParam(required = false) Long since,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(itemSyncService.syncMyClaims(currentUser.getId(), since));
+    }
+
     @Operation(summary = "소유권 주장 취소", description = "소유권을 주장한 본인이 승인 전 주장을 취소합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "취소 성공"),
@@ -1,7 +1,9 @@
 package com.eod.eod.domain.item.presentation;
 
+import com.eod.eod.common.util.EntityTag;
 import com.eod.eod.domain.item.application.ItemQueryService;
 import com.eod.eod.domain.item.application.ItemRegistrationService;
+import com.eod.eod.domain.item.application.ItemSyncService;
     import com.eod.eod.domain.item.application.command.ItemRegistrationCommand;
 import com.eod.eod.domain.item.application.command.ItemUpdateCommand;
 import com.eod.eod.domain.item.presentation.dto.request.ItemRegistrationForm;
@@ -10,6 +12,7 @@ import com.eod.eod.domain.item.presentation.dto.request.ItemUpdateForm;
 import com.eod.eod.domain.item.presentation.dto.response.ItemCreateResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ItemDetailResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ItemSearchResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSyncResponse;
 import com.eod.eod.domain.user.model.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,13 +23,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Optional;
 
 @Tag(name = "Item", description = "물품 기본 관리 API")
 @RestController
@@ -37,6 +46,7 @@ public class ItemController {
 
     private final ItemRegistrationService itemRegistrationService;
     private final ItemQueryService itemQueryService;
+    private final ItemSyncService itemSyncService;
 
     @Operation(summary = "분실물 등록", description = "JSON 형식으로 분실물을 등록합니다.")
     @ApiResponses(value = {
@@ -80,7 +90,7 @@ public class ItemController {
                 .body(ItemCreateResponse.success(itemId));
     }
 
-    @Operation(summary = "분실물 검색", description = "장소 ID 리스트, 상태 리스트, 습득일 기간, 카테고리로 분실물을 검색합니다. 페이징을 지원합니다.")
+    @Operation(summary = "분실물 검색", description = "장소 ID 리스트, 상태 리스트, 습득일 기간, 카테고리로 분실물을 검색합니다. 페이징을 지원하며, cursor 파라미터를 전달하면 전체 개수 없이 커서 기반으로 조회합니다. 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공",
                     content = @Content(
@@ -91,13 +101,35 @@ public class ItemController {
                     content = @Content(
                             mediaType = "application/json",
                             examples = @ExampleObject(value = "{\"message\": \"유효하지 않은 상태 값입니다: INVALID\"}")
-                    ))
+                    )),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping("/search")
     public ResponseEntity<ItemSearchResponse> searchItems(
             @Parameter(description = "분실물 검색 요청 파라미터")
-            @Valid ItemSearchRequest request
+            @Valid ItemSearchRequest request,
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
     ) {
+        Optional<EntityTag> tag = itemQueryService.getSearchTag(webRequest.getRequest().getQueryString());
+        if (tag.isPresent() && tag.get().isNotModified(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        if (request.getCursor() != null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(itemQueryService.searchItemsByCursor(
+                    request.getQuery(),
+                    request.getPlaceIds(),
+                    request.getStatus(),
+                    request.getFoundAtFrom(),
+                    request.getFoundAtTo(),
+                    request.getCategories(),
+                    request.getSort(),
+                    request.getCursor(),
+                    request.getSize()
+            ));
+        }
+
         ItemSearchResponse response = itemQueryService.searchItems(
                 request.getQuery(),
                 request.getPlaceIds(),
@@ -109,10 +141,31 @@ public class ItemController {
                 request.getPage(),
                 request.getSize()
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
-    @Operation(summary = "물품 상세 조회", description = "특정 물품의 상세 정보를 조회합니다.")
+    @Operation(summary = "물품 목록 델타 동기화", description = "since(직전 응답의 highWaterMark) 이후 변경된 물품과 목록에서 빠진 물품 ID만 반환합니다. since 없이 호출하면 전체 목록을 반환하며, hasMore가 true면 highWaterMark/highWaterId로 바로 이어서 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "동기화 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ItemSyncResponse.class)
+                    ))
+    })
+    @GetMapping("/sync")
+    public ResponseEntity<ItemSyncResponse> syncItems(
+            @Parameter(description = "직전 응답의 highWaterMark (없으면 전체 동기화)")
+            @RequestParam(required = false) Long since,
+            @Parameter(description = "직전 응답의 highWaterId")
+            @RequestParam(required = false) Long sinceId,
+            @Parameter(description = "한 번에 받을 최대 물품 수 (기본값: 100)")
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 500, message = "페이지 크기는 500 이하여야 합니다.") int size
+    ) {
+        return ResponseEntity.ok(itemSyncService.syncItems(since, sinceId, size));
+    }
+
+    @Operation(summary = "물품 상세 조회", description = "특정 물품의 상세 정보를 조회합니다. 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(
@@ -123,15 +176,24 @@ public class ItemController {
                     content = @Content(
                             mediaType = "application/json",
                             examples = @ExampleObject(value = "{\"message\": \"해당 물품을 찾을 수 없습니다.\"}")
-                    ))
+                    )),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ItemDetailResponse> getItemDetail(
             @Parameter(description = "조회할 물품 ID", required = true, example = "1")
-            @PathVariable Long id
+            @PathVariable Long id,
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
     ) {
+        // 버전만으로 재검증하고, 바뀌었을 때만 상세 응답을 조회
+        Optional<EntityTag> tag = itemQueryService.getItemDetailTag(id);
+        if (tag.isPresent() && tag.get().isNotModified(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         ItemDetailResponse response = itemQueryService.getItemDetail(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @Operation(summary = "물품 정보 수정", description = "물품의 정보를 수정합니다. ADMIN 권한이 필요합니다.")
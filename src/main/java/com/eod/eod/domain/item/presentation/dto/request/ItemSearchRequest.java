@@ -72,4 +72,10 @@ public class ItemSearchRequest {
             defaultValue = "LATEST",
             requiredMode = Schema.RequiredMode.NOT_REQUIRED)
     private String sort = ItemSearchSort.LATEST.name();
+
+    @Schema(description = "커서 (선택 사항) - 파라미터를 전달하면 커서 모드로 동작하며 page는 무시됩니다. "
+            + "첫 페이지는 빈 값으로 요청하고, 이후에는 응답의 nextCursor/prevCursor를 그대로 전달합니다.",
+            example = "TnwyMDI0LTAxLTE1VDE0OjMwfDQy",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+    private String cursor;
 }
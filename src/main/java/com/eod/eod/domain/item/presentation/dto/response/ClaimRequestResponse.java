@@ -3,6 +3,7 @@ package com.eod.eod.domain.item.presentation.dto.response;
 import com.eod.eod.domain.item.model.ItemClaim;
 import com.eod.eod.domain.user.model.User;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class ClaimRequestResponse {
 
     private Long requestId;
@@ -25,22 +27,18 @@ public class ClaimRequestResponse {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate visitDate;
 
-    public static ClaimRequestResponse from(ItemClaim claim) {
-        return ClaimRequestResponse.builder()
-                .requestId(claim.getId())
-                .itemId(claim.getItem().getId())
-                .itemName(claim.getItem().getName())
-                .imageUrl(claim.getItem().getImage())
-                .requesterName(claim.getClaimant().getName())
-                .requesterType(mapRoleToRequesterType(claim.getClaimant()))
-                .requestedAt(claim.getClaimedAt())
-                .status(claim.getStatus().name())
-                .visitDate(claim.getVisitDate())
-                .build();
+    /**
+     * QueryDSL 프로젝션 전용 생성자 (물품/신청자 엔티티 로딩 없이 조인 컬럼으로 바로 응답 생성)
+     */
+    public ClaimRequestResponse(Long requestId, Long itemId, String itemName, String imageUrl,
+                                String requesterName, User.Role requesterRole, LocalDateTime requestedAt,
+                                ItemClaim.ClaimStatus status, LocalDate visitDate) {
+        this(requestId, itemId, itemName, imageUrl, requesterName, mapRoleToRequesterType(requesterRole),
+                requestedAt, status.name(), visitDate);
     }
 
-    private static String mapRoleToRequesterType(User user) {
-        return switch (user.getRole()) {
+    private static String mapRoleToRequesterType(User.Role role) {
+        return switch (role) {
             case ADMIN -> "ADMIN";
             case TEACHER -> "TEACHER";
             case USER -> "STUDENT";
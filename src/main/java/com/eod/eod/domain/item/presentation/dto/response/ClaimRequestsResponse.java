@@ -1,12 +1,10 @@
 package com.eod.eod.domain.item.presentation.dto.response;
 
-import com.eod.eod.domain.item.model.ItemClaim;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -17,16 +15,12 @@ public class ClaimRequestsResponse {
     private long total;
     private List<ClaimRequestResponse> requests;
 
-    public static ClaimRequestsResponse from(Page<ItemClaim> claimPage, int pageNumber) {
-        List<ClaimRequestResponse> requests = claimPage.getContent().stream()
-                .map(ClaimRequestResponse::from)
-                .collect(Collectors.toList());
-
+    public static ClaimRequestsResponse from(Page<ClaimRequestResponse> requestPage, int pageNumber) {
         return ClaimRequestsResponse.builder()
                 .page(pageNumber)
-                .size(claimPage.getSize())
-                .total(claimPage.getTotalElements())
-                .requests(requests)
+                .size(requestPage.getSize())
+                .total(requestPage.getTotalElements())
+                .requests(requestPage.getContent())
                 .build();
     }
 }
\ No newline at end of file
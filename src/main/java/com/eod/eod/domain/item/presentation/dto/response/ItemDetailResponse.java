@@ -1,13 +1,18 @@
 package com.eod.eod.domain.item.presentation.dto.response;
 
+import com.eod.eod.common.util.DatePrecisionFormatter;
 import com.eod.eod.domain.item.model.Item;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
+@AllArgsConstructor
 public class ItemDetailResponse {
 
     @Schema(description = "물품 ID", example = "1")
@@ -43,4 +48,17 @@ public class ItemDetailResponse {
 
     @Schema(description = "폐기 예정일", example = "2026-01-01")
     private String disposalDate;
+
+    /**
+     * QueryDSL 프로젝션 전용 생성자 (엔티티 로딩 없이 조회 컬럼으로 바로 응답 생성)
+     */
+    public ItemDetailResponse(Long id, String name, Integer reporterStudentCode, String reporterName,
+                              String imageUrl, LocalDateTime foundAt, Item.DatePrecision foundAtPrecision,
+                              String foundPlace, String foundPlaceDetail, Item.ItemCategory category,
+                              LocalDateTime discardedAt) {
+        this(id, name, reporterStudentCode, reporterName, imageUrl,
+                DatePrecisionFormatter.format(foundAt, foundAtPrecision),
+                foundPlace, foundPlaceDetail, category,
+                DatePrecisionFormatter.format(discardedAt, Item.DatePrecision.DAY));
+    }
 }
@@ -1,5 +1,6 @@
 package com.eod.eod.domain.item.presentation.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -12,29 +13,38 @@ import java.util.List;
 @Getter
 @Builder
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ItemSearchResponse {
 
     @Schema(description = "분실물 목록")
     private List<ItemSummaryResponse> content;
 
-    @Schema(description = "현재 페이지 번호", example = "1")
-    private int page;
+    @Schema(description = "현재 페이지 번호 (커서 모드에서는 생략)", example = "1")
+    private Integer page;
 
     @Schema(description = "페이지 크기", example = "10")
     private int size;
 
     @JsonProperty("totalElements")
-    @Schema(description = "전체 요소 개수", example = "132")
-    private long totalElements;
+    @Schema(description = "전체 요소 개수 (커서 모드에서는 생략)", example = "132")
+    private Long totalElements;
 
     @JsonProperty("totalPages")
-    @Schema(description = "전체 페이지 수", example = "14")
-    private int totalPages;
+    @Schema(description = "전체 페이지 수 (커서 모드에서는 생략)", example = "14")
+    private Integer totalPages;
 
     @JsonProperty("isLast")
     @Schema(description = "마지막 페이지 여부", example = "false")
     private boolean isLast;
 
+    @JsonProperty("nextCursor")
+    @Schema(description = "다음 페이지 커서 (커서 모드 전용, 마지막 페이지면 생략)", example = "TnwyMDI0LTAxLTE1VDE0OjMwfDQy")
+    private String nextCursor;
+
+    @JsonProperty("prevCursor")
+    @Schema(description = "이전 페이지 커서 (커서 모드 전용, 첫 페이지면 생략)", example = "UHwyMDI0LTAxLTE2VDA5OjAwfDUx")
+    private String prevCursor;
+
     public static ItemSearchResponse from(Page<ItemSummaryResponse> page) {
         return ItemSearchResponse.builder()
                 .content(page.getContent())
@@ -45,4 +55,15 @@ public class ItemSearchResponse {
                 .isLast(page.isLast())
                 .build();
     }
+
+    public static ItemSearchResponse ofCursor(List<ItemSummaryResponse> content, int size,
+                                              String nextCursor, String prevCursor) {
+        return ItemSearchResponse.builder()
+                .content(content)
+                .size(size)
+                .isLast(nextCursor == null)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.eod.eod.domain.item.presentation.dto.response;
 
+import com.eod.eod.common.util.DatePrecisionFormatter;
 import com.eod.eod.domain.item.model.Item;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -7,6 +8,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 @AllArgsConstructor
@@ -45,4 +48,18 @@ public class ItemSummaryResponse {
 
     @Schema(description = "폐기 예정일", example = "2024-12-31")
     String disposalDate;
+
+    /**
+     * QueryDSL 프로젝션 전용 생성자 (엔티티 로딩 없이 조회 컬럼으로 바로 응답 생성)
+     */
+    public ItemSummaryResponse(Long id, String name, String reporterName,
+                               LocalDateTime foundAt, Item.DatePrecision foundAtPrecision,
+                               String foundPlace, String placeDetail, String imageUrl,
+                               Item.ItemStatus status, Item.ItemCategory category, LocalDateTime discardedAt) {
+        this(id, name, reporterName,
+                DatePrecisionFormatter.format(foundAt, foundAtPrecision),
+                foundPlace != null ? foundPlace : "",
+                placeDetail, imageUrl, status.name(), category,
+                DatePrecisionFormatter.format(discardedAt, Item.DatePrecision.DAY));
+    }
 }
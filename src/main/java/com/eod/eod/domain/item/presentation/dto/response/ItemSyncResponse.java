@@ -0,0 +1,27 @@
+package com.eod.eod.domain.item.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ItemSyncResponse {
+
+    @Schema(description = "since 이후 추가/변경된 물품")
+    private List<ItemSummaryResponse> items;
+
+    @Schema(description = "since 이후 삭제되었거나 지급 완료되어 목록에서 빼야 하는 물품 ID")
+    private List<Long> removedIds;
+
+    @Schema(description = "다음 요청의 since로 보낼 변경 버전", example = "1735689600000000")
+    private long highWaterMark;
+
+    @Schema(description = "다음 요청의 sinceId로 보낼 물품 ID", example = "0")
+    private long highWaterId;
+
+    @Schema(description = "이어서 받을 변경이 더 있는지 (true면 바로 다음 페이지를 요청)", example = "false")
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package com.eod.eod.domain.item.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MyClaimsSyncResponse {
+
+    @Schema(description = "since 이후 추가/변경된 회수 요청")
+    private List<MyClaimResponse> claims;
+
+    @Schema(description = "since 이후 취소되었거나 물품이 삭제되어 목록에서 빼야 하는 회수 요청 ID")
+    private List<Long> removedIds;
+
+    @Schema(description = "다음 요청의 since로 보낼 변경 버전", example = "1735689600000000")
+    private long highWaterMark;
+
+    @Schema(description = "since가 삭제 기록 보존 기간보다 오래되어 전체 목록으로 응답했는지 (true면 로컬 목록을 교체)", example = "false")
+    private boolean resyncRequired;
+}
@@ -0,0 +1,140 @@
+package com.eod.eod.domain.place.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.common.event.EodCacheReloadEvent;
+import com.eod.eod.common.util.EntityTag;
+import com.eod.eod.domain.place.infrastructure.PlaceRepository;
+import com.eod.eod.domain.place.model.Place;
+import com.eod.eod.domain.place.presentation.dto.response.PlaceResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 장소 카탈로그 (프로세스 전역 인메모리 캐시)
+ *
+ * 장소 테이블은 거의 바뀌지 않으므로 기동 시 한 번 적재한 불변 스냅샷을 잠금 없이 읽고,
+ * 주기적 갱신 또는 관리자 재적재 시 새 스냅샷을 만들어 통째로 교체합니다(copy-on-write).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCatalog {
+
+    private static final String CACHE_NAME = "place_catalog";
+
+    private final PlaceRepository placeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Map<Long, String> places = Map.of();
+    private volatile EntityTag tag = EntityTag.of(-1L, CACHE_NAME, Map.of());
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reloadQuietly();
+    }
+
+    @Scheduled(fixedDelayString = "${place.catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${place.catalog.refresh-interval-ms:600000}")
+    public void refresh() {
+        reloadQuietly();
+    }
+
+    /**
+     * DB에서 장소 목록을 다시 읽어 스냅샷 교체
+     * @return 적재된 장소 수
+     */
+    public synchronized int reload() {
+        Instant start = Instant.now();
+        try {
+            Map<Long, String> snapshot = new LinkedHashMap<>();
+            for (Place place : placeRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))) {
+                snapshot.put(place.getId(), place.getPlace());
+            }
+            places = Collections.unmodifiableMap(snapshot);
+            tag = EntityTag.of(-1L, CACHE_NAME, snapshot);
+            loaded = true;
+            eventPublisher.publishEvent(new EodCacheReloadEvent(
+                    CACHE_NAME, "success", snapshot.size(), Duration.between(start, Instant.now())));
+            log.info("장소 카탈로그 적재 완료 - {}건", snapshot.size());
+            return snapshot.size();
+        } catch (RuntimeException e) {
+            eventPublisher.publishEvent(new EodCacheReloadEvent(
+                    CACHE_NAME, "failure", places.size(), Duration.between(start, Instant.now())));
+            throw e;
+        }
+    }
+
+    public boolean exists(Long placeId) {
+        return findName(placeId).isPresent();
+    }
+
+    /**
+     * 장소 ID로 장소명 조회
+     * 카탈로그에 없는 ID는 갱신 주기 사이에 추가된 장소일 수 있으므로 DB를 한 번 확인하고, 있으면 카탈로그를 재적재합니다.
+     */
+    public Optional<String> findName(Long placeId) {
+        if (placeId == null) {
+            return Optional.empty();
+        }
+
+        String name = places.get(placeId);
+        if (name != null) {
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+            return Optional.of(name);
+        }
+
+        eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "miss"));
+        Optional<String> found = placeRepository.findById(placeId).map(Place::getPlace);
+        if (found.isPresent()) {
+            reloadQuietly();
+        }
+        return found;
+    }
+
+    public List<PlaceResponseDto> findAll() {
+        if (!loaded) {
+            reloadQuietly();
+        }
+        return places.entrySet().stream()
+                .map(entry -> {
+                    PlaceResponseDto dto = new PlaceResponseDto();
+                    dto.setId(entry.getKey());
+                    dto.setName(entry.getValue());
+                    return dto;
+                })
+                .toList();
+    }
+
+    /**
+     * 현재 스냅샷의 검증값 (장소 ID와 이름으로만 만들므로 같은 목록이면 인스턴스와 무관하게 같은 값)
+     */
+    public EntityTag tag() {
+        if (!loaded) {
+            reloadQuietly();
+        }
+        return tag;
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("장소 카탈로그 적재 실패 - 이전 스냅샷을 유지합니다.", e);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.eod.eod.domain.place.application;
 
-import com.eod.eod.domain.place.model.Place;
+import com.eod.eod.common.util.EntityTag;
 import com.eod.eod.domain.place.presentation.dto.response.PlaceResponseDto;
+import com.eod.eod.domain.user.model.User;
 
 import java.util.List;
 
 public interface PlaceService {
     List<PlaceResponseDto> findAll();
+
+    EntityTag catalogTag();
+
+    List<PlaceResponseDto> reload(User currentUser);
 }
@@ -1,9 +1,10 @@
 package com.eod.eod.domain.place.application;
 
 
-import com.eod.eod.domain.place.infrastructure.PlaceRepository;
-import com.eod.eod.domain.place.model.Place;
+import com.eod.eod.common.annotation.RequireAdmin;
+import com.eod.eod.common.util.EntityTag;
 import com.eod.eod.domain.place.presentation.dto.response.PlaceResponseDto;
+import com.eod.eod.domain.user.model.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,13 +14,19 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlaceServiceImpl implements PlaceService {
 
-    private final PlaceRepository placeRepository;
+    private final PlaceCatalog placeCatalog;
 
     public List<PlaceResponseDto> findAll() {
-        List<Place> places = placeRepository.findAll();
+        return placeCatalog.findAll();
+    }
+
+    public EntityTag catalogTag() {
+        return placeCatalog.tag();
+    }
 
-        return places.stream()
-                .map(place -> place.toResponseDto(place))
-                .toList();
+    @RequireAdmin
+    public List<PlaceResponseDto> reload(User currentUser) {
+        placeCatalog.reload();
+        return placeCatalog.findAll();
     }
 }
@@ -1,21 +1,28 @@
 package com.eod.eod.domain.place.presentation;
 
 
+import com.eod.eod.common.util.EntityTag;
 import com.eod.eod.domain.place.application.PlaceServiceImpl;
-import com.eod.eod.domain.place.model.Place;
 import com.eod.eod.domain.place.presentation.dto.response.PlaceResponseDto;
+import com.eod.eod.domain.user.model.User;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,19 +34,48 @@ public class PlaceController {
 
     private final PlaceServiceImpl placeServiceImpl;
 
-    @Operation(summary = "장소 목록 조회", description = "등록된 모든 장소 목록을 조회합니다.")
+    @Operation(summary = "장소 목록 조회", description = "등록된 모든 장소 목록을 조회합니다. 응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = PlaceResponseDto.class)
-                    ))
+                    )),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
-    public ResponseEntity<List<PlaceResponseDto>> findAll() {
+    public ResponseEntity<List<PlaceResponseDto>> findAll(
+            @Parameter(hidden = true)
+            WebRequest webRequest
+    ) {
+        EntityTag tag = placeServiceImpl.catalogTag();
+        if (tag.isNotModified(webRequest)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<PlaceResponseDto> places = placeServiceImpl.findAll();
-        return new ResponseEntity<>(places, HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(places);
+    }
 
+    @Operation(summary = "장소 목록 재적재", description = "DB에서 장소 목록을 다시 읽어 장소 카탈로그를 갱신합니다. (ADMIN 전용)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재적재 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PlaceResponseDto.class)
+                    )),
+            @ApiResponse(responseCode = "403", description = "ADMIN 권한 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"ADMIN 권한이 필요합니다.\"}")
+                    ))
+    })
+    @PostMapping("/reload")
+    public ResponseEntity<List<PlaceResponseDto>> reload(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal User currentUser
+    ) {
+        return ResponseEntity.ok(placeServiceImpl.reload(currentUser));
     }
 
 }
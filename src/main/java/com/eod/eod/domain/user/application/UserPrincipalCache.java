@@ -0,0 +1,112 @@
+package com.eod.eod.domain.user.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.domain.user.application.event.UserChangedEvent;
+import com.eod.eod.domain.user.infrastructure.UserRepository;
+import com.eod.eod.domain.user.model.User;
+import com.eod.eod.domain.user.model.UserSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 인증 주체(User) 캐시
+ *
+ * 인증된 요청마다 users 테이블을 조회하지 않도록 짧은 TTL 동안 사용자 정보를 보관합니다.
+ * 캐시에는 불변 스냅샷만 두고 적중할 때마다 새 User 인스턴스를 만들어 반환하므로,
+ * 한 요청이 주체를 수정하거나 롤백되어도 캐시와 동시에 처리 중인 다른 요청에는 영향이 없습니다.
+ *
+ * 역할/디스코드 연동/학생 정보가 바뀌면 커밋 이후 이 인스턴스의 항목만 즉시 무효화합니다.
+ * 다른 인스턴스는 TTL(auth.principal-cache.ttl)이 지날 때까지 이전 역할/디스코드 ID를 볼 수 있습니다.
+ * 권한(authority)은 토큰의 role 클레임으로 부여하므로 이 지연은 주체의 getRole()/getDiscordId()를 읽는 서비스 로직에만 해당합니다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final String CACHE_NAME = "user_principal";
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<Long, CachedUser> users = new ConcurrentHashMap<>();
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${auth.principal-cache.enabled:true}") boolean enabled,
+                              @Value("${auth.principal-cache.ttl:PT30S}") Duration ttl,
+                              @Value("${auth.principal-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 사용자 조회 (캐시에 없거나 만료되었으면 DB에서 읽어 캐시에 적재)
+     */
+    public Optional<User> findById(Long userId) {
+        if (!enabled) {
+            return userRepository.findById(userId);
+        }
+
+        long now = System.currentTimeMillis();
+        CachedUser cached = users.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "hit"));
+            return Optional.of(User.restore(cached.snapshot()));
+        }
+
+        eventPublisher.publishEvent(new EodCacheAccessEvent(CACHE_NAME, "miss"));
+        Optional<User> user = userRepository.findById(userId);
+        user.ifPresentOrElse(found -> put(userId, found, now), () -> users.remove(userId));
+        return user;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            users.remove(userId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    int size() {
+        return users.size();
+    }
+
+    private void put(Long userId, User user, long now) {
+        if (users.size() >= maxSize && !users.containsKey(userId)) {
+            evict(now);
+        }
+        users.put(userId, new CachedUser(user.snapshot(), now + ttlMillis));
+    }
+
+    /**
+     * 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의의 항목을 제거하여 크기 상한 유지
+     */
+    private void evict(long now) {
+        users.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+        Iterator<Long> iterator = users.keySet().iterator();
+        while (users.size() >= maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedUser(UserSnapshot snapshot, long expiresAt) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.eod.eod.domain.user.application.event;
+
+/**
+ * 사용자 정보(역할, 디스코드 연동, 학생 정보) 변경 이벤트
+ *
+ * 트랜잭션 커밋 이후 인증 주체 캐시를 무효화하는 데 사용합니다.
+ */
+public record UserChangedEvent(Long userId) {
+}
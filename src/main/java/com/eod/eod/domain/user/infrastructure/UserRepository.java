@@ -2,6 +2,7 @@ package com.eod.eod.domain.user.infrastructure;
 
 import com.eod.eod.domain.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,4 +19,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByName(String name);
 
     Optional<User> findByDiscordId(String discordId);
+
+    // 물품 목록 조회 ETag용 신고자 정보 최신 변경 버전 (change_version 인덱스만 읽음)
+    @Query("SELECT COALESCE(MAX(u.changeVersion), 0) FROM User u")
+    long findMaxChangeVersion();
 }
@@ -1,5 +1,6 @@
 package com.eod.eod.domain.user.model;
 
+import com.eod.eod.common.util.ChangeVersion;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,7 +13,9 @@ import java.time.LocalDateTime;
 // OAuth 인증 기반 사용자 정보 관리
 // ADMIN, TEACHER, USER 역할 지원
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_change_version", columnList = "change_version")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
@@ -71,6 +74,11 @@ public class User {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 물품 응답에 노출되는 신고자 정보(이름, 학번) 변경 버전 - 목록 조회 ETag가 신고자 변경을 감지하는 데 사용
+    // 이름이나 학번을 바꾸는 메서드는 반드시 touch()를 호출해야 함
+    @Column(name = "change_version", nullable = false, columnDefinition = "bigint default 0")
+    private long changeVersion;
+
     // 빌더 패턴을 통한 엔티티 생성
     // createdAt은 자동으로 현재 시간으로 설정됨
     @Builder
@@ -87,6 +95,33 @@ public class User {
         this.role = role;
         this.introduce = introduce;
         this.createdAt = LocalDateTime.now();
+        this.changeVersion = ChangeVersion.next();
+    }
+
+    // 현재 상태의 불변 스냅샷 (요청 간에 공유하는 캐시 보관용)
+    public UserSnapshot snapshot() {
+        return new UserSnapshot(id, isGraduate, grade, classNo, studentNo, oauthProvider, oauthId,
+                name, email, role, introduce, discordId, createdAt, changeVersion);
+    }
+
+    // 스냅샷으로 새 분리(detached) 엔티티 생성 - 호출할 때마다 다른 인스턴스이므로 수정해도 스냅샷과 다른 요청에 영향 없음
+    public static User restore(UserSnapshot snapshot) {
+        User user = new User();
+        user.id = snapshot.id();
+        user.isGraduate = snapshot.isGraduate();
+        user.grade = snapshot.grade();
+        user.classNo = snapshot.classNo();
+        user.studentNo = snapshot.studentNo();
+        user.oauthProvider = snapshot.oauthProvider();
+        user.oauthId = snapshot.oauthId();
+        user.name = snapshot.name();
+        user.email = snapshot.email();
+        user.role = snapshot.role();
+        user.introduce = snapshot.introduce();
+        user.discordId = snapshot.discordId();
+        user.createdAt = snapshot.createdAt();
+        user.changeVersion = snapshot.changeVersion();
+        return user;
     }
 
     // 도메인 로직: 관리자 권한 확인
@@ -115,6 +150,7 @@ public class User {
         this.grade = grade;
         this.classNo = classNo;
         this.studentNo = studentNo;
+        touch();
     }
 
     public void updateDiscordId(String discordId) {
@@ -132,6 +168,11 @@ public class User {
         this.discordId = discordId;
     }
 
+    // 신고자 정보가 들어간 물품 응답의 검증값이 바뀌도록 변경 버전 갱신
+    private void touch() {
+        this.changeVersion = ChangeVersion.next();
+    }
+
     // 사용자 역할 정의
     // ADMIN: 관리자, TEACHER: 교사, USER: 일반 사용자(학생)
     public enum Role {
@@ -0,0 +1,27 @@
+package com.eod.eod.domain.user.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 엔티티의 불변 스냅샷
+ *
+ * 여러 요청이 공유하는 캐시에는 변경 가능한 엔티티 대신 이 값을 보관하고,
+ * 요청마다 User.restore로 새 분리(detached) 엔티티를 만들어 넘깁니다.
+ */
+public record UserSnapshot(
+        Long id,
+        Boolean isGraduate,
+        Integer grade,
+        Integer classNo,
+        Integer studentNo,
+        String oauthProvider,
+        String oauthId,
+        String name,
+        String email,
+        User.Role role,
+        String introduce,
+        String discordId,
+        LocalDateTime createdAt,
+        long changeVersion
+) {
+}
@@ -2,6 +2,8 @@ package com.eod.eod.common.jwt;
 
 import com.eod.eod.domain.user.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtTokenProviderTest {
 
@@ -46,6 +49,44 @@ class JwtTokenProviderTest {
         assertThat(claims.get("studentNo")).isNull();
     }
 
+    @Test
+    void verify는_한_번의_파싱으로_사용자_ID_타입_역할을_반환한다() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtProperties());
+        String token = jwtTokenProvider.createAccessToken(1L, "hong@test.com", "ADMIN");
+
+        VerifiedToken verified = jwtTokenProvider.verify(token);
+
+        assertThat(verified.userId()).isEqualTo(1L);
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.role()).isEqualTo("ADMIN");
+        assertThat(verified.expiresAt()).isNotNull();
+        assertThat(jwtTokenProvider.verify(token)).isEqualTo(verified);
+    }
+
+    @Test
+    void 만료된_토큰은_ExpiredJwtException을_던진다() {
+        JwtProperties properties = jwtProperties();
+        properties.setAccessTokenExpiration(Duration.ofMillis(-1000));
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(properties);
+        String token = jwtTokenProvider.createAccessToken(1L, "hong@test.com", "USER");
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtTokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void 다른_키로_서명된_토큰은_거부한다() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtProperties());
+        String forged = Jwts.builder()
+                .subject("1")
+                .claim("type", "access")
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-testing-purposes-only-32-chars".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(forged)).isInstanceOf(JwtException.class);
+        assertThat(jwtTokenProvider.validateToken(forged)).isFalse();
+    }
+
     private JwtProperties jwtProperties() {
         JwtProperties jwtProperties = new JwtProperties();
         jwtProperties.setSecret(SECRET);
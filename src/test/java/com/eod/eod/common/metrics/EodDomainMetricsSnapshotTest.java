@@ -0,0 +1,97 @@
+package com.eod.eod.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.eod.eod.domain.item.infrastructure.ClaimStatusCount;
+import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
+import com.eod.eod.domain.item.infrastructure.ItemRepository;
+import com.eod.eod.domain.item.infrastructure.ItemStatusCount;
+import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.reward.infrastructure.RewardRecordRepository;
+import com.eod.eod.domain.user.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EodDomainMetricsSnapshotTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ItemClaimRepository itemClaimRepository;
+
+    @Mock
+    private RewardRecordRepository rewardRecordRepository;
+
+    @InjectMocks
+    private EodDomainMetricsSnapshot snapshot;
+
+    @Test
+    @DisplayName("그룹 집계 결과를 게이지 값으로 반영하고 집계에 없는 상태는 0으로 둔다")
+    void refreshUpdatesGauges() {
+        when(itemRepository.countGroupByStatus()).thenReturn(List.of(itemCount(Item.ItemStatus.LOST, 5)));
+        when(itemClaimRepository.countGroupByStatus())
+                .thenReturn(List.of(claimCount(ItemClaim.ClaimStatus.PENDING, 2)));
+        when(rewardRecordRepository.countRewardEligibleItems(Item.ItemStatus.GIVEN, User.Role.USER)).thenReturn(3L);
+        when(rewardRecordRepository.count()).thenReturn(7L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new EodDomainMetricsConfig(meterRegistry, snapshot);
+
+        snapshot.refresh();
+
+        assertThat(meterRegistry.get("eod_items_current").tag("status", "LOST").gauge().value()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("eod_items_current").tag("status", "GIVEN").gauge().value()).isEqualTo(0.0);
+        assertThat(meterRegistry.get("eod_claims_current").tag("status", "PENDING").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("eod_reward_eligible_items").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("eod_reward_records_current").gauge().value()).isEqualTo(7.0);
+        assertThat(meterRegistry.get("eod_domain_snapshot_age_seconds").gauge().value()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("갱신 전에는 스냅샷 경과 시간을 -1로 노출하고 실패 시 이전 값을 유지한다")
+    void refreshFailureKeepsPreviousValues() {
+        when(itemRepository.countGroupByStatus()).thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        snapshot.refresh();
+
+        assertThat(snapshot.ageSeconds()).isEqualTo(-1.0);
+        assertThat(snapshot.itemCount(Item.ItemStatus.LOST).get()).isZero();
+    }
+
+    private ItemStatusCount itemCount(Item.ItemStatus status, long count) {
+        return new ItemStatusCount() {
+            @Override
+            public Item.ItemStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private ClaimStatusCount claimCount(ItemClaim.ClaimStatus status, long count) {
+        return new ClaimStatusCount() {
+            @Override
+            public ItemClaim.ClaimStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -1,16 +1,25 @@
 package com.eod.eod.common.metrics;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 
 import com.eod.eod.common.event.EodBusinessEvent;
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.common.event.EodCacheReloadEvent;
 import com.eod.eod.common.event.EodExternalCallEvent;
 import com.eod.eod.common.event.EodImageUploadEvent;
+import com.eod.eod.common.event.EodSchedulerChunkEvent;
 import com.eod.eod.common.event.EodSchedulerRunEvent;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,9 +29,13 @@ class EodMetricsListenerTest {
     @Mock
     private EodMetrics eodMetrics;
 
-    @InjectMocks
     private EodMetricsListener listener;
 
+    @BeforeEach
+    void setUp() {
+        listener = new EodMetricsListener(eodMetrics, Runnable::run);
+    }
+
     @Test
     @DisplayName("비즈니스 이벤트를 메트릭 기록으로 변환한다")
     void recordsBusinessEvent() {
@@ -56,6 +69,60 @@ class EodMetricsListenerTest {
     void recordsSchedulerRunEvent() {
         listener.onSchedulerRun(new EodSchedulerRunEvent("auto_discard_expired_items", "success", 3));
 
-        verify(eodMetrics).recordSchedulerRun("auto_discard_expired_items", "success", 3);
+        verify(eodMetrics).recordSchedulerRun("auto_discard_expired_items", "success", 3, null);
+    }
+
+    @Test
+    @DisplayName("스케줄러 실행 이벤트의 대상별 결과 건수를 함께 기록한다")
+    void recordsSchedulerItemOutcomes() {
+        Duration duration = Duration.ofSeconds(2);
+
+        listener.onSchedulerRun(new EodSchedulerRunEvent("pickup_reminder", "partial_failure", 5, duration,
+                Map.of("delivered", 5, "failed", 1)));
+
+        verify(eodMetrics).recordSchedulerRun("pickup_reminder", "partial_failure", 5, duration);
+        verify(eodMetrics).recordSchedulerItems("pickup_reminder", "delivered", 5);
+        verify(eodMetrics).recordSchedulerItems("pickup_reminder", "failed", 1);
+    }
+
+    @Test
+    @DisplayName("스케줄러 청크 이벤트를 메트릭 기록으로 변환한다")
+    void recordsSchedulerChunkEvent() {
+        Duration duration = Duration.ofMillis(40);
+
+        listener.onSchedulerChunk(new EodSchedulerChunkEvent("auto_discard_expired_items", 500, duration));
+
+        verify(eodMetrics).recordSchedulerChunk("auto_discard_expired_items", 500, duration);
+    }
+
+    @Test
+    @DisplayName("캐시 조회/재적재 이벤트를 메트릭 기록으로 변환한다")
+    void recordsCacheEvents() {
+        Duration duration = Duration.ofMillis(30);
+
+        listener.onCacheAccess(new EodCacheAccessEvent("place_catalog", "miss"));
+        listener.onCacheReload(new EodCacheReloadEvent("place_catalog", "success", 12, duration));
+
+        verify(eodMetrics).recordCacheAccess("place_catalog", "miss");
+        verify(eodMetrics).recordCacheReload("place_catalog", "success", 12, duration);
+    }
+
+    @Test
+    @DisplayName("비동기 모드에서는 요청 스레드가 아닌 메트릭 전용 스레드에서 기록한다")
+    void recordsOffCallerThread() throws Exception {
+        EodMetricsListener asyncListener = new EodMetricsListener(eodMetrics, true, 100);
+        AtomicReference<String> recordingThread = new AtomicReference<>();
+        CountDownLatch recorded = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            recordingThread.set(Thread.currentThread().getName());
+            recorded.countDown();
+            return null;
+        }).when(eodMetrics).recordBusinessEvent("item", "register", "success");
+
+        asyncListener.onBusinessEvent(new EodBusinessEvent("item", "register", "success"));
+
+        assertThat(recorded.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(recordingThread.get()).startsWith("eod-metrics-");
+        asyncListener.destroy();
     }
 }
@@ -4,6 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +53,28 @@ class EodMetricsTest {
         assertThat(count).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("레이트 리밋 결과를 provider/route/result 라벨로, 대기 시간은 provider/route 라벨로 기록한다")
+    void recordRateLimit() {
+        eodMetrics.recordRateLimit("discord", "send_message", "dispatched", Duration.ofMillis(300));
+        eodMetrics.recordRateLimit("discord", "send_message", "rate_limited", null);
+
+        double dispatched = meterRegistry.get("eod_rate_limit_requests_total")
+                .tag("provider", "discord")
+                .tag("route", "send_message")
+                .tag("result", "dispatched")
+                .counter()
+                .count();
+        long waits = meterRegistry.get("eod_rate_limit_wait_seconds")
+                .tag("provider", "discord")
+                .tag("route", "send_message")
+                .timer()
+                .count();
+
+        assertThat(dispatched).isEqualTo(1.0);
+        assertThat(waits).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("스케줄러 실행 결과와 처리 건수를 기록한다")
     void recordSchedulerRun() {
@@ -67,4 +93,109 @@ class EodMetricsTest {
         assertThat(eventCount).isEqualTo(1.0);
         assertThat(processedCount).isEqualTo(3.0);
     }
+
+    @Test
+    @DisplayName("실행 시간이 주어지면 스케줄러 실행 시간을 함께 기록한다")
+    void recordSchedulerRunWithDuration() {
+        eodMetrics.recordSchedulerRun("purge_expired_auth_rows", "success", 10, Duration.ofMillis(250));
+
+        long timerCount = meterRegistry.get("eod_scheduler_run_seconds")
+                .tag("task", "purge_expired_auth_rows")
+                .timer()
+                .count();
+
+        assertThat(timerCount).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("캐시 조회 결과를 cache/result 라벨로 기록한다")
+    void recordCacheAccess() {
+        eodMetrics.recordCacheAccess("place_catalog", "hit");
+        eodMetrics.recordCacheAccess("place_catalog", "hit");
+        eodMetrics.recordCacheAccess("place_catalog", "miss");
+
+        double hits = meterRegistry.get("eod_cache_requests_total")
+                .tag("cache", "place_catalog")
+                .tag("result", "hit")
+                .counter()
+                .count();
+
+        assertThat(hits).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("캐시 재적재 결과와 적재 건수를 기록한다")
+    void recordCacheReload() {
+        eodMetrics.recordCacheReload("place_catalog", "success", 12, Duration.ofMillis(30));
+
+        double reloads = meterRegistry.get("eod_cache_reloads_total")
+                .tag("cache", "place_catalog")
+                .tag("result", "success")
+                .counter()
+                .count();
+        double entries = meterRegistry.get("eod_cache_entries")
+                .tag("cache", "place_catalog")
+                .summary()
+                .totalAmount();
+
+        assertThat(reloads).isEqualTo(1.0);
+        assertThat(entries).isEqualTo(12.0);
+    }
+
+    @Test
+    @DisplayName("같은 이름과 태그의 미터는 한 번만 등록해 재사용한다")
+    void reusesRegisteredMeter() {
+        eodMetrics.recordBusinessEvent("item", "register", "success");
+        eodMetrics.recordBusinessEvent("item", "register", "success");
+
+        assertThat(meterRegistry.find("eod_business_events_total").counters()).hasSize(1);
+        assertThat(meterRegistry.get("eod_business_events_total").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("태그 조합이 상한을 넘으면 태그 값을 other로 묶어 기록한다")
+    void collapsesTagsOverCardinalityLimit() {
+        EodMetrics limited = new EodMetrics(meterRegistry, 2);
+
+        limited.recordBusinessEvent("item", "register", "success");
+        limited.recordBusinessEvent("item", "update", "success");
+        limited.recordBusinessEvent("item", "delete", "success");
+        limited.recordBusinessEvent("item", "give", "success");
+
+        assertThat(meterRegistry.find("eod_business_events_total").counters()).hasSize(3);
+        double overflow = meterRegistry.get("eod_business_events_total")
+                .tag("domain", "other")
+                .tag("action", "other")
+                .tag("result", "other")
+                .counter()
+                .count();
+        assertThat(overflow).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("같은 시리즈를 동시에 처음 기록해도 상한에는 한 번만 계산한다")
+    void countsConcurrentFirstRegistrationOnce() throws InterruptedException {
+        EodMetrics limited = new EodMetrics(meterRegistry, 2);
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                limited.recordBusinessEvent("item", "register", "success");
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        limited.recordBusinessEvent("item", "update", "success");
+
+        assertThat(meterRegistry.find("eod_business_events_total").tag("domain", "other").counters()).isEmpty();
+        assertThat(meterRegistry.get("eod_business_events_total").tag("action", "register").counter().count())
+                .isEqualTo(16.0);
+        assertThat(meterRegistry.get("eod_business_events_total").tag("action", "update").counter().count())
+                .isEqualTo(1.0);
+    }
 }
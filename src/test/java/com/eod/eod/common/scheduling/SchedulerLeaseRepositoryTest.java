@@ -0,0 +1,67 @@
+package com.eod.eod.common.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SchedulerLeaseRepositoryTest {
+
+    private static final String LOCK_NAME = "auto_discard_expired_items";
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Test
+    void 임대가_유효한_동안에는_다른_노드가_잠금을_획득할_수_없다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLeaseRepository.insertLease(LOCK_NAME, "node-a", now, now.plusMinutes(30));
+
+        // when
+        int acquired = schedulerLeaseRepository.acquireExpired(LOCK_NAME, "node-b", now.plusMinutes(1), now.plusMinutes(31));
+
+        // then
+        assertThat(acquired).isZero();
+        assertThat(schedulerLeaseRepository.findById(LOCK_NAME))
+                .hasValueSatisfying(lease -> assertThat(lease.getLockedBy()).isEqualTo("node-a"));
+    }
+
+    @Test
+    void 임대가_만료되면_다른_노드가_잠금을_가져간다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLeaseRepository.insertLease(LOCK_NAME, "node-a", now.minusMinutes(40), now.minusMinutes(10));
+
+        // when
+        int acquired = schedulerLeaseRepository.acquireExpired(LOCK_NAME, "node-b", now, now.plusMinutes(30));
+
+        // then
+        assertThat(acquired).isEqualTo(1);
+        assertThat(schedulerLeaseRepository.findById(LOCK_NAME))
+                .hasValueSatisfying(lease -> assertThat(lease.getLockedBy()).isEqualTo("node-b"));
+    }
+
+    @Test
+    void 잠금은_보유한_노드만_해제할_수_있다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLeaseRepository.insertLease(LOCK_NAME, "node-a", now, now.plusMinutes(30));
+
+        // when
+        int releasedByOther = schedulerLeaseRepository.release(LOCK_NAME, "node-b", now);
+        int releasedByOwner = schedulerLeaseRepository.release(LOCK_NAME, "node-a", now);
+
+        // then
+        assertThat(releasedByOther).isZero();
+        assertThat(releasedByOwner).isEqualTo(1);
+        assertThat(schedulerLeaseRepository.acquireExpired(LOCK_NAME, "node-b", now, now.plusMinutes(30)))
+                .isEqualTo(1);
+    }
+}
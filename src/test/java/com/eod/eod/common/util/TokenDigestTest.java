@@ -0,0 +1,25 @@
+package com.eod.eod.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDigestTest {
+
+    @Test
+    void 토큰_길이와_무관하게_64자_다이제스트를_반환한다() {
+        String shortDigest = TokenDigest.sha256("a");
+        String longDigest = TokenDigest.sha256("a".repeat(4096));
+
+        assertThat(shortDigest).hasSize(TokenDigest.LENGTH);
+        assertThat(longDigest).hasSize(TokenDigest.LENGTH);
+        assertThat(shortDigest).isNotEqualTo(longDigest);
+    }
+
+    @Test
+    void SHA_256_16진수_소문자_다이제스트를_반환한다() {
+        assertThat(TokenDigest.sha256("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(TokenDigest.sha256(null)).isNull();
+    }
+}
@@ -0,0 +1,174 @@
+package com.eod.eod.domain.admin.application;
+
+import com.eod.eod.common.event.EodBusinessEvent;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.admin.presentation.dto.response.AdminSummaryResponse;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminCounterStreamTest {
+
+    private final AdminSummaryService adminSummaryService = mock(AdminSummaryService.class);
+
+    @Test
+    void 처음_구독하면_전체_카운터를_snapshot으로_보낸다() {
+        // given
+        when(adminSummaryService.refresh()).thenReturn(summary(8, 5, 3));
+        AdminCounterStream stream = stream(32);
+        List<ServerSentEvent<Map<String, Long>>> received = new CopyOnWriteArrayList<>();
+
+        // when
+        Disposable subscription = stream.subscribe(null).subscribe(received::add);
+
+        // then
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).event()).isEqualTo(AdminCounterStream.SNAPSHOT_EVENT);
+        assertThat(received.get(0).data())
+                .containsEntry("pendingClaims", 8L)
+                .containsEntry("toBeDiscardedItems", 5L)
+                .containsEntry("rewardEligibleItems", 3L);
+        subscription.dispose();
+    }
+
+    @Test
+    void 카운터_이벤트가_있을_때만_집계해_바뀐_카운터만_delta로_보낸다() {
+        // given
+        when(adminSummaryService.refresh()).thenReturn(summary(8, 5, 3), summary(9, 5, 3));
+        AdminCounterStream stream = stream(32);
+        List<ServerSentEvent<Map<String, Long>>> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = stream.subscribe(null).subscribe(received::add);
+
+        // when
+        stream.flush();
+        stream.onBusinessEvent(new EodBusinessEvent("auth", "bsm_login", "success"));
+        stream.flush();
+        stream.onBusinessEvent(new EodBusinessEvent("claim", "create", "success"));
+        stream.flush();
+
+        // then
+        verify(adminSummaryService, times(2)).refresh();
+        assertThat(received).hasSize(2);
+        ServerSentEvent<Map<String, Long>> delta = received.get(1);
+        assertThat(delta.event()).isEqualTo(AdminCounterStream.DELTA_EVENT);
+        assertThat(delta.data()).containsExactly(Map.entry("pendingClaims", 9L));
+        assertThat(Long.parseLong(delta.id())).isGreaterThan(Long.parseLong(received.get(0).id()));
+        subscription.dispose();
+    }
+
+    @Test
+    void Last_Event_ID로_재연결하면_놓친_delta부터_이어서_보낸다() {
+        // given
+        when(adminSummaryService.refresh()).thenReturn(summary(8, 5, 3), summary(9, 5, 3), summary(9, 4, 3));
+        AdminCounterStream stream = stream(32);
+        List<ServerSentEvent<Map<String, Long>>> first = new CopyOnWriteArrayList<>();
+        Disposable keepAlive = stream.subscribe(null).subscribe(event -> { });
+        Disposable firstSubscription = stream.subscribe(null).subscribe(first::add);
+        String lastSeenId = first.get(0).id();
+        firstSubscription.dispose();
+
+        stream.onBusinessEvent(new EodBusinessEvent("claim", "create", "success"));
+        stream.flush();
+        stream.onSchedulerRun(new EodSchedulerRunEvent("auto_discard_expired_items", "success", 1));
+        stream.flush();
+
+        // when
+        List<ServerSentEvent<Map<String, Long>>> resumed = new CopyOnWriteArrayList<>();
+        Disposable resumedSubscription = stream.subscribe(lastSeenId).subscribe(resumed::add);
+
+        // then
+        assertThat(resumed).extracting(ServerSentEvent::event)
+                .containsExactly(AdminCounterStream.DELTA_EVENT, AdminCounterStream.DELTA_EVENT);
+        assertThat(resumed.get(0).data()).containsExactly(Map.entry("pendingClaims", 9L));
+        assertThat(resumed.get(1).data()).containsExactly(Map.entry("toBeDiscardedItems", 4L));
+        keepAlive.dispose();
+        resumedSubscription.dispose();
+    }
+
+    @Test
+    void 이벤트가_없어도_resync_주기마다_공유_스냅샷과_비교해_다른_인스턴스의_변경을_보낸다() {
+        // given
+        when(adminSummaryService.refresh()).thenReturn(summary(8, 5, 3));
+        when(adminSummaryService.getSummary()).thenReturn(summary(8, 5, 3), summary(8, 5, 4));
+        AdminCounterStream stream = new AdminCounterStream(adminSummaryService, Duration.ofHours(1), Duration.ofHours(1),
+                32, 100, Duration.ZERO);
+        List<ServerSentEvent<Map<String, Long>>> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = stream.subscribe(null).subscribe(received::add);
+
+        // when
+        stream.flush();
+        stream.flush();
+
+        // then
+        verify(adminSummaryService, times(1)).refresh();
+        verify(adminSummaryService, times(2)).getSummary();
+        assertThat(received).hasSize(2);
+        assertThat(received.get(1).event()).isEqualTo(AdminCounterStream.DELTA_EVENT);
+        assertThat(received.get(1).data()).containsExactly(Map.entry("rewardEligibleItems", 4L));
+        subscription.dispose();
+    }
+
+    @Test
+    void 구독자가_없으면_카운터_이벤트가_있어도_집계하지_않는다() {
+        // given
+        AdminCounterStream stream = stream(32);
+
+        // when
+        stream.onBusinessEvent(new EodBusinessEvent("reward", "give", "success"));
+        stream.flush();
+
+        // then
+        verify(adminSummaryService, never()).refresh();
+    }
+
+    @Test
+    void 구독자_버퍼가_가득_차면_해당_구독만_끊는다() {
+        // given
+        long[] pendingClaims = {0};
+        when(adminSummaryService.refresh()).thenAnswer(invocation -> summary(++pendingClaims[0], 0, 0));
+        AdminCounterStream stream = stream(4);
+        Disposable fast = stream.subscribe(null).subscribe(event -> { });
+        stream.subscribe(null).subscribe(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // 요청하지 않아 버퍼가 비워지지 않는 느린 구독자
+            }
+        });
+        assertThat(stream.subscriberCount()).isEqualTo(2);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            stream.onBusinessEvent(new EodBusinessEvent("claim", "create", "success"));
+            stream.flush();
+        }
+
+        // then
+        assertThat(stream.subscriberCount()).isEqualTo(1);
+        fast.dispose();
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    private AdminCounterStream stream(int bufferSize) {
+        return new AdminCounterStream(adminSummaryService, Duration.ofHours(1), Duration.ofHours(1), bufferSize, 100,
+                Duration.ofHours(1));
+    }
+
+    private static AdminSummaryResponse summary(long pendingClaims, long toBeDiscardedItems, long rewardEligibleItems) {
+        return new AdminSummaryResponse(pendingClaims, toBeDiscardedItems, rewardEligibleItems, LocalDateTime.now());
+    }
+}
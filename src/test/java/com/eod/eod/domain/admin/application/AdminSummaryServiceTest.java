@@ -0,0 +1,133 @@
+package com.eod.eod.domain.admin.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.domain.admin.presentation.dto.response.AdminSummaryResponse;
+import com.eod.eod.domain.item.infrastructure.DashboardCounts;
+import com.eod.eod.domain.item.infrastructure.ItemRepository;
+import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.user.model.User;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminSummaryServiceTest {
+
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @Test
+    void TTL_동안에는_스냅샷을_재사용한다() {
+        // given
+        stubCounts(8, 5, 3);
+        AdminSummaryService service = new AdminSummaryService(itemRepository, eventPublisher, Duration.ofMinutes(1));
+
+        // when
+        AdminSummaryResponse first = service.getSummary();
+        AdminSummaryResponse second = service.getSummary();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPendingClaims()).isEqualTo(8);
+        assertThat(first.getToBeDiscardedItems()).isEqualTo(5);
+        assertThat(first.getRewardEligibleItems()).isEqualTo(3);
+        assertThat(first.getGeneratedAt()).isNotNull();
+        verify(itemRepository).summarizeDashboard(Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.GIVEN, User.Role.USER);
+        assertThat(cacheResults()).containsExactly("miss", "hit");
+    }
+
+    @Test
+    void TTL이_지나면_다시_집계한다() {
+        // given
+        stubCounts(1, 0, 0);
+        AdminSummaryService service = new AdminSummaryService(itemRepository, eventPublisher, Duration.ZERO);
+
+        // when
+        service.getSummary();
+        service.getSummary();
+
+        // then
+        verify(itemRepository, times(2)).summarizeDashboard(Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.GIVEN, User.Role.USER);
+    }
+
+    @Test
+    void 동시에_만료된_스냅샷을_요청해도_집계는_한_번만_실행한다() throws Exception {
+        // given
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        DashboardCounts counts = counts(2, 0, 0);
+        when(itemRepository.summarizeDashboard(Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.GIVEN, User.Role.USER))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    releaseQuery.await(5, TimeUnit.SECONDS);
+                    return counts;
+                });
+        AdminSummaryService service = new AdminSummaryService(itemRepository, eventPublisher, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            List<Future<AdminSummaryResponse>> futures = new ArrayList<>();
+            futures.add(executor.submit(service::getSummary));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(service::getSummary));
+            }
+            releaseQuery.countDown();
+
+            // then
+            AdminSummaryResponse first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<AdminSummaryResponse> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            verify(itemRepository).summarizeDashboard(Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.GIVEN, User.Role.USER);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void stubCounts(long pendingClaims, long toBeDiscardedItems, long rewardEligibleItems) {
+        DashboardCounts counts = counts(pendingClaims, toBeDiscardedItems, rewardEligibleItems);
+        when(itemRepository.summarizeDashboard(Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.GIVEN, User.Role.USER))
+                .thenReturn(counts);
+    }
+
+    private static DashboardCounts counts(long pendingClaims, long toBeDiscardedItems, long rewardEligibleItems) {
+        return new DashboardCounts() {
+            @Override
+            public long getPendingClaims() {
+                return pendingClaims;
+            }
+
+            @Override
+            public long getToBeDiscardedItems() {
+                return toBeDiscardedItems;
+            }
+
+            @Override
+            public long getRewardEligibleItems() {
+                return rewardEligibleItems;
+            }
+        };
+    }
+
+    private List<String> cacheResults() {
+        ArgumentCaptor<EodCacheAccessEvent> captor = ArgumentCaptor.forClass(EodCacheAccessEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        return captor.getAllValues().stream().map(EodCacheAccessEvent::result).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.eod.eod.domain.auth.application;
+
+import com.eod.eod.common.util.TokenDigest;
+import com.eod.eod.domain.auth.infrastructure.MobileAuthTokenRepository;
+import com.eod.eod.domain.auth.infrastructure.RefreshTokenRepository;
+import com.eod.eod.domain.auth.model.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthTokenDigestBackfillTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private MobileAuthTokenRepository mobileAuthTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuthTokenDigestBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        backfill = new AuthTokenDigestBackfill(refreshTokenRepository, mobileAuthTokenRepository,
+                new TransactionTemplate(transactionManager), 2);
+    }
+
+    @Test
+    void 다이제스트가_없는_refresh_token을_ID_키셋_배치로_채운다() {
+        // given
+        RefreshToken first = legacyToken("legacy-1");
+        RefreshToken second = legacyToken("legacy-2");
+        RefreshToken third = legacyToken("legacy-3");
+        when(refreshTokenRepository.findIdsWithoutTokenHash(eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(refreshTokenRepository.findIdsWithoutTokenHash(eq(2L), any())).thenReturn(List.of(3L));
+        when(refreshTokenRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(refreshTokenRepository.findAllById(List.of(3L))).thenReturn(List.of(third));
+        when(mobileAuthTokenRepository.findIdsWithoutTokenHash(eq(0L), any())).thenReturn(List.of());
+
+        // when
+        backfill.backfill();
+
+        // then
+        assertThat(first.getTokenHash()).isEqualTo(TokenDigest.sha256("legacy-1"));
+        assertThat(second.getTokenHash()).isEqualTo(TokenDigest.sha256("legacy-2"));
+        assertThat(third.getTokenHash()).isEqualTo(TokenDigest.sha256("legacy-3"));
+    }
+
+    private static RefreshToken legacyToken(String token) {
+        RefreshToken refreshToken = RefreshToken.builder()
+                .token(token)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(refreshToken, "tokenHash", null);
+        return refreshToken;
+    }
+}
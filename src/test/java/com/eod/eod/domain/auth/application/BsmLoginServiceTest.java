@@ -1,7 +1,7 @@
 package com.eod.eod.domain.auth.application;
 
 import com.eod.eod.common.event.EodBusinessEvent;
-import com.eod.eod.domain.discord.application.DiscordBotClient;
+import com.eod.eod.domain.discord.application.DiscordNotificationOutbox;
 import com.eod.eod.domain.user.infrastructure.UserRepository;
 import com.eod.eod.domain.user.model.User;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -14,8 +14,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -43,7 +41,7 @@ class BsmLoginServiceTest {
     private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private DiscordBotClient discordBotClient;
+    private DiscordNotificationOutbox discordNotificationOutbox;
 
     @InjectMocks
     private BsmLoginService bsmLoginService;
@@ -278,8 +276,8 @@ class BsmLoginServiceTest {
     }
 
     @Test
-    @DisplayName("Discord 연동 성공 시 커밋 후 인증 완료 알림 전송")
-    void testLinkDiscordIdRegistersNotificationAfterCommit() {
+    @DisplayName("Discord 연동 성공 시 같은 트랜잭션에서 인증 완료 알림을 아웃박스에 기록")
+    void testLinkDiscordIdEnqueuesVerificationNotification() {
         User user = User.builder()
                 .email("hong@bssm.hs.kr")
                 .name("홍길동")
@@ -292,21 +290,10 @@ class BsmLoginServiceTest {
         when(userRepository.findByDiscordId(discordId)).thenReturn(Optional.empty());
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        TransactionSynchronizationManager.initSynchronization();
-        try {
-            User linkedUser = bsmLoginService.linkDiscordId(user, discordId);
+        User linkedUser = bsmLoginService.linkDiscordId(user, discordId);
 
-            assertThat(linkedUser.getDiscordId()).isEqualTo(discordId);
-            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
-
-            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
-                synchronization.afterCommit();
-            }
-
-            verify(discordBotClient).notifyVerified(discordId, "홍길동");
-        } finally {
-            TransactionSynchronizationManager.clearSynchronization();
-        }
+        assertThat(linkedUser.getDiscordId()).isEqualTo(discordId);
+        verify(discordNotificationOutbox).enqueueVerified(discordId, "홍길동");
     }
 
     @Test
@@ -321,16 +308,10 @@ class BsmLoginServiceTest {
                 .build();
         user.linkDiscordId("123456789012345678");
 
-        TransactionSynchronizationManager.initSynchronization();
-        try {
-            bsmLoginService.linkDiscordId(user, "123456789012345678");
+        bsmLoginService.linkDiscordId(user, "123456789012345678");
 
-            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
-            verifyNoInteractions(discordBotClient);
-            verify(userRepository, never()).save(any(User.class));
-        } finally {
-            TransactionSynchronizationManager.clearSynchronization();
-        }
+        verifyNoInteractions(discordNotificationOutbox);
+        verify(userRepository, never()).save(any(User.class));
     }
 
     /**
@@ -0,0 +1,106 @@
+package com.eod.eod.domain.auth.application;
+
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.auth.infrastructure.DiscordOAuthStateRepository;
+import com.eod.eod.domain.auth.infrastructure.MobileAuthTokenRepository;
+import com.eod.eod.domain.auth.infrastructure.MobileOAuthStateRepository;
+import com.eod.eod.domain.auth.infrastructure.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredAuthRowPurgeSchedulerTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private MobileAuthTokenRepository mobileAuthTokenRepository;
+
+    @Mock
+    private DiscordOAuthStateRepository discordOAuthStateRepository;
+
+    @Mock
+    private MobileOAuthStateRepository mobileOAuthStateRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ExpiredAuthRowPurgeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ExpiredAuthRowPurgeScheduler(
+                refreshTokenRepository,
+                mobileAuthTokenRepository,
+                discordOAuthStateRepository,
+                mobileOAuthStateRepository,
+                new TransactionTemplate(transactionManager),
+                eventPublisher,
+                2,
+                10
+        );
+    }
+
+    @Test
+    void 만료된_행을_배치_크기만큼_나누어_삭제하고_삭제_건수를_발행한다() {
+        // given
+        when(refreshTokenRepository.findExpiredIds(any(), any()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(mobileAuthTokenRepository.findExpiredIds(any(), any())).thenReturn(List.of());
+        when(discordOAuthStateRepository.findExpiredIds(any(), any())).thenReturn(List.of("state"));
+        when(mobileOAuthStateRepository.findExpiredIds(any(), any())).thenReturn(List.of());
+
+        // when
+        scheduler.purgeExpiredRows();
+
+        // then
+        verify(refreshTokenRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(refreshTokenRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(mobileAuthTokenRepository, never()).deleteAllByIdInBatch(any());
+        verify(discordOAuthStateRepository).deleteAllByIdInBatch(List.of("state"));
+        verify(transactionManager, times(5)).commit(any());
+
+        ArgumentCaptor<EodSchedulerRunEvent> captor = ArgumentCaptor.forClass(EodSchedulerRunEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().task()).isEqualTo("purge_expired_auth_rows");
+        assertThat(captor.getValue().result()).isEqualTo("success");
+        assertThat(captor.getValue().processedItems()).isEqualTo(4);
+        assertThat(captor.getValue().duration()).isNotNull();
+    }
+
+    @Test
+    void 한_번_실행에_테이블당_최대_배치_수까지만_삭제한다() {
+        // given
+        when(refreshTokenRepository.findExpiredIds(any(), any())).thenReturn(List.of(1L, 2L));
+        when(mobileAuthTokenRepository.findExpiredIds(any(), any())).thenReturn(List.of());
+        when(discordOAuthStateRepository.findExpiredIds(any(), any())).thenReturn(List.of());
+        when(mobileOAuthStateRepository.findExpiredIds(any(), any())).thenReturn(List.of());
+
+        // when
+        scheduler.purgeExpiredRows();
+
+        // then
+        verify(refreshTokenRepository, times(10)).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+}
@@ -0,0 +1,66 @@
+package com.eod.eod.domain.auth.infrastructure;
+
+import com.eod.eod.domain.auth.application.ShortLivedSecret;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryShortLivedSecretStoreTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final Instant NOW = Instant.parse("2025-03-04T09:00:00Z");
+
+    @Test
+    void 저장한_값은_한_번만_꺼낼_수_있다() {
+        // given
+        InMemoryShortLivedSecretStore<String> store = new InMemoryShortLivedSecretStore<>(Clock.fixed(NOW, ZONE));
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(NOW, ZONE).plusMinutes(5);
+        store.save("state", "1234567890", expiresAt);
+
+        // when
+        Optional<ShortLivedSecret<String>> first = store.consume("state");
+        Optional<ShortLivedSecret<String>> second = store.consume("state");
+
+        // then
+        assertThat(first).contains(new ShortLivedSecret<>("1234567890", expiresAt));
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    void 만료된_항목은_다음_저장_시점에_정리된다() {
+        // given
+        InMemoryShortLivedSecretStore<String> store = new InMemoryShortLivedSecretStore<>(Clock.fixed(NOW, ZONE));
+        LocalDateTime now = LocalDateTime.ofInstant(NOW, ZONE);
+        store.save("expired", "a", now.minusSeconds(1));
+
+        // when
+        store.save("fresh", "b", now.plusMinutes(5));
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.consume("expired")).isEmpty();
+        assertThat(store.consume("fresh")).isPresent();
+    }
+
+    @Test
+    void 같은_키로_다시_저장하면_이전_만료가_새_값을_지우지_않는다() {
+        // given
+        InMemoryShortLivedSecretStore<String> store = new InMemoryShortLivedSecretStore<>(Clock.fixed(NOW, ZONE));
+        LocalDateTime now = LocalDateTime.ofInstant(NOW, ZONE);
+        store.save("state", "old", now.minusSeconds(1));
+        store.save("state", "new", now.plusMinutes(5));
+
+        // when
+        store.purgeExpired();
+
+        // then
+        assertThat(store.consume("state")).map(ShortLivedSecret::value).contains("new");
+    }
+}
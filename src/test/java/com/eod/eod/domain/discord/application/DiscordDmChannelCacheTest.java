@@ -0,0 +1,80 @@
+package com.eod.eod.domain.discord.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.domain.discord.infrastructure.DiscordDmChannelRepository;
+import com.eod.eod.domain.discord.model.DiscordDmChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiscordDmChannelCacheTest {
+
+    @Mock
+    private DiscordDmChannelRepository dmChannelRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DiscordDmChannelCache dmChannelCache;
+
+    @BeforeEach
+    void setUp() {
+        dmChannelCache = new DiscordDmChannelCache(dmChannelRepository, eventPublisher, 2);
+    }
+
+    @Test
+    void 메모리에_없으면_DB에서_읽고_이후에는_메모리에서_반환한다() {
+        // given
+        when(dmChannelRepository.findById("user-1"))
+                .thenReturn(Optional.of(new DiscordDmChannel("user-1", "channel-1")));
+
+        // when
+        Optional<String> first = dmChannelCache.find("user-1");
+        Optional<String> second = dmChannelCache.find("user-1");
+
+        // then
+        assertThat(first).contains("channel-1");
+        assertThat(second).contains("channel-1");
+        verify(dmChannelRepository, times(1)).findById("user-1");
+        verify(eventPublisher).publishEvent(new EodCacheAccessEvent("discord_dm_channel", "miss"));
+        verify(eventPublisher).publishEvent(new EodCacheAccessEvent("discord_dm_channel", "hit"));
+    }
+
+    @Test
+    void 저장한_채널은_DB에도_기록하고_최대_크기를_넘으면_오래된_항목부터_메모리에서_밀어낸다() {
+        // when
+        dmChannelCache.save("user-1", "channel-1");
+        dmChannelCache.save("user-2", "channel-2");
+        dmChannelCache.save("user-3", "channel-3");
+
+        // then
+        assertThat(dmChannelCache.size()).isEqualTo(2);
+        verify(dmChannelRepository, times(3)).save(any(DiscordDmChannel.class));
+    }
+
+    @Test
+    void 무효화하면_메모리와_DB에서_모두_제거한다() {
+        // given
+        dmChannelCache.save("user-1", "channel-1");
+        when(dmChannelRepository.findById("user-1")).thenReturn(Optional.empty());
+
+        // when
+        dmChannelCache.evict("user-1");
+
+        // then
+        assertThat(dmChannelCache.find("user-1")).isEmpty();
+        verify(dmChannelRepository).deleteById("user-1");
+    }
+}
@@ -0,0 +1,211 @@
+package com.eod.eod.domain.discord.application;
+
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.discord.infrastructure.DiscordOutboxRepository;
+import com.eod.eod.domain.discord.model.DiscordOutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiscordOutboxRelayTest {
+
+    private static final DiscordOutboxMessage.NotificationType STAFF_PICKUP =
+            DiscordOutboxMessage.NotificationType.STAFF_PICKUP_SCHEDULED;
+
+    @Mock
+    private DiscordOutboxRepository outboxRepository;
+
+    @Mock
+    private DiscordBotClient discordBotClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DiscordOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new DiscordOutboxRelay(
+                outboxRepository,
+                discordBotClient,
+                new TransactionTemplate(transactionManager),
+                eventPublisher,
+                50,
+                4,
+                2,
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(2),
+                3
+        );
+    }
+
+    @Test
+    void 발송에_성공한_알림은_삭제하고_실패한_알림은_백오프_후_재시도한다() {
+        // given
+        DiscordOutboxMessage approved = message(1L, DiscordOutboxMessage.NotificationType.CLAIM_APPROVED, "111");
+        DiscordOutboxMessage rejected = message(2L, DiscordOutboxMessage.NotificationType.CLAIM_REJECTED, "222");
+        when(outboxRepository.findByStatusAndTypeNotAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(DiscordOutboxMessage.Status.PENDING), eq(STAFF_PICKUP), any(), any()))
+                .thenReturn(List.of(approved, rejected));
+        when(outboxRepository.findAllById(anyList())).thenReturn(List.of(approved, rejected));
+        when(discordBotClient.sendClaimApproved("111", "지갑", approved.getVisitDate())).thenReturn(Mono.empty());
+        when(discordBotClient.sendClaimRejected("222", "지갑"))
+                .thenReturn(Mono.error(new IllegalStateException("discord down")));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxRepository).delete(approved);
+        verify(outboxRepository, never()).delete(rejected);
+        assertThat(rejected.getStatus()).isEqualTo(DiscordOutboxMessage.Status.PENDING);
+        assertThat(rejected.getAttempts()).isEqualTo(1);
+        assertThat(rejected.getLastError()).isEqualTo("discord down");
+        assertThat(rejected.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(10));
+
+        ArgumentCaptor<EodSchedulerRunEvent> captor = ArgumentCaptor.forClass(EodSchedulerRunEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().task()).isEqualTo("discord_outbox_relay");
+        assertThat(captor.getValue().result()).isEqualTo("partial_failure");
+        assertThat(captor.getValue().processedItems()).isEqualTo(1);
+    }
+
+    @Test
+    void 재시도_한도를_넘긴_알림은_DEAD로_남긴다() {
+        // given
+        DiscordOutboxMessage verified = message(1L, DiscordOutboxMessage.NotificationType.VERIFIED, "111");
+        verified.markFailed("timeout", LocalDateTime.now().minusMinutes(1), 2, Duration.ZERO);
+        when(outboxRepository.findByStatusAndTypeNotAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(DiscordOutboxMessage.Status.PENDING), eq(STAFF_PICKUP), any(), any()))
+                .thenReturn(List.of(verified));
+        when(outboxRepository.findAllById(anyList())).thenReturn(List.of(verified));
+        when(discordBotClient.sendVerified("111", "홍길동"))
+                .thenReturn(Mono.error(new IllegalStateException("discord down")));
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(verified.isDead()).isTrue();
+        assertThat(verified.getAttempts()).isEqualTo(2);
+        verify(outboxRepository, never()).delete(any());
+    }
+
+    @Test
+    void 발송할_알림이_없으면_아무것도_하지_않는다() {
+        // given
+        when(outboxRepository.findByStatusAndTypeNotAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(DiscordOutboxMessage.Status.PENDING), eq(STAFF_PICKUP), any(), any()))
+                .thenReturn(List.of());
+
+        // when
+        relay.relay();
+
+        // then
+        verifyNoInteractions(discordBotClient, transactionManager, eventPublisher);
+    }
+
+    @Test
+    void 스태프_픽업_알림은_묶음_창이_지나면_스태프별_다이제스트_한_통으로_보낸다() {
+        // given
+        DiscordOutboxMessage first = message(1L, STAFF_PICKUP, "staff-1");
+        DiscordOutboxMessage second = message(2L, STAFF_PICKUP, "staff-1");
+        DiscordOutboxMessage otherStaff = message(3L, STAFF_PICKUP, "staff-2");
+        ReflectionTestUtils.setField(first, "createdAt", LocalDateTime.now().minusMinutes(3));
+        when(outboxRepository.findByStatusAndTypeOrderByIdAsc(
+                eq(DiscordOutboxMessage.Status.PENDING), eq(STAFF_PICKUP), any()))
+                .thenReturn(List.of(first, second, otherStaff));
+        when(outboxRepository.findAllById(anyList())).thenReturn(List.of(first, second));
+        when(discordBotClient.sendStaffPickupDigest(eq("staff-1"), anyList())).thenReturn(Mono.empty());
+
+        // when
+        relay.relay();
+
+        // then
+        ArgumentCaptor<List<StaffPickup>> pickups = ArgumentCaptor.forClass(List.class);
+        verify(discordBotClient).sendStaffPickupDigest(eq("staff-1"), pickups.capture());
+        assertThat(pickups.getValue()).hasSize(2);
+        verify(discordBotClient, never()).sendStaffPickupDigest(eq("staff-2"), anyList());
+        verify(outboxRepository).delete(first);
+        verify(outboxRepository).delete(second);
+        verify(outboxRepository, never()).delete(otherStaff);
+    }
+
+    @Test
+    void 스태프_픽업_알림이_최대_크기만큼_모이면_창을_기다리지_않고_보낸다() {
+        // given
+        List<DiscordOutboxMessage> messages = List.of(
+                message(1L, STAFF_PICKUP, "staff-1"),
+                message(2L, STAFF_PICKUP, "staff-1"),
+                message(3L, STAFF_PICKUP, "staff-1"));
+        when(outboxRepository.findByStatusAndTypeOrderByIdAsc(
+                eq(DiscordOutboxMessage.Status.PENDING), eq(STAFF_PICKUP), any()))
+                .thenReturn(messages);
+        when(outboxRepository.findAllById(anyList())).thenReturn(messages);
+        when(discordBotClient.sendStaffPickupDigest(eq("staff-1"), anyList())).thenReturn(Mono.empty());
+
+        // when
+        relay.relay();
+
+        // then
+        verify(discordBotClient).sendStaffPickupDigest(eq("staff-1"), anyList());
+        messages.forEach(message -> verify(outboxRepository).delete(message));
+    }
+
+    @Test
+    void 종료_시에는_묶음_창이_남은_스태프_픽업_알림도_모두_보낸다() {
+        // given
+        DiscordOutboxMessage pending = message(1L, STAFF_PICKUP, "staff-1");
+        when(outboxRepository.findByStatusAndTypeOrderByIdAsc(
+                eq(DiscordOutboxMessage.Status.PENDING), eq(STAFF_PICKUP), any()))
+                .thenReturn(List.of(pending));
+        when(outboxRepository.findAllById(anyList())).thenReturn(List.of(pending));
+        when(discordBotClient.sendStaffPickupDigest(eq("staff-1"), anyList())).thenReturn(Mono.empty());
+
+        // when
+        relay.flushOnShutdown();
+
+        // then
+        verify(outboxRepository).delete(pending);
+    }
+
+    private DiscordOutboxMessage message(Long id, DiscordOutboxMessage.NotificationType type, String recipient) {
+        DiscordOutboxMessage message = DiscordOutboxMessage.builder()
+                .type(type)
+                .recipientDiscordId(recipient)
+                .itemName("지갑")
+                .studentName("홍길동")
+                .visitDate(LocalDate.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+}
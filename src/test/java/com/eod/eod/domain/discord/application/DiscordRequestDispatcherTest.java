@@ -0,0 +1,219 @@
+package com.eod.eod.domain.discord.application;
+
+import com.eod.eod.common.event.EodRateLimitEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DiscordRequestDispatcherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<ClientResponse> responses = new ArrayDeque<>();
+    private final List<ClientRequest> requests = new ArrayList<>();
+    // 응답 없이 멈추는 요청 수 (앞에서부터 소비)
+    private final AtomicInteger hangingRequests = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void 응답_429를_받으면_retry_after만큼_기다린_뒤_다시_보낸다() {
+        // given
+        responses.add(rateLimited(0.05));
+        responses.add(ok("{\"id\":\"channel-1\"}"));
+        DiscordRequestDispatcher dispatcher = dispatcher(1000, 3);
+
+        // when
+        Map<String, Object> body = dispatcher.submit(createDm()).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(body).containsEntry("id", "channel-1");
+        assertThat(requests).hasSize(2);
+        assertThat(dispatcher.queuedCount()).isZero();
+        assertThat(publishedResults()).containsExactly("rate_limited", "dispatched");
+    }
+
+    @Test
+    void 재시도_횟수를_넘기면_요청을_폐기한다() {
+        // given
+        responses.add(rateLimited(0.01));
+        responses.add(rateLimited(0.01));
+        DiscordRequestDispatcher dispatcher = dispatcher(1000, 1);
+
+        // when & then
+        assertThatThrownBy(() -> dispatcher.submit(createDm()).block(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(requests).hasSize(2);
+        assertThat(dispatcher.queuedCount()).isZero();
+        assertThat(publishedResults()).containsExactly("rate_limited", "rate_limited", "dropped_retries_exhausted");
+    }
+
+    @Test
+    void 버킷이_소진되면_리셋_시각까지_같은_버킷의_다음_요청을_미룬다() {
+        // given
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header("X-RateLimit-Remaining", "0")
+                .header("X-RateLimit-Reset-After", "0.2")
+                .build());
+        responses.add(ClientResponse.create(HttpStatus.OK).build());
+        DiscordRequestDispatcher dispatcher = dispatcher(1000, 3);
+
+        // when
+        dispatcher.submit(sendMessage("channel-1")).block(Duration.ofSeconds(5));
+        long startedAt = System.nanoTime();
+        Map<String, Object> body = dispatcher.submit(sendMessage("channel-1")).block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(body).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void 대기열이_가득_차면_새_요청을_거절하고_폐기_이벤트를_발행한다() {
+        // given
+        DiscordRequestDispatcher dispatcher = dispatcher(0, 3);
+
+        // when & then
+        assertThatThrownBy(() -> dispatcher.submit(createDm()).block(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(requests).isEmpty();
+        assertThat(publishedResults()).containsExactly("dropped_queue_full");
+        assertThat(meterRegistry.get("eod_discord_dispatch_queue_depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void 응답이_없으면_request_timeout_후_실패로_끝내고_같은_버킷의_다음_요청을_보낸다() {
+        // given
+        hangingRequests.set(1);
+        responses.add(ok("{\"id\":\"channel-1\"}"));
+        DiscordRequestDispatcher dispatcher = dispatcher(1000, 3, Duration.ofMillis(100));
+
+        // when
+        Mono<Map<String, Object>> hung = dispatcher.submit(createDm());
+        Mono<Map<String, Object>> next = dispatcher.submit(createDm());
+
+        // then
+        assertThatThrownBy(() -> hung.block(Duration.ofSeconds(5)))
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(next.block(Duration.ofSeconds(5))).containsEntry("id", "channel-1");
+        assertThat(dispatcher.queuedCount()).isZero();
+        assertThat(publishedResults()).containsExactly("failed", "dispatched");
+    }
+
+    @Test
+    void 호출_측이_구독을_취소하면_대기_중인_요청은_보내지_않는다() {
+        // given
+        hangingRequests.set(1);
+        DiscordRequestDispatcher dispatcher = dispatcher(1000, 3, Duration.ofSeconds(30));
+        dispatcher.submit(createDm()).subscribe();
+
+        // when
+        assertThatThrownBy(() -> dispatcher.submit(createDm()).timeout(Duration.ofMillis(50)).block(Duration.ofSeconds(5)))
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        // then
+        assertThat(dispatcher.queuedCount()).isEqualTo(1);
+        assertThat(requests).hasSize(1);
+        assertThat(publishedResults()).containsExactly("cancelled");
+    }
+
+    @Test
+    void 비어_있고_막혀_있지_않은_버킷만_정리한다() {
+        // given
+        responses.add(ClientResponse.create(HttpStatus.OK).build());
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header("X-RateLimit-Remaining", "0")
+                .header("X-RateLimit-Reset-After", "60")
+                .build());
+        DiscordRequestDispatcher dispatcher = dispatcher(1000, 3);
+        dispatcher.submit(sendMessage("channel-1")).block(Duration.ofSeconds(5));
+        dispatcher.submit(sendMessage("channel-2")).block(Duration.ofSeconds(5));
+        assertThat(dispatcher.bucketCount()).isEqualTo(2);
+
+        // when
+        dispatcher.pruneIdleBuckets();
+
+        // then
+        assertThat(dispatcher.bucketCount()).isEqualTo(1);
+    }
+
+    private DiscordRequestDispatcher dispatcher(int maxQueueSize, int maxRetries) {
+        return dispatcher(maxQueueSize, maxRetries, Duration.ofSeconds(5));
+    }
+
+    private DiscordRequestDispatcher dispatcher(int maxQueueSize, int maxRetries, Duration requestTimeout) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    synchronized (requests) {
+                        requests.add(request);
+                        if (hangingRequests.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                            return Mono.never();
+                        }
+                        return Mono.just(responses.poll());
+                    }
+                })
+                .build();
+        return new DiscordRequestDispatcher(webClient, eventPublisher, meterRegistry, scheduler,
+                maxQueueSize, maxRetries, requestTimeout);
+    }
+
+    private List<String> publishedResults() {
+        ArgumentCaptor<EodRateLimitEvent> captor = ArgumentCaptor.forClass(EodRateLimitEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues().stream().map(EodRateLimitEvent::result).toList();
+    }
+
+    private static DiscordRequest createDm() {
+        return DiscordRequest.of("create_dm", HttpMethod.POST, "/users/@me/channels", Map.of("recipient_id", "1"));
+    }
+
+    private static DiscordRequest sendMessage(String channelId) {
+        return DiscordRequest.of("send_message", HttpMethod.POST, "/channels/{channelId}/messages",
+                Map.of("content", "hi"), channelId);
+    }
+
+    private static ClientResponse rateLimited(double retryAfterSeconds) {
+        return ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"retry_after\":" + retryAfterSeconds + ",\"global\":false}")
+                .build();
+    }
+
+    private static ClientResponse ok(String json) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(json)
+                .build();
+    }
+}
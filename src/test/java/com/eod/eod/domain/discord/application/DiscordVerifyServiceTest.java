@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -25,7 +26,10 @@ class DiscordVerifyServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private DiscordBotClient discordBotClient;
+    private DiscordNotificationOutbox discordNotificationOutbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private DiscordVerifyService discordVerifyService;
@@ -1,19 +1,25 @@
 package com.eod.eod.domain.discord.application;
 
+import com.eod.eod.common.event.EodSchedulerRunEvent;
 import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
 import com.eod.eod.domain.item.model.Item;
 import com.eod.eod.domain.item.model.ItemClaim;
 import com.eod.eod.domain.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -28,52 +34,88 @@ class PickupReminderSchedulerTest {
     @Mock
     private DiscordBotClient discordBotClient;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private PickupReminderScheduler pickupReminderScheduler;
 
+    @BeforeEach
+    void setUp() {
+        pickupReminderScheduler = new PickupReminderScheduler(
+                itemClaimRepository, discordBotClient, eventPublisher, 2, 4, Duration.ofSeconds(5));
+    }
+
     @Test
     void 오늘_visitDate인_승인건에_13시30분_리마인더를_보낸다() {
         LocalDate today = LocalDate.now();
-        User user = User.builder()
-                .oauthProvider("bsm")
-                .oauthId("oauth-id")
-                .name("홍길동")
-                .email("hong@test.com")
-                .role(User.Role.USER)
-                .build();
-        user.updateDiscordId("123456789");
-
-        Item item = Item.builder()
-                .name("지갑")
-                .build();
-
-        ItemClaim claim = ItemClaim.builder()
-                .item(item)
-                .claimant(user)
-                .visitDate(today)
-                .build();
-        claim.approve();
+        ItemClaim claim = createApprovedClaim(1L, "123456789", today);
 
-        when(itemClaimRepository.findByStatusAndVisitDate(ItemClaim.ClaimStatus.APPROVED, today))
+        when(itemClaimRepository.findByStatusAndVisitDateAndIdGreaterThanOrderByIdAsc(
+                eq(ItemClaim.ClaimStatus.APPROVED), eq(today), eq(0L), any()))
                 .thenReturn(List.of(claim));
+        when(discordBotClient.sendPickupReminder(eq("123456789"), eq("지갑"), any())).thenReturn(Mono.empty());
 
         pickupReminderScheduler.sendPickupReminders();
 
         ArgumentCaptor<LocalDateTime> pickupTimeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(discordBotClient).notifyPickupReminder(eq("123456789"), eq("지갑"), pickupTimeCaptor.capture());
+        verify(discordBotClient).sendPickupReminder(eq("123456789"), eq("지갑"), pickupTimeCaptor.capture());
         assertThat(pickupTimeCaptor.getValue()).isEqualTo(today.atTime(13, 30));
     }
 
     @Test
     void 디스코드가_없으면_리마인더를_보내지_않는다() {
         LocalDate today = LocalDate.now();
+        ItemClaim claim = createApprovedClaim(1L, null, today);
+
+        when(itemClaimRepository.findByStatusAndVisitDateAndIdGreaterThanOrderByIdAsc(
+                eq(ItemClaim.ClaimStatus.APPROVED), eq(today), eq(0L), any()))
+                .thenReturn(List.of(claim));
+
+        pickupReminderScheduler.sendPickupReminders();
+
+        verify(discordBotClient, never()).sendPickupReminder(anyString(), anyString(), any());
+    }
+
+    @Test
+    void 클레임을_페이지_단위로_읽고_실제_발송_결과별_건수를_발행한다() {
+        LocalDate today = LocalDate.now();
+        ItemClaim delivered = createApprovedClaim(1L, "111", today);
+        ItemClaim failed = createApprovedClaim(2L, "222", today);
+        ItemClaim skipped = createApprovedClaim(3L, null, today);
+
+        when(itemClaimRepository.findByStatusAndVisitDateAndIdGreaterThanOrderByIdAsc(
+                eq(ItemClaim.ClaimStatus.APPROVED), eq(today), eq(0L), any()))
+                .thenReturn(List.of(delivered, failed));
+        when(itemClaimRepository.findByStatusAndVisitDateAndIdGreaterThanOrderByIdAsc(
+                eq(ItemClaim.ClaimStatus.APPROVED), eq(today), eq(2L), any()))
+                .thenReturn(List.of(skipped));
+        when(discordBotClient.sendPickupReminder(eq("111"), eq("지갑"), any())).thenReturn(Mono.empty());
+        when(discordBotClient.sendPickupReminder(eq("222"), eq("지갑"), any()))
+                .thenReturn(Mono.error(new IllegalStateException("discord down")));
+
+        pickupReminderScheduler.sendPickupReminders();
+
+        ArgumentCaptor<EodSchedulerRunEvent> captor = ArgumentCaptor.forClass(EodSchedulerRunEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        EodSchedulerRunEvent event = captor.getValue();
+        assertThat(event.task()).isEqualTo("pickup_reminder");
+        assertThat(event.result()).isEqualTo("partial_failure");
+        assertThat(event.processedItems()).isEqualTo(1);
+        assertThat(event.duration()).isNotNull();
+        assertThat(event.itemOutcomes()).isEqualTo(Map.of("delivered", 1, "failed", 1, "skipped", 1));
+    }
+
+    private ItemClaim createApprovedClaim(Long id, String discordId, LocalDate visitDate) {
         User user = User.builder()
                 .oauthProvider("bsm")
-                .oauthId("oauth-id")
+                .oauthId("oauth-id-" + id)
                 .name("홍길동")
-                .email("hong2@test.com")
+                .email("hong" + id + "@test.com")
                 .role(User.Role.USER)
                 .build();
+        if (discordId != null) {
+            user.updateDiscordId(discordId);
+        }
 
         Item item = Item.builder()
                 .name("지갑")
@@ -82,15 +124,10 @@ class PickupReminderSchedulerTest {
         ItemClaim claim = ItemClaim.builder()
                 .item(item)
                 .claimant(user)
-                .visitDate(today)
+                .visitDate(visitDate)
                 .build();
         claim.approve();
-
-        when(itemClaimRepository.findByStatusAndVisitDate(ItemClaim.ClaimStatus.APPROVED, today))
-                .thenReturn(List.of(claim));
-
-        pickupReminderScheduler.sendPickupReminders();
-
-        verify(discordBotClient, never()).notifyPickupReminder(anyString(), anyString(), any());
+        ReflectionTestUtils.setField(claim, "id", id);
+        return claim;
     }
 }
@@ -1,15 +1,18 @@
 package com.eod.eod.domain.item.application;
 
 import com.eod.eod.common.event.EodBusinessEvent;
-import com.eod.eod.domain.discord.application.DiscordBotClient;
+import com.eod.eod.domain.discord.application.DiscordNotificationOutbox;
 import com.eod.eod.domain.item.infrastructure.GiveRecordRepository;
 import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
+import com.eod.eod.domain.item.infrastructure.ItemClaimTombstoneRepository;
 import com.eod.eod.domain.item.model.GiveRecord;
 import com.eod.eod.domain.item.model.Item;
 import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.item.model.ItemClaimTombstone;
 import com.eod.eod.domain.user.model.User;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,6 +23,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -35,6 +39,9 @@ class ItemClaimServiceTest {
     @Mock
     private ItemClaimRepository itemClaimRepository;
 
+    @Mock
+    private ItemClaimTombstoneRepository itemClaimTombstoneRepository;
+
     @Mock
     private GiveRecordRepository giveRecordRepository;
 
@@ -42,25 +49,23 @@ class ItemClaimServiceTest {
     private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private DiscordBotClient discordBotClient;
+    private DiscordNotificationOutbox discordNotificationOutbox;
 
     @InjectMocks
     private ItemClaimService itemClaimService;
 
     @Test
-    void approveClaim은_스태프에게_픽업_예정_DM을_보낸다() {
+    void approveClaim은_스태프_픽업_예정_알림을_아웃박스에_기록한다() {
         User admin = createUser(1L, "관리자", User.Role.ADMIN, null, null, null);
         User claimant = createUser(2L, "홍길동", User.Role.USER, 1, 2, 6);
         Item item = createItem(100L, "지갑", admin);
         ItemClaim claim = createClaim(10L, item, claimant, LocalDate.now().plusDays(1));
 
         when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(claim));
-        when(itemClaimRepository.findByItemIdAndStatus(100L, ItemClaim.ClaimStatus.PENDING))
-                .thenReturn(List.of(claim));
 
         itemClaimService.approveClaim(10L, admin);
 
-        verify(discordBotClient).notifyStaffPickupScheduled(
+        verify(discordNotificationOutbox).enqueueStaffPickupScheduled(
                 eq(1206),
                 eq("홍길동"),
                 eq(claim.getVisitDate()),
@@ -69,7 +74,7 @@ class ItemClaimServiceTest {
     }
 
     @Test
-    void approveClaim은_승인된_주장자에게도_DM을_보낸다() {
+    void approveClaim은_승인된_주장자_알림도_아웃박스에_기록한다() {
         User admin = createUser(1L, "관리자", User.Role.ADMIN, null, null, null);
         User claimant = createUser(2L, "홍길동", User.Role.USER, 1, 2, 6);
         claimant.updateDiscordId("999888777");
@@ -77,50 +82,86 @@ class ItemClaimServiceTest {
         ItemClaim claim = createClaim(10L, item, claimant, LocalDate.now().plusDays(1));
 
         when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(claim));
-        when(itemClaimRepository.findByItemIdAndStatus(100L, ItemClaim.ClaimStatus.PENDING))
-                .thenReturn(List.of(claim));
 
         itemClaimService.approveClaim(10L, admin);
 
-        verify(discordBotClient).notifyClaimApproved("999888777", "지갑", claim.getVisitDate());
+        verify(discordNotificationOutbox).enqueueClaimApproved("999888777", "지갑", claim.getVisitDate());
     }
 
     @Test
-    void approveClaim은_같은_물품에_대한_다른_PENDING_주장은_거절_DM을_보낸다() {
+    void approveClaim은_같은_물품에_대한_다른_PENDING_주장의_거절_알림을_기록한다() {
         User admin = createUser(1L, "관리자", User.Role.ADMIN, null, null, null);
         User approved = createUser(2L, "홍길동", User.Role.USER, 1, 2, 6);
         approved.updateDiscordId("999");
-        User other = createUser(3L, "김철수", User.Role.USER, 1, 2, 7);
-        other.updateDiscordId("888");
 
         Item item = createItem(100L, "지갑", admin);
         ItemClaim approvedClaim = createClaim(10L, item, approved, LocalDate.now().plusDays(1));
-        ItemClaim otherClaim = createClaim(11L, item, other, LocalDate.now().plusDays(1));
+
+        User other = createUser(3L, "김철수", User.Role.USER, 1, 2, 7);
+        other.updateDiscordId("888");
+        User withoutDiscord = createUser(4L, "이영희", User.Role.USER, 1, 2, 8);
+        ItemClaim otherClaim = createClaim(11L, item, other, LocalDate.now().plusDays(2));
+        ItemClaim withoutDiscordClaim = createClaim(12L, item, withoutDiscord, LocalDate.now().plusDays(2));
 
         when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(approvedClaim));
-        when(itemClaimRepository.findByItemIdAndStatus(100L, ItemClaim.ClaimStatus.PENDING))
-                .thenReturn(List.of(approvedClaim, otherClaim));
+        when(itemClaimRepository.findByItemIdAndStatusExcludingForUpdate(
+                100L, ItemClaim.ClaimStatus.PENDING, 10L))
+                .thenReturn(List.of(otherClaim, withoutDiscordClaim));
 
         itemClaimService.approveClaim(10L, admin);
 
-        verify(discordBotClient).notifyClaimRejected("888", "지갑");
-        verify(discordBotClient, never()).notifyClaimRejected(eq("999"), any());
+        verify(itemClaimRepository).updateStatusByIds(
+                List.of(11L, 12L), ItemClaim.ClaimStatus.PENDING, ItemClaim.ClaimStatus.REJECTED);
+        verify(discordNotificationOutbox).enqueueClaimRejected("888", "지갑");
+        verify(discordNotificationOutbox).enqueueClaimRejected(any(), any());
+        verify(discordNotificationOutbox, never()).enqueueClaimRejected(eq("999"), any());
+        verify(itemFacade).refreshPendingClaimSummary(100L);
     }
 
     @Test
-    void approveClaim은_학번이_없는_졸업생도_스태프에게_알림을_보낸다() {
+    void approveClaim은_다른_대기_주장이_없으면_일괄_거절_UPDATE를_실행하지_않는다() {
+        User admin = createUser(1L, "관리자", User.Role.ADMIN, null, null, null);
+        User claimant = createUser(2L, "홍길동", User.Role.USER, 1, 2, 6);
+        Item item = createItem(100L, "지갑", admin);
+        ItemClaim claim = createClaim(10L, item, claimant, LocalDate.now().plusDays(1));
+
+        when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(claim));
+
+        itemClaimService.approveClaim(10L, admin);
+
+        verify(itemClaimRepository, never()).updateStatusByIds(any(), any(), any());
+        verify(discordNotificationOutbox, never()).enqueueClaimRejected(any(), any());
+    }
+
+    @Test
+    void rejectClaim은_같은_트랜잭션에서_물품의_대기_요청_집계를_갱신한다() {
+        User admin = createUser(1L, "관리자", User.Role.ADMIN, null, null, null);
+        User claimant = createUser(2L, "홍길동", User.Role.USER, 1, 2, 6);
+        claimant.updateDiscordId("999");
+        Item item = createItem(100L, "지갑", admin);
+        ItemClaim claim = createClaim(10L, item, claimant, LocalDate.now().plusDays(1));
+
+        when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(claim));
+
+        itemClaimService.rejectClaim(10L, admin);
+
+        assertThat(claim.getStatus()).isEqualTo(ItemClaim.ClaimStatus.REJECTED);
+        verify(itemFacade).refreshPendingClaimSummary(100L);
+        verify(discordNotificationOutbox).enqueueClaimRejected("999", "지갑");
+    }
+
+    @Test
+    void approveClaim은_학번이_없는_졸업생도_스태프_알림을_기록한다() {
         User admin = createUser(1L, "관리자", User.Role.ADMIN, null, null, null);
         User graduate = createUser(2L, "졸업생", User.Role.USER, null, null, null);
         Item item = createItem(100L, "우산", admin);
         ItemClaim claim = createClaim(10L, item, graduate, LocalDate.now().plusDays(1));
 
         when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(claim));
-        when(itemClaimRepository.findByItemIdAndStatus(100L, ItemClaim.ClaimStatus.PENDING))
-                .thenReturn(List.of(claim));
 
         itemClaimService.approveClaim(10L, admin);
 
-        verify(discordBotClient).notifyStaffPickupScheduled(
+        verify(discordNotificationOutbox).enqueueStaffPickupScheduled(
                 eq((Integer) null),
                 eq("졸업생"),
                 eq(claim.getVisitDate()),
@@ -136,8 +177,6 @@ class ItemClaimServiceTest {
         ItemClaim claim = createClaim(10L, item, claimant, LocalDate.now().plusDays(1));
 
         when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(claim));
-        when(itemClaimRepository.findByItemIdAndStatus(100L, ItemClaim.ClaimStatus.PENDING))
-                .thenReturn(List.of(claim));
 
         itemClaimService.approveClaim(10L, admin);
 
@@ -145,6 +184,26 @@ class ItemClaimServiceTest {
         verify(eventPublisher).publishEvent(any(EodBusinessEvent.class));
     }
 
+    @Test
+    void cancelClaim은_주장을_삭제하고_동기화용_삭제_기록을_남긴다() {
+        User admin = createUser(1L, "관리자", User.Role.ADMIN, null, null, null);
+        User claimant = createUser(2L, "홍길동", User.Role.USER, 1, 2, 6);
+        Item item = createItem(100L, "지갑", admin);
+        ItemClaim claim = createClaim(10L, item, claimant, LocalDate.now().plusDays(1));
+
+        when(itemClaimRepository.findById(10L)).thenReturn(Optional.of(claim));
+
+        itemClaimService.cancelClaim(10L, claimant);
+
+        ArgumentCaptor<ItemClaimTombstone> tombstone = ArgumentCaptor.forClass(ItemClaimTombstone.class);
+        verify(itemClaimRepository).delete(claim);
+        verify(itemClaimTombstoneRepository).save(tombstone.capture());
+        assertThat(tombstone.getValue().getClaimId()).isEqualTo(10L);
+        assertThat(tombstone.getValue().getClaimantId()).isEqualTo(2L);
+        assertThat(tombstone.getValue().getChangeVersion()).isGreaterThan(claim.getChangeVersion());
+        verify(itemFacade).refreshPendingClaimSummary(100L);
+    }
+
     private User createUser(Long id, String name, User.Role role,
                             Integer grade, Integer classNo, Integer studentNo) {
         User user = User.builder()
@@ -1,11 +1,20 @@
 package com.eod.eod.domain.item.application;
 
+import com.eod.eod.common.util.EntityTag;
+import com.eod.eod.domain.item.exception.ItemBadRequestException;
+import com.eod.eod.domain.item.exception.ItemResourceNotFoundException;
+import com.eod.eod.domain.item.infrastructure.ItemKeysetRow;
 import com.eod.eod.domain.item.infrastructure.ItemRepositoryCustom;
+import com.eod.eod.domain.item.infrastructure.ItemSearchFilter;
+import com.eod.eod.domain.item.infrastructure.ItemSearchHits;
+import com.eod.eod.domain.item.infrastructure.ItemSearchIndex;
+import com.eod.eod.domain.item.infrastructure.ItemVersionRow;
 import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.presentation.dto.request.ItemSearchSort;
+import com.eod.eod.domain.item.presentation.dto.response.ItemDetailResponse;
 import com.eod.eod.domain.item.presentation.dto.response.ItemSearchResponse;
-import com.eod.eod.domain.place.infrastructure.PlaceRepository;
-import com.eod.eod.domain.place.model.Place;
-import com.eod.eod.domain.user.model.User;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
+import com.eod.eod.domain.place.application.PlaceCatalog;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -17,12 +26,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Duration;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -30,13 +42,16 @@ import static org.mockito.Mockito.*;
 class ItemQueryServiceTest {
 
     @Mock
-    private ItemFacade itemFacade;
+    private ItemRepositoryCustom itemRepository;
 
     @Mock
-    private ItemRepositoryCustom itemRepository;
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private ItemVersionCache itemVersionCache;
 
     @Mock
-    private PlaceRepository placeRepository;
+    private PlaceCatalog placeCatalog;
 
     @InjectMocks
     private ItemQueryService itemQueryService;
@@ -45,13 +60,7 @@ class ItemQueryServiceTest {
     void placeIds가_Repository로_그대로_전달된다() {
         // given
         List<Long> placeIds = Arrays.asList(1L, null, 2L);
-        Item item = createItem(1L, Item.ItemStatus.LOST);
-        ReflectionTestUtils.setField(item, "id", 10L);
-
-        Place place = new Place();
-        ReflectionTestUtils.setField(place, "id", 1L);
-        ReflectionTestUtils.setField(place, "place", "도서관");
-        when(placeRepository.findAllById(any())).thenReturn(List.of(place));
+        ItemSummaryResponse item = createSummary(10L, "도서관");
 
         when(itemRepository.searchItems(isNull(), anyList(), eq(List.of(Item.ItemStatus.LOST)), isNull(), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(item), PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "foundAt")), 1));
@@ -92,7 +101,6 @@ class ItemQueryServiceTest {
         verify(itemRepository).searchItems(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), pageableCaptor.capture());
         assertThat(pageableCaptor.getValue().getSort().getOrderFor("foundAt").getDirection())
                 .isEqualTo(Sort.Direction.DESC);
-        verifyNoInteractions(placeRepository);
     }
 
     @Test
@@ -109,7 +117,6 @@ class ItemQueryServiceTest {
         verify(itemRepository).searchItems(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), pageableCaptor.capture());
         assertThat(pageableCaptor.getValue().getSort().getOrderFor("foundAt").getDirection())
                 .isEqualTo(Sort.Direction.DESC);
-        verifyNoInteractions(placeRepository);
     }
 
     @Test
@@ -126,7 +133,6 @@ class ItemQueryServiceTest {
         verify(itemRepository).searchItems(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), pageableCaptor.capture());
         assertThat(pageableCaptor.getValue().getSort().getOrderFor("foundAt").getDirection())
                 .isEqualTo(Sort.Direction.DESC);
-        verifyNoInteractions(placeRepository);
     }
 
     @Test
@@ -143,7 +149,6 @@ class ItemQueryServiceTest {
         verify(itemRepository).searchItems(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), pageableCaptor.capture());
         assertThat(pageableCaptor.getValue().getSort().getOrderFor("foundAt").getDirection())
                 .isEqualTo(Sort.Direction.ASC);
-        verifyNoInteractions(placeRepository);
     }
 
     @Test
@@ -157,7 +162,6 @@ class ItemQueryServiceTest {
 
         // then
         verify(itemRepository).searchItems(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
-        verifyNoInteractions(placeRepository);
 
         assertThat(response.getContent()).isEmpty();
         assertThat(response.getPage()).isEqualTo(1);
@@ -167,20 +171,15 @@ class ItemQueryServiceTest {
     @Test
     void status_소문자도_ENUM으로_파싱된다() {
         // given
-        Item item = createItem(1L, Item.ItemStatus.LOST);
+        ItemSummaryResponse item = createSummary(1L, "기숙사");
         when(itemRepository.searchItems(isNull(), isNull(), eq(List.of(Item.ItemStatus.LOST)), isNull(), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(item), PageRequest.of(0, 10), 1));
-        Place place = new Place();
-        ReflectionTestUtils.setField(place, "id", 1L);
-        ReflectionTestUtils.setField(place, "place", "기숙사");
-        when(placeRepository.findAllById(any())).thenReturn(List.of(place));
 
         // when
         itemQueryService.searchItems(null, null, List.of("lost"), null, null, null, null, 1, 10);
 
         // then
         verify(itemRepository).searchItems(isNull(), isNull(), eq(List.of(Item.ItemStatus.LOST)), isNull(), isNull(), isNull(), any(Pageable.class));
-        verify(placeRepository).findAllById(any());
     }
 
     @Test
@@ -202,72 +201,225 @@ class ItemQueryServiceTest {
                 isNull(),
                 any(Pageable.class)
         );
-        verifyNoInteractions(placeRepository);
     }
 
     @Test
-    void 동일_장소_ID는_한번만_조회한다() {
+    void 검색은_프로젝션_결과를_그대로_응답한다() {
         // given
-        Item first = createItem(1L, Item.ItemStatus.LOST);
-        Item second = createItem(1L, Item.ItemStatus.LOST);
+        ItemSummaryResponse item = createSummary(7L, "");
         when(itemRepository.searchItems(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(first, second), PageRequest.of(0, 10), 2));
+                .thenReturn(new PageImpl<>(List.of(item), PageRequest.of(0, 10), 1));
 
-        Place place = new Place();
-        ReflectionTestUtils.setField(place, "id", 1L);
-        ReflectionTestUtils.setField(place, "place", "본관");
-        when(placeRepository.findAllById(any())).thenReturn(List.of(place));
+        // when
+        ItemSearchResponse response = itemQueryService.searchItems(null, null, null, null, null, null, null, 1, 10);
+
+        // then
+        assertThat(response.getContent()).containsExactly(item);
+        assertThat(response.getTotalElements()).isEqualTo(1L);
+    }
+
+    @Test
+    void 상세_조회_시_장소가_없으면_예외가_발생한다() {
+        // given
+        ItemDetailResponse detail = ItemDetailResponse.builder()
+                .id(1L)
+                .name("테스트 물품")
+                .foundPlace(null)
+                .build();
+        when(itemRepository.findItemDetail(1L)).thenReturn(Optional.of(detail));
+
+        // when & then
+        assertThatThrownBy(() -> itemQueryService.getItemDetail(1L))
+                .isInstanceOf(ItemResourceNotFoundException.class)
+                .hasMessage("등록되지 않은 장소입니다.");
+    }
+
+    @Test
+    void 상세_조회_시_물품이_없으면_예외가_발생한다() {
+        // given
+        when(itemRepository.findItemDetail(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> itemQueryService.getItemDetail(1L))
+                .isInstanceOf(ItemResourceNotFoundException.class)
+                .hasMessage("해당 물품을 찾을 수 없습니다.");
+    }
+
+    @Test
+    void 검색_색인이_준비되면_색인이_정한_페이지_물품만_순서대로_조회한다() {
+        // given
+        LocalDateTime foundAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(itemSearchIndex.searchPage(eq("아이폰"), any(ItemSearchFilter.class), eq(false), eq(10L), eq(10)))
+                .thenReturn(Optional.of(new ItemSearchHits(List.of(3L, 1L), 25)));
+        when(itemRepository.findSearchRowsByIds(eq(List.of(3L, 1L)), isNull(), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(List.of(new ItemKeysetRow(createSummary(1L, "본관"), foundAt),
+                        new ItemKeysetRow(createSummary(3L, "본관"), foundAt.plusDays(1))));
 
         // when
-        itemQueryService.searchItems(null, null, null, null, null, null, null, 1, 10);
+        ItemSearchResponse response = itemQueryService.searchItems(" 아이폰 ", null, null, null, null, null, null, 2, 10);
 
         // then
-        verify(placeRepository, times(1)).findAllById(any());
+        assertThat(response.getContent()).extracting("id").containsExactly(3L, 1L);
+        assertThat(response.getTotalElements()).isEqualTo(25L);
+        verify(itemRepository, never()).searchItems(any(), any(), any(), any(), any(), any(), any(Pageable.class));
     }
 
     @Test
-    void 장소_없으면_빈_문자열로_반환한다() {
+    void 검색_색인이_준비되지_않으면_DB_검색으로_폴백한다() {
         // given
-        Item item = createItem(99L, Item.ItemStatus.LOST);
-        when(itemRepository.searchItems(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(item), PageRequest.of(0, 10), 1));
-        when(placeRepository.findAllById(any())).thenReturn(List.of());
+        when(itemSearchIndex.searchPage(eq("아이폰"), any(ItemSearchFilter.class), anyBoolean(), anyLong(), anyInt()))
+                .thenReturn(Optional.empty());
+        when(itemRepository.searchItems(eq("아이폰"), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 0));
 
         // when
-        ItemSearchResponse response = itemQueryService.searchItems(null, null, null, null, null, null, null, 1, 10);
+        itemQueryService.searchItems("아이폰", null, null, null, null, null, null, 1, 10);
 
         // then
-        assertThat(response.getContent()).hasSize(1);
-        assertThat(response.getContent().get(0).getFoundPlace()).isEmpty();
+        verify(itemRepository).searchItems(eq("아이폰"), isNull(), isNull(), isNull(), isNull(), isNull(), any(Pageable.class));
+        verify(itemRepository, never()).findSearchRowsByIds(any(), any(), any(), any(), any(), any());
     }
 
-    private Item createItem(Long placeId, Item.ItemStatus status) {
-        User admin = User.builder()
-                .oauthProvider("local")
-                .oauthId("admin")
-                .name("Admin")
-                .email("admin@test.com")
-                .role(User.Role.ADMIN)
-                .build();
+    @Test
+    void 커서_모드도_검색_색인이_준비되면_색인이_정한_물품만_조회한다() {
+        // given
+        LocalDateTime foundAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(itemSearchIndex.searchAfter(eq("아이폰"), any(ItemSearchFilter.class), eq(false), isNull(), eq(3)))
+                .thenReturn(Optional.of(List.of(5L, 4L, 2L)));
+        when(itemRepository.findSearchRowsByIds(eq(List.of(5L, 4L)), isNull(), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(List.of(new ItemKeysetRow(createSummary(4L, "본관"), foundAt),
+                        new ItemKeysetRow(createSummary(5L, "본관"), foundAt.plusDays(1))));
 
-        User student = User.builder()
-                .oauthProvider("local")
-                .oauthId("student")
-                .name("Student")
-                .email("student@test.com")
-                .role(User.Role.USER)
-                .build();
+        // when
+        ItemSearchResponse response = itemQueryService.searchItemsByCursor(
+                "아이폰", null, null, null, null, null, null, null, 2);
+
+        // then
+        assertThat(response.getContent()).extracting("id").containsExactly(5L, 4L);
+        assertThat(ItemSearchCursor.decode(response.getNextCursor()).id()).isEqualTo(4L);
+        verify(itemRepository, never()).searchItemsByKeyset(any(), any(), any(), any(), any(), any(),
+                any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void 커서_모드는_다음_커서를_반환하고_COUNT를_사용하지_않는다() {
+        // given
+        LocalDateTime foundAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        ItemKeysetRow newer = new ItemKeysetRow(createSummary(2L, "본관"), foundAt);
+        ItemKeysetRow older = new ItemKeysetRow(createSummary(1L, "본관"), foundAt);
+        ItemKeysetRow extra = new ItemKeysetRow(createSummary(0L, "본관"), foundAt.minusDays(1));
+        when(itemRepository.searchItemsByKeyset(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), eq(false), eq(3)))
+                .thenReturn(List.of(newer, older, extra));
+        // when
+        ItemSearchResponse response = itemQueryService.searchItemsByCursor(
+                null, null, null, null, null, null, null, "", 2);
+
+        // then
+        assertThat(response.getContent()).extracting("id").containsExactly(2L, 1L);
+        assertThat(response.getNextCursor()).isNotNull();
+        assertThat(response.getPrevCursor()).isNull();
+        assertThat(response.isLast()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(ItemSearchCursor.decode(response.getNextCursor()).id()).isEqualTo(1L);
+        verify(itemRepository, never()).searchItems(any(), any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void 이전_커서는_역방향으로_조회한_뒤_정렬_순서로_뒤집는다() {
+        // given
+        LocalDateTime boundary = LocalDateTime.of(2024, 5, 1, 12, 0);
+        String cursor = new ItemSearchCursor(true, ItemSearchSort.LATEST, boundary, 5L).encode();
+        ItemKeysetRow nearer = new ItemKeysetRow(createSummary(6L, "본관"), boundary);
+        ItemKeysetRow farther = new ItemKeysetRow(createSummary(7L, "본관"), boundary.plusDays(1));
+        when(itemRepository.searchItemsByKeyset(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                any(), eq(true), eq(3)))
+                .thenReturn(List.of(nearer, farther));
+        // when
+        ItemSearchResponse response = itemQueryService.searchItemsByCursor(
+                null, null, null, null, null, null, "LATEST", cursor, 2);
+
+        // then
+        assertThat(response.getContent()).extracting("id").containsExactly(7L, 6L);
+        assertThat(response.getPrevCursor()).isNull();
+        assertThat(ItemSearchCursor.decode(response.getNextCursor()).id()).isEqualTo(6L);
+    }
+
+    @Test
+    void 다른_정렬로_만든_커서를_재사용하면_400으로_거부한다() {
+        // given
+        String cursor = new ItemSearchCursor(false, ItemSearchSort.LATEST, LocalDateTime.of(2024, 5, 1, 12, 0), 5L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> itemQueryService.searchItemsByCursor(
+                null, null, null, null, null, null, "OLDEST", cursor, 2))
+                .isInstanceOf(ItemBadRequestException.class);
+        verify(itemRepository, never()).searchItemsByKeyset(any(), any(), any(), any(), any(), any(),
+                any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void 상세_ETag는_신고자_이름이_바뀌면_달라지고_Last_Modified_없이_검증한다() {
+        // given
+        when(itemVersionCache.find(1L))
+                .thenReturn(Optional.of(new ItemVersionRow(100L, 3L, 1206, "홍길동")))
+                .thenReturn(Optional.of(new ItemVersionRow(100L, 3L, 1206, "김철수")));
+        when(placeCatalog.findName(3L)).thenReturn(Optional.of("도서관"));
+
+        // when
+        EntityTag before = itemQueryService.getItemDetailTag(1L).orElseThrow();
+        EntityTag after = itemQueryService.getItemDetailTag(1L).orElseThrow();
+
+        // then
+        assertThat(after.value()).isNotEqualTo(before.value());
+        assertThat(before.lastModified()).isNegative();
+    }
+
+    @Test
+    void 검색_ETag는_신고자_정보가_바뀌면_달라진다() {
+        // given
+        ReflectionTestUtils.setField(itemQueryService, "commitLag", Duration.ZERO);
+        when(itemVersionCache.latestVersion()).thenReturn(100L);
+        when(itemVersionCache.latestReporterVersion()).thenReturn(200L, 300L);
+        when(placeCatalog.tag()).thenReturn(EntityTag.of(-1L, "place_catalog"));
+        when(itemSearchIndex.generation()).thenReturn(1L);
+
+        // when
+        EntityTag before = itemQueryService.getSearchTag("query=아이폰").orElseThrow();
+        EntityTag after = itemQueryService.getSearchTag("query=아이폰").orElseThrow();
+
+        // then
+        assertThat(after.value()).isNotEqualTo(before.value());
+    }
+
+    @Test
+    void 검색_ETag는_검색_색인_세대가_바뀌면_달라진다() {
+        // given
+        ReflectionTestUtils.setField(itemQueryService, "commitLag", Duration.ZERO);
+        when(itemVersionCache.latestVersion()).thenReturn(100L);
+        when(placeCatalog.tag()).thenReturn(EntityTag.of(-1L, "place_catalog"));
+        when(itemSearchIndex.generation()).thenReturn(1L, 2L);
+
+        // when
+        EntityTag before = itemQueryService.getSearchTag("query=아이폰").orElseThrow();
+        EntityTag after = itemQueryService.getSearchTag("query=아이폰").orElseThrow();
+
+        // then
+        assertThat(after.value()).isNotEqualTo(before.value());
+        assertThat(before.lastModified()).isNegative();
+    }
 
-        return Item.builder()
-                .student(student)
-                .admin(admin)
-                .foundPlaceId(placeId)
-                .foundPlaceDetail("상세 위치")
+    private ItemSummaryResponse createSummary(Long id, String foundPlace) {
+        return ItemSummaryResponse.builder()
+                .id(id)
                 .name("테스트 물품")
-                .image("image.jpg")
-                .status(status)
+                .reporterName("Student")
+                .foundAt("2024-05-01")
+                .foundPlace(foundPlace)
+                .placeDetail("상세 위치")
+                .imageUrl("image.jpg")
+                .status(Item.ItemStatus.LOST.name())
                 .category(Item.ItemCategory.ETC)
-                .foundAt(LocalDateTime.now().minusDays(1))
                 .build();
     }
 }
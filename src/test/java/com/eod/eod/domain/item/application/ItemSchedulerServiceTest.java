@@ -0,0 +1,139 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.common.event.EodSchedulerChunkEvent;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.item.model.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSchedulerServiceTest {
+
+    @Mock
+    private ItemFacade itemFacade;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ItemSchedulerService itemSchedulerService;
+
+    @BeforeEach
+    void setUp() {
+        itemSchedulerService = new ItemSchedulerService(itemFacade, eventPublisher, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(itemSchedulerService, "chunkSize", 2);
+    }
+
+    @Test
+    void 대상_물품을_키셋_청크로_나누어_청크마다_한_번씩_일괄_전환한다() {
+        // given
+        when(itemFacade.findIdsByStatusAndDiscardedAtBefore(eq(Item.ItemStatus.TO_BE_DISCARDED), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(1L, 2L));
+        when(itemFacade.findIdsByStatusAndDiscardedAtBefore(eq(Item.ItemStatus.TO_BE_DISCARDED), any(), eq(2L), eq(2)))
+                .thenReturn(List.of(5L));
+        when(itemFacade.updateStatusByIds(List.of(1L, 2L), Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.DISCARDED))
+                .thenReturn(2);
+        when(itemFacade.updateStatusByIds(List.of(5L), Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.DISCARDED))
+                .thenReturn(1);
+
+        // when
+        itemSchedulerService.autoDiscardExpiredItems();
+
+        // then
+        verify(transactionManager, times(2)).commit(any());
+        List<Object> events = publishedEvents(3);
+        assertThat(events).filteredOn(EodSchedulerChunkEvent.class::isInstance).hasSize(2);
+
+        EodSchedulerRunEvent runEvent = (EodSchedulerRunEvent) events.get(2);
+        assertThat(runEvent.task()).isEqualTo("auto_discard_expired_items");
+        assertThat(runEvent.result()).isEqualTo("success");
+        assertThat(runEvent.processedItems()).isEqualTo(3);
+        assertThat(runEvent.duration()).isNotNull();
+    }
+
+    @Test
+    void 실패한_청크는_건너뛰고_다음_청크를_계속_처리한다() {
+        // given
+        when(itemFacade.findIdsByStatusAndDiscardedAtBefore(eq(Item.ItemStatus.LOST), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(1L, 2L));
+        when(itemFacade.findIdsByStatusAndDiscardedAtBefore(eq(Item.ItemStatus.LOST), any(), eq(2L), eq(2)))
+                .thenReturn(List.of(3L));
+        when(itemFacade.updateStatusByIds(List.of(1L, 2L), Item.ItemStatus.LOST, Item.ItemStatus.TO_BE_DISCARDED))
+                .thenThrow(new IllegalStateException("lock timeout"));
+        when(itemFacade.updateStatusByIds(List.of(3L), Item.ItemStatus.LOST, Item.ItemStatus.TO_BE_DISCARDED))
+                .thenReturn(1);
+
+        // when
+        itemSchedulerService.autoMarkItemsAsToBeDiscarded();
+
+        // then
+        verify(transactionManager).rollback(any());
+        List<Object> events = publishedEvents(2);
+
+        EodSchedulerRunEvent runEvent = (EodSchedulerRunEvent) events.get(1);
+        assertThat(runEvent.result()).isEqualTo("partial_failure");
+        assertThat(runEvent.processedItems()).isEqualTo(1);
+    }
+
+    @Test
+    void 대상이_없으면_갱신하지_않는다() {
+        // given
+        when(itemFacade.findIdsByStatusAndDiscardedAtBefore(any(), any(), eq(0L), anyInt())).thenReturn(List.of());
+
+        // when
+        itemSchedulerService.autoDiscardExpiredItems();
+
+        // then
+        verify(itemFacade, never()).updateStatusByIds(any(), any(), any());
+        EodSchedulerRunEvent runEvent = (EodSchedulerRunEvent) publishedEvents(1).get(0);
+        assertThat(runEvent.result()).isEqualTo("success");
+        assertThat(runEvent.processedItems()).isZero();
+    }
+
+    @Test
+    void 회수_요청_집계를_키셋_청크로_보정하고_보정된_물품_수를_기록한다() {
+        // given
+        when(itemFacade.findIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(itemFacade.findIdsAfter(2L, 2)).thenReturn(List.of(4L));
+        when(itemFacade.reconcilePendingClaimSummaries(List.of(1L, 2L))).thenReturn(1);
+        when(itemFacade.reconcilePendingClaimSummaries(List.of(4L))).thenReturn(0);
+
+        // when
+        itemSchedulerService.reconcilePendingClaimSummaries();
+
+        // then
+        verify(transactionManager, times(2)).commit(any());
+        List<Object> events = publishedEvents(3);
+        EodSchedulerRunEvent runEvent = (EodSchedulerRunEvent) events.get(2);
+        assertThat(runEvent.task()).isEqualTo("reconcile_pending_claim_summary");
+        assertThat(runEvent.result()).isEqualTo("success");
+        assertThat(runEvent.processedItems()).isEqualTo(1);
+    }
+
+    private List<Object> publishedEvents(int expectedCount) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(expectedCount)).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
+}
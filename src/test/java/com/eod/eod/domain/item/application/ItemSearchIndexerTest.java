@@ -0,0 +1,92 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.domain.item.infrastructure.ItemRepositoryCustom;
+import com.eod.eod.domain.item.infrastructure.ItemSearchChange;
+import com.eod.eod.domain.item.infrastructure.ItemSearchDocument;
+import com.eod.eod.domain.item.infrastructure.ItemSearchFilter;
+import com.eod.eod.domain.item.infrastructure.ItemSearchHits;
+import com.eod.eod.domain.item.infrastructure.ItemSearchIndex;
+import com.eod.eod.domain.item.model.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexerTest {
+
+    @Mock
+    private ItemRepositoryCustom itemRepository;
+
+    private ItemSearchIndex itemSearchIndex;
+    private ItemSearchIndexer itemSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        itemSearchIndex = new ItemSearchIndex();
+        itemSearchIndexer = new ItemSearchIndexer(itemRepository, itemSearchIndex);
+        ReflectionTestUtils.setField(itemSearchIndexer, "enabled", true);
+        ReflectionTestUtils.setField(itemSearchIndexer, "commitLag", Duration.ZERO);
+    }
+
+    @Test
+    void 다른_인스턴스에서_바뀐_물품을_변경_버전_순으로_색인에_반영한다() {
+        // given
+        when(itemRepository.findSearchDocuments(isNull(), anyInt()))
+                .thenReturn(List.of(document(1L, "흰색 아이폰15")));
+        itemSearchIndexer.rebuild();
+        when(itemRepository.findSearchChangesSince(anyLong(), anyLong(), anyLong(), anyInt())).thenReturn(List.of(
+                new ItemSearchChange(document(2L, "에어팟 케이스"), 10L, null),
+                new ItemSearchChange(document(1L, "흰색 아이폰15"), 11L, LocalDateTime.now())));
+
+        // when
+        itemSearchIndexer.resync();
+
+        // then
+        assertThat(search("에어팟")).contains(List.of(2L));
+        assertThat(search("아이폰")).contains(List.of());
+    }
+
+    @Test
+    void 적재에_실패하면_다음_resync에서_전체_적재를_다시_시도한다() {
+        // given
+        when(itemRepository.findSearchDocuments(isNull(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(List.of(document(1L, "흰색 아이폰15")));
+        itemSearchIndexer.rebuild();
+        assertThat(itemSearchIndex.isReady()).isFalse();
+
+        // when
+        itemSearchIndexer.resync();
+
+        // then
+        assertThat(itemSearchIndex.isReady()).isTrue();
+        assertThat(search("아이폰")).contains(List.of(1L));
+        verify(itemRepository, never()).findSearchChangesSince(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    private Optional<List<Long>> search(String query) {
+        return itemSearchIndex.searchPage(query, ItemSearchFilter.of(null, null, null, null, null), false, 0, 10)
+                .map(ItemSearchHits::ids);
+    }
+
+    private static ItemSearchDocument document(Long id, String name) {
+        return new ItemSearchDocument(id, name, "운동장", Item.ItemCategory.ELECTRONICS,
+                1L, Item.ItemStatus.LOST, LocalDateTime.of(2024, 5, 1, 12, 0));
+    }
+}
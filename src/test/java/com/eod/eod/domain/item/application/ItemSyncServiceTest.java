@@ -0,0 +1,184 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.common.util.ChangeVersion;
+import com.eod.eod.domain.item.infrastructure.ItemClaimRepository;
+import com.eod.eod.domain.item.infrastructure.ItemClaimTombstoneRepository;
+import com.eod.eod.domain.item.infrastructure.ItemRepositoryCustom;
+import com.eod.eod.domain.item.infrastructure.ItemSyncRow;
+import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSyncResponse;
+import com.eod.eod.domain.item.presentation.dto.response.MyClaimResponse;
+import com.eod.eod.domain.item.presentation.dto.response.MyClaimsSyncResponse;
+import com.eod.eod.domain.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSyncServiceTest {
+
+    @Mock
+    private ItemRepositoryCustom itemRepository;
+
+    @Mock
+    private ItemClaimRepository itemClaimRepository;
+
+    @Mock
+    private ItemClaimTombstoneRepository itemClaimTombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ItemSyncService itemSyncService;
+
+    @BeforeEach
+    void setUp() {
+        itemSyncService = new ItemSyncService(itemRepository, itemClaimRepository, itemClaimTombstoneRepository,
+                eventPublisher, Duration.ofSeconds(10), Duration.ofDays(30));
+    }
+
+    @Test
+    void 변경_물품이_size보다_많으면_마지막_행의_버전과_ID를_다음_커서로_반환한다() {
+        // given
+        long since = ChangeVersion.stableBefore(Duration.ofMinutes(5));
+        when(itemRepository.findChangedSince(eq(since), eq(0L), anyLong(), eq(2))).thenReturn(List.of(
+                row(1L, "LOST", since + 1, null),
+                row(2L, "LOST", since + 2, LocalDateTime.now()),
+                row(3L, "GIVEN", since + 3, null)));
+
+        // when
+        ItemSyncResponse response = itemSyncService.syncItems(since, 0L, 2);
+
+        // then
+        assertThat(response.getItems()).extracting(ItemSummaryResponse::getId).containsExactly(1L);
+        assertThat(response.getRemovedIds()).containsExactly(2L);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getHighWaterMark()).isEqualTo(since + 2);
+        assertThat(response.getHighWaterId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 전체_동기화는_목록에_보이는_물품만_반환하고_확정된_버전을_highWaterMark로_준다() {
+        // given
+        when(itemRepository.findChangedSince(eq(-1L), eq(0L), anyLong(), eq(11))).thenReturn(List.of(
+                row(1L, "LOST", 0L, null),
+                row(2L, "GIVEN", 5L, null)));
+        long before = ChangeVersion.stableBefore(Duration.ofSeconds(10));
+
+        // when
+        ItemSyncResponse response = itemSyncService.syncItems(null, null, 10);
+
+        // then
+        assertThat(response.getItems()).extracting(ItemSummaryResponse::getId).containsExactly(1L);
+        assertThat(response.getRemovedIds()).isEmpty();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getHighWaterMark()).isGreaterThanOrEqualTo(before);
+        assertThat(response.getHighWaterId()).isZero();
+    }
+
+    @Test
+    void 내_회수_요청_동기화는_취소된_요청과_삭제된_물품의_요청을_removedIds로_반환한다() {
+        // given
+        long since = ChangeVersion.stableBefore(Duration.ofDays(1));
+        Item visible = createItem(100L);
+        Item deleted = createItem(200L);
+        deleted.softDelete();
+        when(itemClaimRepository.findByClaimantIdChangedSince(2L, since))
+                .thenReturn(List.of(createClaim(10L, visible), createClaim(20L, deleted)));
+        when(itemClaimTombstoneRepository.findClaimIdsChangedSince(2L, since)).thenReturn(List.of(30L));
+
+        // when
+        MyClaimsSyncResponse response = itemSyncService.syncMyClaims(2L, since);
+
+        // then
+        assertThat(response.getClaims()).extracting(MyClaimResponse::getClaimId).containsExactly(10L);
+        assertThat(response.getRemovedIds()).containsExactly(20L, 30L);
+        assertThat(response.isResyncRequired()).isFalse();
+        assertThat(response.getHighWaterMark()).isGreaterThan(since);
+    }
+
+    @Test
+    void since가_삭제_기록_보존_기간보다_오래되면_전체_목록으로_응답한다() {
+        // given
+        long since = ChangeVersion.stableBefore(Duration.ofDays(31));
+        when(itemClaimRepository.findByClaimantIdChangedSince(2L, -1L))
+                .thenReturn(List.of(createClaim(10L, createItem(100L))));
+
+        // when
+        MyClaimsSyncResponse response = itemSyncService.syncMyClaims(2L, since);
+
+        // then
+        assertThat(response.isResyncRequired()).isTrue();
+        assertThat(response.getClaims()).extracting(MyClaimResponse::getClaimId).containsExactly(10L);
+        assertThat(response.getRemovedIds()).isEmpty();
+        verify(itemClaimTombstoneRepository, never()).findClaimIdsChangedSince(anyLong(), anyLong());
+    }
+
+    private static ItemSyncRow row(Long id, String status, long changeVersion, LocalDateTime deletedAt) {
+        ItemSummaryResponse summary = ItemSummaryResponse.builder()
+                .id(id)
+                .name("물품 " + id)
+                .status(status)
+                .category(Item.ItemCategory.ETC)
+                .build();
+        return new ItemSyncRow(summary, changeVersion, deletedAt);
+    }
+
+    private static Item createItem(Long id) {
+        User admin = User.builder()
+                .name("관리자")
+                .oauthProvider("bsm")
+                .oauthId("oauth-id-1")
+                .email("admin@example.com")
+                .role(User.Role.ADMIN)
+                .build();
+        Item item = Item.builder()
+                .admin(admin)
+                .foundPlaceId(1L)
+                .foundPlaceDetail("교무실")
+                .name("지갑")
+                .image("img.jpg")
+                .status(Item.ItemStatus.LOST)
+                .category(Item.ItemCategory.ETC)
+                .foundAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
+
+    private static ItemClaim createClaim(Long id, Item item) {
+        User claimant = User.builder()
+                .name("홍길동")
+                .oauthProvider("bsm")
+                .oauthId("oauth-id-2")
+                .email("user@example.com")
+                .role(User.Role.USER)
+                .build();
+        ReflectionTestUtils.setField(claimant, "id", 2L);
+        ItemClaim claim = ItemClaim.builder()
+                .item(item)
+                .claimant(claimant)
+                .visitDate(LocalDate.now().plusDays(1))
+                .build();
+        ReflectionTestUtils.setField(claim, "id", id);
+        return claim;
+    }
+}
@@ -0,0 +1,112 @@
+package com.eod.eod.domain.item.application;
+
+import com.eod.eod.common.event.EodBusinessEvent;
+import com.eod.eod.common.event.EodSchedulerRunEvent;
+import com.eod.eod.domain.item.infrastructure.ItemRepository;
+import com.eod.eod.domain.item.infrastructure.ItemVersionRow;
+import com.eod.eod.domain.user.application.event.UserChangedEvent;
+import com.eod.eod.domain.user.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemVersionCacheTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ItemVersionCache itemVersionCache;
+
+    @BeforeEach
+    void setUp() {
+        itemVersionCache = new ItemVersionCache(itemRepository, userRepository, eventPublisher, Duration.ofHours(1), 100);
+    }
+
+    @Test
+    void ttl_안의_재검증은_items를_다시_읽지_않는다() {
+        // given
+        when(itemRepository.findVersionRow(1L)).thenReturn(Optional.of(new ItemVersionRow(100L, 3L, 1206, "홍길동")));
+        when(itemRepository.findMaxChangeVersion()).thenReturn(500L);
+
+        // when
+        itemVersionCache.find(1L);
+        Optional<ItemVersionRow> cached = itemVersionCache.find(1L);
+        itemVersionCache.latestVersion();
+        long latest = itemVersionCache.latestVersion();
+
+        // then
+        assertThat(cached).contains(new ItemVersionRow(100L, 3L, 1206, "홍길동"));
+        assertThat(latest).isEqualTo(500L);
+        verify(itemRepository, times(1)).findVersionRow(1L);
+        verify(itemRepository, times(1)).findMaxChangeVersion();
+    }
+
+    @Test
+    void 물품에_영향을_주는_작업이_커밋되면_캐시를_비운다() {
+        // given
+        when(itemRepository.findVersionRow(1L))
+                .thenReturn(Optional.of(new ItemVersionRow(100L, 3L, null, null)))
+                .thenReturn(Optional.of(new ItemVersionRow(101L, 3L, null, null)))
+                .thenReturn(Optional.of(new ItemVersionRow(102L, 3L, null, null)));
+        itemVersionCache.find(1L);
+
+        // when
+        itemVersionCache.onBusinessEvent(new EodBusinessEvent("auth", "bsm_login", "success"));
+        itemVersionCache.onBusinessEvent(new EodBusinessEvent("disposal", "extend", "success"));
+        Optional<ItemVersionRow> afterExtend = itemVersionCache.find(1L);
+        itemVersionCache.onSchedulerRun(new EodSchedulerRunEvent("auto_discard_expired_items", "success", 1));
+        Optional<ItemVersionRow> afterDiscard = itemVersionCache.find(1L);
+
+        // then
+        assertThat(afterExtend).map(ItemVersionRow::changeVersion).contains(101L);
+        assertThat(afterDiscard).map(ItemVersionRow::changeVersion).contains(102L);
+        verify(itemRepository, times(3)).findVersionRow(1L);
+    }
+
+    @Test
+    void 없는_물품은_캐시하지_않는다() {
+        // given
+        when(itemRepository.findVersionRow(9L)).thenReturn(Optional.empty());
+
+        // when
+        itemVersionCache.find(9L);
+        Optional<ItemVersionRow> result = itemVersionCache.find(9L);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(itemRepository, times(2)).findVersionRow(9L);
+    }
+
+    @Test
+    void 사용자_정보가_바뀌면_신고자_버전을_다시_읽는다() {
+        // given
+        when(userRepository.findMaxChangeVersion()).thenReturn(10L, 20L);
+        itemVersionCache.latestReporterVersion();
+
+        // when
+        itemVersionCache.onUserChanged(new UserChangedEvent(1L));
+        long reporterVersion = itemVersionCache.latestReporterVersion();
+
+        // then
+        assertThat(reporterVersion).isEqualTo(20L);
+        verify(userRepository, times(2)).findMaxChangeVersion();
+    }
+}
@@ -0,0 +1,251 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.item.presentation.dto.response.ClaimItemResponse;
+import com.eod.eod.domain.item.presentation.dto.response.ClaimRequestResponse;
+import com.eod.eod.domain.place.model.Place;
+import com.eod.eod.domain.user.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ItemClaimRepositoryTest {
+
+    @Autowired
+    private ItemClaimRepository itemClaimRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 승인된_주장을_제외한_같은_물품의_대기_주장을_잠금_조회_1회와_UPDATE_1회로_거절한다() {
+        User admin = persistUser("admin", null);
+        Item item = persistItem(admin);
+        Item otherItem = persistItem(admin);
+        ItemClaim approved = persistClaim(item, persistUser("approved", "111"));
+        ItemClaim withDiscord = persistClaim(item, persistUser("with-discord", "222"));
+        ItemClaim withoutDiscord = persistClaim(item, persistUser("without-discord", null));
+        ItemClaim otherItemClaim = persistClaim(otherItem, persistUser("other-item", "333"));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<ItemClaim> targets = itemClaimRepository.findByItemIdAndStatusExcludingForUpdate(
+                item.getId(), ItemClaim.ClaimStatus.PENDING, approved.getId());
+        int rejected = itemClaimRepository.updateStatusByIds(
+                targets.stream().map(ItemClaim::getId).toList(),
+                ItemClaim.ClaimStatus.PENDING, ItemClaim.ClaimStatus.REJECTED);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(targets).extracting(ItemClaim::getId)
+                .containsExactlyInAnyOrder(withDiscord.getId(), withoutDiscord.getId());
+        assertThat(targets).extracting(claim -> claim.getClaimant().getDiscordId())
+                .containsExactlyInAnyOrder("222", null);
+        assertThat(rejected).isEqualTo(2);
+        entityManager.clear();
+        assertThat(statusOf(approved)).isEqualTo(ItemClaim.ClaimStatus.PENDING);
+        assertThat(statusOf(withDiscord)).isEqualTo(ItemClaim.ClaimStatus.REJECTED);
+        assertThat(statusOf(withoutDiscord)).isEqualTo(ItemClaim.ClaimStatus.REJECTED);
+        assertThat(statusOf(otherItemClaim)).isEqualTo(ItemClaim.ClaimStatus.PENDING);
+    }
+
+    @Test
+    void 일괄_거절은_잠금_조회로_확정한_주장만_변경한다() {
+        User admin = persistUser("admin", null);
+        Item item = persistItem(admin);
+        ItemClaim approved = persistClaim(item, persistUser("approved", null));
+        ItemClaim target = persistClaim(item, persistUser("target", "222"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ItemClaim> targets = itemClaimRepository.findByItemIdAndStatusExcludingForUpdate(
+                item.getId(), ItemClaim.ClaimStatus.PENDING, approved.getId());
+        // 잠금 조회 이후에 들어온 주장 (알림 대상에 없으므로 거절되면 안 됨)
+        ItemClaim late = persistClaim(item, persistUser("late", "444"));
+        entityManager.flush();
+        int rejected = itemClaimRepository.updateStatusByIds(
+                targets.stream().map(ItemClaim::getId).toList(),
+                ItemClaim.ClaimStatus.PENDING, ItemClaim.ClaimStatus.REJECTED);
+
+        assertThat(rejected).isEqualTo(1);
+        entityManager.clear();
+        assertThat(statusOf(target)).isEqualTo(ItemClaim.ClaimStatus.REJECTED);
+        assertThat(statusOf(late)).isEqualTo(ItemClaim.ClaimStatus.PENDING);
+    }
+
+    @Test
+    void 회수_요청_목록을_신청_수와_무관하게_목록_쿼리_1회와_개수_쿼리_1회로_조회한다() {
+        User admin = persistUser("admin", null);
+        Item item = persistItem(admin);
+        Item otherItem = persistItem(admin);
+        Item deletedItem = persistItem(admin);
+        persistClaim(item, persistUser("first", null));
+        persistClaim(item, persistUser("second", null));
+        persistClaim(otherItem, persistUser("third", null));
+        ItemClaim latest = persistClaim(otherItem, persistUser("fourth", null));
+        persistClaim(deletedItem, persistUser("deleted", null));
+        deletedItem.softDelete();
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        Page<ClaimRequestResponse> page = itemClaimRepository.searchClaimRequests(
+                null, ItemClaim.ClaimStatus.PENDING, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "claimedAt")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).hasSize(2);
+        ClaimRequestResponse first = page.getContent().get(0);
+        assertThat(first.getRequestId()).isEqualTo(latest.getId());
+        assertThat(first.getItemId()).isEqualTo(otherItem.getId());
+        assertThat(first.getItemName()).isEqualTo("테스트 물품");
+        assertThat(first.getImageUrl()).isEqualTo("image.jpg");
+        assertThat(first.getRequesterName()).isEqualTo("사용자");
+        assertThat(first.getRequesterType()).isEqualTo("STUDENT");
+        assertThat(first.getStatus()).isEqualTo("PENDING");
+    }
+
+    @Test
+    void 회수_요청_목록을_물품으로_필터링한다() {
+        User admin = persistUser("admin", null);
+        Item item = persistItem(admin);
+        Item otherItem = persistItem(admin);
+        persistClaim(item, persistUser("first", null));
+        persistClaim(otherItem, persistUser("second", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<ClaimRequestResponse> page = itemClaimRepository.searchClaimRequests(
+                item.getId(), null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "claimedAt")));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting(ClaimRequestResponse::getItemId).containsExactly(item.getId());
+    }
+
+    @Test
+    void 대기_요청_집계를_갱신하면_대시보드를_집계_없이_쿼리_1회로_조회한다() {
+        User admin = persistUser("admin", null);
+        Place place = persistPlace();
+        Item item = persistItem(admin, place.getId());
+        Item noClaimItem = persistItem(admin, place.getId());
+        ItemClaim claim = persistClaim(item, persistUser("first", null));
+        persistClaim(item, persistUser("second", null));
+        entityManager.flush();
+        itemRepository.refreshPendingClaimSummary(item.getId(), ItemClaim.ClaimStatus.PENDING);
+        itemRepository.refreshPendingClaimSummary(noClaimItem.getId(), ItemClaim.ClaimStatus.PENDING);
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<ClaimItemResponse> items = itemClaimRepository.findItemsWithPendingClaims();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(items).hasSize(1);
+        assertThat(items.get(0).getId()).isEqualTo(item.getId());
+        assertThat(items.get(0).getFoundPlace()).isEqualTo("도서관");
+        assertThat(items.get(0).getRequestCount()).isEqualTo(2L);
+        assertThat(items.get(0).getVisitDate()).isEqualTo(claim.getVisitDate());
+        assertThat(itemRepository.sumPendingClaimCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void 어긋난_대기_요청_집계만_보정한다() {
+        User admin = persistUser("admin", null);
+        Place place = persistPlace();
+        Item refreshed = persistItem(admin, place.getId());
+        Item drifted = persistItem(admin, place.getId());
+        persistClaim(refreshed, persistUser("first", null));
+        persistClaim(drifted, persistUser("second", null));
+        entityManager.flush();
+        itemRepository.refreshPendingClaimSummary(refreshed.getId(), ItemClaim.ClaimStatus.PENDING);
+        entityManager.clear();
+
+        int corrected = itemRepository.reconcilePendingClaimSummaries(
+                List.of(refreshed.getId(), drifted.getId()), ItemClaim.ClaimStatus.PENDING, LocalDate.of(1970, 1, 1));
+        int correctedAgain = itemRepository.reconcilePendingClaimSummaries(
+                List.of(refreshed.getId(), drifted.getId()), ItemClaim.ClaimStatus.PENDING, LocalDate.of(1970, 1, 1));
+
+        assertThat(corrected).isEqualTo(1);
+        assertThat(correctedAgain).isZero();
+        assertThat(itemClaimRepository.findItemsWithPendingClaims())
+                .extracting(ClaimItemResponse::getId)
+                .containsExactlyInAnyOrder(refreshed.getId(), drifted.getId());
+    }
+
+    private ItemClaim.ClaimStatus statusOf(ItemClaim claim) {
+        return entityManager.find(ItemClaim.class, claim.getId()).getStatus();
+    }
+
+    private User persistUser(String suffix, String discordId) {
+        User user = User.builder()
+                .oauthProvider("local")
+                .oauthId("user-" + suffix)
+                .name("사용자")
+                .email("user-" + suffix + "@test.com")
+                .role(User.Role.USER)
+                .build();
+        if (discordId != null) {
+            user.updateDiscordId(discordId);
+        }
+        return entityManager.persist(user);
+    }
+
+    private Place persistPlace() {
+        Place place = new Place();
+        ReflectionTestUtils.setField(place, "place", "도서관");
+        return entityManager.persist(place);
+    }
+
+    private Item persistItem(User admin) {
+        return persistItem(admin, 1L);
+    }
+
+    private Item persistItem(User admin, Long foundPlaceId) {
+        return entityManager.persist(Item.builder()
+                .admin(admin)
+                .foundPlaceId(foundPlaceId)
+                .foundPlaceDetail("상세 위치")
+                .name("테스트 물품")
+                .image("image.jpg")
+                .status(Item.ItemStatus.LOST)
+                .category(Item.ItemCategory.ETC)
+                .foundAt(LocalDateTime.now().minusDays(1))
+                .build());
+    }
+
+    private ItemClaim persistClaim(Item item, User claimant) {
+        return entityManager.persist(ItemClaim.builder()
+                .item(item)
+                .claimant(claimant)
+                .visitDate(LocalDate.now().plusDays(1))
+                .build());
+    }
+}
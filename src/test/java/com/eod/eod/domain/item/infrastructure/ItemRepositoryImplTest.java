@@ -1,7 +1,14 @@
 package com.eod.eod.domain.item.infrastructure;
 
+import com.eod.eod.common.util.ChangeVersion;
 import com.eod.eod.domain.item.model.Item;
+import com.eod.eod.domain.item.model.ItemClaim;
+import com.eod.eod.domain.item.presentation.dto.response.ItemSummaryResponse;
+import com.eod.eod.domain.place.model.Place;
+import com.eod.eod.domain.reward.model.RewardRecord;
 import com.eod.eod.domain.user.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -10,7 +17,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -30,7 +39,7 @@ class ItemRepositoryImplTest {
     void searchItems는_상태_필터가_없어도_GIVEN_물품을_반환하지_않는다() {
         Item givenItem = persistItem(Item.ItemStatus.GIVEN);
 
-        Page<Item> result = itemRepository.searchItems(
+        Page<ItemSummaryResponse> result = itemRepository.searchItems(
                 null,
                 null,
                 null,
@@ -40,7 +49,7 @@ class ItemRepositoryImplTest {
                 PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "foundAt"))
         );
 
-        assertThat(result.getContent()).doesNotContain(givenItem);
+        assertThat(result.getContent()).extracting(ItemSummaryResponse::getId).doesNotContain(givenItem.getId());
         assertThat(result.getContent()).isEmpty();
     }
 
@@ -48,7 +57,7 @@ class ItemRepositoryImplTest {
     void searchItems는_GIVEN_상태를_명시해도_GIVEN_물품을_반환하지_않는다() {
         Item givenItem = persistItem(Item.ItemStatus.GIVEN);
 
-        Page<Item> result = itemRepository.searchItems(
+        Page<ItemSummaryResponse> result = itemRepository.searchItems(
                 null,
                 null,
                 List.of(Item.ItemStatus.GIVEN),
@@ -58,10 +67,279 @@ class ItemRepositoryImplTest {
                 PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "foundAt"))
         );
 
-        assertThat(result.getContent()).doesNotContain(givenItem);
+        assertThat(result.getContent()).extracting(ItemSummaryResponse::getId).doesNotContain(givenItem.getId());
         assertThat(result.getContent()).isEmpty();
     }
 
+    @Test
+    void searchItems는_검색_색인과_같이_이름_장소_상세_카테고리_라벨에서_검색한다() {
+        User admin = persistAdmin("query");
+        Item byName = persistItem(admin, "흰색 아이폰15", "3층 도서관", Item.ItemCategory.ETC);
+        Item byDetail = persistItem(admin, "검정 지갑", "아이폰 매장 앞", Item.ItemCategory.ACCESSORIES);
+        Item byCategory = persistItem(admin, "충전기", "운동장", Item.ItemCategory.ELECTRONICS);
+        entityManager.clear();
+
+        Page<ItemSummaryResponse> byText = itemRepository.searchItems(
+                "아이폰", null, null, null, null, null, PageRequest.of(0, 10));
+        Page<ItemSummaryResponse> byLabel = itemRepository.searchItems(
+                "전자", null, null, null, null, null, PageRequest.of(0, 10));
+
+        assertThat(byText.getContent()).extracting(ItemSummaryResponse::getId)
+                .containsExactlyInAnyOrder(byName.getId(), byDetail.getId());
+        assertThat(byLabel.getContent()).extracting(ItemSummaryResponse::getId)
+                .containsExactly(byCategory.getId());
+    }
+
+    @Test
+    void searchItemsByKeyset은_습득일이_같으면_ID로_이어서_조회한다() {
+        LocalDateTime foundAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        User admin = persistAdmin("keyset");
+        Long first = persistItem(admin, foundAt.plusDays(1)).getId();
+        Long second = persistItem(admin, foundAt).getId();
+        Long third = persistItem(admin, foundAt).getId();
+        Long fourth = persistItem(admin, foundAt.minusDays(1)).getId();
+
+        List<ItemKeysetRow> firstPage = itemRepository.searchItemsByKeyset(
+                null, null, null, null, null, null, null, false, 2);
+        List<ItemKeysetRow> secondPage = itemRepository.searchItemsByKeyset(
+                null, null, null, null, null, null,
+                firstPage.get(firstPage.size() - 1).toKeyset(), false, 2);
+
+        assertThat(firstPage).extracting(row -> row.summary().getId()).containsExactly(first, third);
+        assertThat(secondPage).extracting(row -> row.summary().getId()).containsExactly(second, fourth);
+    }
+
+    @Test
+    void findSearchRowsByIds는_ID가_비어있으면_빈_리스트를_반환한다() {
+        List<ItemKeysetRow> result = itemRepository.findSearchRowsByIds(
+                List.of(), null, null, null, null, null);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void findSearchRowsByIds는_색인이_반영하지_못한_상태_변경을_필터로_걸러낸다() {
+        User admin = persistAdmin("hydrate");
+        Item lost = persistItem(admin, LocalDateTime.of(2024, 5, 1, 9, 0));
+        Item given = persistItem(admin, LocalDateTime.of(2024, 5, 2, 9, 0));
+        itemRepository.updateStatusByIds(List.of(given.getId()),
+                Item.ItemStatus.LOST, Item.ItemStatus.GIVEN, ChangeVersion.next());
+
+        List<ItemKeysetRow> result = itemRepository.findSearchRowsByIds(
+                List.of(given.getId(), lost.getId()), null, null, null, null, null);
+
+        assertThat(result).extracting(row -> row.summary().getId()).containsExactly(lost.getId());
+    }
+
+    @Test
+    void searchItems는_신고자와_장소를_조인해_응답을_만들고_장소가_없으면_빈_문자열을_반환한다() {
+        User admin = persistAdmin("projection");
+        User student = entityManager.persist(User.builder()
+                .oauthProvider("local")
+                .oauthId("student-projection")
+                .name("홍길동")
+                .email("student-projection@test.com")
+                .role(User.Role.USER)
+                .build());
+        Place newPlace = new Place();
+        ReflectionTestUtils.setField(newPlace, "place", "도서관");
+        Place place = entityManager.persist(newPlace);
+        Item withPlace = entityManager.persist(Item.builder()
+                .student(student)
+                .admin(admin)
+                .foundPlaceId(place.getId())
+                .foundPlaceDetail("2층 열람실")
+                .name("무선 이어폰")
+                .image("image.jpg")
+                .status(Item.ItemStatus.LOST)
+                .category(Item.ItemCategory.ELECTRONICS)
+                .foundAt(LocalDateTime.of(2024, 5, 2, 9, 0))
+                .build());
+        Item withoutPlace = entityManager.persist(Item.builder()
+                .admin(admin)
+                .foundPlaceId(place.getId() + 1000)
+                .foundPlaceDetail("상세 위치")
+                .name("테스트 물품")
+                .image("image.jpg")
+                .status(Item.ItemStatus.LOST)
+                .category(Item.ItemCategory.ETC)
+                .foundAt(LocalDateTime.of(2024, 5, 1, 9, 0))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // 페이지 크기(1)보다 결과가 많아야 COUNT 쿼리가 생략되지 않음
+        Page<ItemSummaryResponse> result = itemRepository.searchItems(
+                null, null, null, null, null, null,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "foundAt")));
+        Page<ItemSummaryResponse> secondPage = itemRepository.searchItems(
+                null, null, null, null, null, null,
+                PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "foundAt")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        ItemSummaryResponse first = result.getContent().get(0);
+        assertThat(first.getId()).isEqualTo(withPlace.getId());
+        assertThat(first.getReporterName()).isEqualTo("홍길동");
+        assertThat(first.getFoundPlace()).isEqualTo("도서관");
+        assertThat(first.getFoundAt()).isEqualTo("2024-05-02");
+        ItemSummaryResponse second = secondPage.getContent().get(0);
+        assertThat(second.getId()).isEqualTo(withoutPlace.getId());
+        assertThat(second.getReporterName()).isNull();
+        assertThat(second.getFoundPlace()).isEmpty();
+    }
+
+    @Test
+    void findItemDetail은_삭제된_물품을_조회하지_않는다() {
+        Item item = persistItem(persistAdmin("detail"), LocalDateTime.of(2024, 5, 1, 9, 0));
+        Item deleted = entityManager.find(Item.class, item.getId());
+        deleted.softDelete();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(itemRepository.findItemDetail(item.getId())).isEmpty();
+    }
+
+    @Test
+    void summarizeDashboard는_대시보드_카운터를_쿼리_1회로_집계한다() {
+        User admin = persistUser("summary-admin", User.Role.ADMIN);
+        User teacher = persistUser("summary-teacher", User.Role.TEACHER);
+        User student = persistUser("summary-student", User.Role.USER);
+        Item claimed = persistItem(admin, null, Item.ItemStatus.LOST);
+        entityManager.persist(ItemClaim.builder()
+                .item(claimed)
+                .claimant(student)
+                .visitDate(LocalDate.now().plusDays(1))
+                .build());
+        persistItem(admin, null, Item.ItemStatus.TO_BE_DISCARDED);
+        persistItem(admin, null, Item.ItemStatus.TO_BE_DISCARDED).softDelete();
+        persistItem(admin, student, Item.ItemStatus.GIVEN);
+        persistItem(admin, null, Item.ItemStatus.GIVEN);
+        Item rewarded = persistItem(admin, student, Item.ItemStatus.GIVEN);
+        entityManager.persist(RewardRecord.builder().student(student).item(rewarded).teacher(teacher).build());
+        entityManager.flush();
+        itemRepository.refreshPendingClaimSummary(claimed.getId(), ItemClaim.ClaimStatus.PENDING);
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        DashboardCounts counts = itemRepository.summarizeDashboard(
+                Item.ItemStatus.TO_BE_DISCARDED, Item.ItemStatus.GIVEN, User.Role.USER);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(counts.getPendingClaims()).isEqualTo(1);
+        assertThat(counts.getToBeDiscardedItems()).isEqualTo(1);
+        assertThat(counts.getRewardEligibleItems()).isEqualTo(1);
+    }
+
+    @Test
+    void findChangedSince는_since_이후_변경된_물품만_삭제_여부와_함께_반환한다() {
+        User admin = persistAdmin("sync");
+        Item untouched = persistItem(admin, LocalDateTime.of(2024, 5, 1, 9, 0));
+        Item updated = persistItem(admin, LocalDateTime.of(2024, 5, 2, 9, 0));
+        Item deleted = persistItem(admin, LocalDateTime.of(2024, 5, 3, 9, 0));
+        long since = deleted.getChangeVersion();
+
+        updated.markAsToBeDiscarded();
+        deleted.softDelete();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ItemSyncRow> rows = itemRepository.findChangedSince(since, 0L, Long.MAX_VALUE, 10);
+
+        assertThat(rows).extracting(row -> row.summary().getId())
+                .containsExactly(updated.getId(), deleted.getId())
+                .doesNotContain(untouched.getId());
+        assertThat(rows.get(0).summary().getStatus()).isEqualTo(Item.ItemStatus.TO_BE_DISCARDED.name());
+        assertThat(rows.get(0).isRemoved()).isFalse();
+        assertThat(rows.get(1).isRemoved()).isTrue();
+    }
+
+    @Test
+    void findChangedSince는_일괄_전환으로_버전이_같으면_ID로_이어서_조회한다() {
+        User admin = persistAdmin("sync-bulk");
+        Long first = persistItem(admin, LocalDateTime.of(2024, 5, 1, 9, 0)).getId();
+        Long second = persistItem(admin, LocalDateTime.of(2024, 5, 2, 9, 0)).getId();
+        long version = ChangeVersion.next();
+        itemRepository.updateStatusByIds(List.of(first, second),
+                Item.ItemStatus.LOST, Item.ItemStatus.TO_BE_DISCARDED, version);
+
+        List<ItemSyncRow> rows = itemRepository.findChangedSince(version, first, Long.MAX_VALUE, 10);
+
+        assertThat(rows).extracting(row -> row.summary().getId()).containsExactly(second);
+        assertThat(rows.get(0).changeVersion()).isEqualTo(version);
+    }
+
+    private User persistUser(String suffix, User.Role role) {
+        return entityManager.persist(User.builder()
+                .oauthProvider("local")
+                .oauthId("user-" + suffix)
+                .name("사용자")
+                .email("user-" + suffix + "@test.com")
+                .role(role)
+                .build());
+    }
+
+    private Item persistItem(User admin, User student, Item.ItemStatus status) {
+        return entityManager.persist(Item.builder()
+                .admin(admin)
+                .student(student)
+                .foundPlaceId(1L)
+                .foundPlaceDetail("상세 위치")
+                .name("테스트 물품")
+                .image("image.jpg")
+                .status(status)
+                .category(Item.ItemCategory.ETC)
+                .foundAt(LocalDateTime.now().minusDays(1))
+                .build());
+    }
+
+    private User persistAdmin(String suffix) {
+        return entityManager.persist(User.builder()
+                .oauthProvider("local")
+                .oauthId("admin-" + suffix)
+                .name("Admin")
+                .email("admin-" + suffix + "@test.com")
+                .role(User.Role.ADMIN)
+                .build());
+    }
+
+    private Item persistItem(User admin, LocalDateTime foundAt) {
+        Item item = entityManager.persist(Item.builder()
+                .admin(admin)
+                .foundPlaceId(1L)
+                .foundPlaceDetail("상세 위치")
+                .name("테스트 물품")
+                .image("image.jpg")
+                .status(Item.ItemStatus.LOST)
+                .category(Item.ItemCategory.ETC)
+                .foundAt(foundAt)
+                .build());
+        entityManager.flush();
+        return item;
+    }
+
+    private Item persistItem(User admin, String name, String foundPlaceDetail, Item.ItemCategory category) {
+        Item item = entityManager.persist(Item.builder()
+                .admin(admin)
+                .foundPlaceId(1L)
+                .foundPlaceDetail(foundPlaceDetail)
+                .name(name)
+                .image("image.jpg")
+                .status(Item.ItemStatus.LOST)
+                .category(category)
+                .foundAt(LocalDateTime.of(2024, 5, 1, 9, 0))
+                .build());
+        entityManager.flush();
+        return item;
+    }
+
     private Item persistItem(Item.ItemStatus status) {
         User admin = entityManager.persist(User.builder()
                 .oauthProvider("local")
@@ -0,0 +1,145 @@
+package com.eod.eod.domain.item.infrastructure;
+
+import com.eod.eod.domain.item.model.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSearchIndexTest {
+
+    private static final ItemSearchFilter NO_FILTER = ItemSearchFilter.of(null, null, null, null, null);
+    private static final LocalDateTime FOUND_AT = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private ItemSearchIndex itemSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        itemSearchIndex = new ItemSearchIndex();
+        itemSearchIndex.beginRebuild();
+        itemSearchIndex.load(document(1L, "흰색 아이폰15", "3층 도서관", Item.ItemCategory.ELECTRONICS, FOUND_AT));
+        itemSearchIndex.load(document(2L, "검정 지갑", "아이폰 매장 앞", Item.ItemCategory.ACCESSORIES, FOUND_AT.plusDays(1)));
+        itemSearchIndex.load(document(3L, "체육복 상의", "운동장", Item.ItemCategory.SCHOOL_UNIFORM, FOUND_AT));
+        itemSearchIndex.finishRebuild();
+    }
+
+    @Test
+    void 단어_일부로도_이름과_장소_상세에서_검색되고_습득일_순으로_정렬된다() {
+        assertThat(search("아이폰")).contains(List.of(2L, 1L));
+        assertThat(itemSearchIndex.searchPage("아이폰", NO_FILTER, true, 0, 10).map(ItemSearchHits::ids))
+                .contains(List.of(1L, 2L));
+    }
+
+    @Test
+    void 카테고리_라벨로도_검색된다() {
+        assertThat(search("전자기기")).contains(List.of(1L));
+    }
+
+    @Test
+    void 모든_토큰을_포함하지_않으면_매칭되지_않는다() {
+        assertThat(search("아이폰 체육복")).contains(List.of());
+    }
+
+    @Test
+    void DB_검색처럼_한_필드가_검색어_전체를_포함해야_매칭된다() {
+        assertThat(search("아이폰 도서관")).contains(List.of());
+        assertThat(search("아이폰 매장")).contains(List.of(2L));
+        assertThat(search("매장 아이폰")).contains(List.of());
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_반영된다() {
+        itemSearchIndex.upsert(document(3L, "에어팟 케이스", "운동장", Item.ItemCategory.ELECTRONICS, FOUND_AT));
+        itemSearchIndex.remove(1L);
+
+        assertThat(search("체육복")).contains(List.of());
+        assertThat(search("에어팟")).contains(List.of(3L));
+        assertThat(search("아이폰")).contains(List.of(2L));
+    }
+
+    @Test
+    void 한_글자_검색어는_DB_검색으로_폴백한다() {
+        assertThat(search("폰")).isEmpty();
+    }
+
+    @Test
+    void 적재가_끝나기_전에는_DB_검색으로_폴백한다() {
+        ItemSearchIndex notReady = new ItemSearchIndex();
+
+        assertThat(notReady.searchPage("아이폰", NO_FILTER, false, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void 매칭이_많아도_폴백하지_않고_전체_수와_요청한_페이지만_반환한다() {
+        ItemSearchIndex largeIndex = new ItemSearchIndex();
+        largeIndex.beginRebuild();
+        for (long id = 1; id <= 50; id++) {
+            largeIndex.load(document(id, "무선 이어폰 " + id, "운동장", Item.ItemCategory.ELECTRONICS, FOUND_AT.plusHours(id)));
+        }
+        largeIndex.finishRebuild();
+
+        Optional<ItemSearchHits> hits = largeIndex.searchPage("이어폰", NO_FILTER, false, 10, 5);
+
+        assertThat(hits).hasValueSatisfying(page -> {
+            assertThat(page.total()).isEqualTo(50);
+            assertThat(page.ids()).containsExactly(40L, 39L, 38L, 37L, 36L);
+        });
+    }
+
+    @Test
+    void 필터는_색인_안에서_적용되고_지급_완료_물품은_항상_제외된다() {
+        itemSearchIndex.upsert(new ItemSearchDocument(4L, "아이폰 충전기", "본관", Item.ItemCategory.ELECTRONICS,
+                2L, Item.ItemStatus.GIVEN, FOUND_AT));
+        itemSearchIndex.upsert(new ItemSearchDocument(5L, "아이폰 케이스", "본관", Item.ItemCategory.ACCESSORIES,
+                2L, Item.ItemStatus.TO_BE_DISCARDED, FOUND_AT.minusDays(3)));
+
+        ItemSearchFilter byPlace = ItemSearchFilter.of(List.of(2L), null, null, null, null);
+        ItemSearchFilter byDate = ItemSearchFilter.of(null, null,
+                LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 1), null);
+        ItemSearchFilter byCategory = ItemSearchFilter.of(null, null, null, null, List.of(Item.ItemCategory.ELECTRONICS));
+
+        assertThat(itemSearchIndex.searchPage("아이폰", byPlace, false, 0, 10).map(ItemSearchHits::ids))
+                .contains(List.of(5L));
+        assertThat(itemSearchIndex.searchPage("아이폰", byDate, false, 0, 10).map(ItemSearchHits::ids))
+                .contains(List.of(1L));
+        assertThat(itemSearchIndex.searchPage("아이폰", byCategory, false, 0, 10).map(ItemSearchHits::ids))
+                .contains(List.of(1L));
+    }
+
+    @Test
+    void 키셋_검색은_습득일이_같으면_ID로_이어서_조회한다() {
+        itemSearchIndex.upsert(document(4L, "아이폰 케이스", "본관", Item.ItemCategory.ACCESSORIES, FOUND_AT));
+
+        Optional<List<Long>> firstPage = itemSearchIndex.searchAfter("아이폰", NO_FILTER, false, null, 2);
+        Optional<List<Long>> secondPage = itemSearchIndex.searchAfter("아이폰", NO_FILTER, false,
+                new ItemKeyset(FOUND_AT, 4L), 2);
+
+        assertThat(firstPage).contains(List.of(2L, 4L));
+        assertThat(secondPage).contains(List.of(1L));
+    }
+
+    @Test
+    void 재색인_중_변경된_물품은_이전_스냅샷으로_덮어쓰지_않는다() {
+        itemSearchIndex.beginRebuild();
+        itemSearchIndex.upsert(document(3L, "에어팟 케이스", "운동장", Item.ItemCategory.ELECTRONICS, FOUND_AT));
+        itemSearchIndex.load(document(3L, "체육복 상의", "운동장", Item.ItemCategory.SCHOOL_UNIFORM, FOUND_AT));
+        itemSearchIndex.finishRebuild();
+
+        assertThat(search("에어팟")).contains(List.of(3L));
+        assertThat(search("체육복")).contains(List.of());
+    }
+
+    private Optional<List<Long>> search(String query) {
+        return itemSearchIndex.searchPage(query, NO_FILTER, false, 0, 10).map(ItemSearchHits::ids);
+    }
+
+    private static ItemSearchDocument document(Long id, String name, String foundPlaceDetail,
+                                               Item.ItemCategory category, LocalDateTime foundAt) {
+        return new ItemSearchDocument(id, name, foundPlaceDetail, category, 1L, Item.ItemStatus.LOST, foundAt);
+    }
+}
@@ -0,0 +1,131 @@
+package com.eod.eod.domain.place.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.common.event.EodCacheReloadEvent;
+import com.eod.eod.domain.place.infrastructure.PlaceRepository;
+import com.eod.eod.domain.place.model.Place;
+import com.eod.eod.domain.place.presentation.dto.response.PlaceResponseDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PlaceCatalogTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PlaceCatalog placeCatalog;
+
+    @Test
+    void 적재_후에는_DB_조회_없이_장소명을_반환한다() {
+        // given
+        when(placeRepository.findAll(any(Sort.class))).thenReturn(List.of(place(1L, "도서관")));
+        placeCatalog.reload();
+
+        // when
+        Optional<String> name = placeCatalog.findName(1L);
+
+        // then
+        assertThat(name).contains("도서관");
+        verify(placeRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(new EodCacheAccessEvent("place_catalog", "hit"));
+    }
+
+    @Test
+    void 카탈로그에_없는_장소가_DB에_있으면_재적재한다() {
+        // given
+        when(placeRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(place(2L, "강당")));
+        when(placeRepository.findById(2L)).thenReturn(Optional.of(place(2L, "강당")));
+        placeCatalog.reload();
+
+        // when
+        boolean exists = placeCatalog.exists(2L);
+
+        // then
+        assertThat(exists).isTrue();
+        verify(placeRepository, times(2)).findAll(any(Sort.class));
+        verify(eventPublisher).publishEvent(new EodCacheAccessEvent("place_catalog", "miss"));
+        assertThat(placeCatalog.findAll()).extracting(PlaceResponseDto::getName).containsExactly("강당");
+    }
+
+    @Test
+    void 카탈로그와_DB_모두_없으면_존재하지_않는다() {
+        // given
+        when(placeRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        when(placeRepository.findById(9L)).thenReturn(Optional.empty());
+        placeCatalog.reload();
+
+        // when & then
+        assertThat(placeCatalog.exists(9L)).isFalse();
+        assertThat(placeCatalog.exists(null)).isFalse();
+        verify(placeRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void 재적재에_실패해도_이전_스냅샷을_유지한다() {
+        // given
+        when(placeRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(place(1L, "도서관")))
+                .thenThrow(new IllegalStateException("DB 연결 실패"));
+        placeCatalog.reload();
+
+        // when
+        placeCatalog.refresh();
+
+        // then
+        assertThat(placeCatalog.findAll()).extracting(PlaceResponseDto::getId).containsExactly(1L);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof EodCacheReloadEvent reload && reload.result().equals("failure")));
+    }
+
+    @Test
+    void 장소_목록이_같으면_같은_ETag를_주고_이름이_바뀌면_ETag도_바뀐다() {
+        // given
+        when(placeRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(place(1L, "도서관")))
+                .thenReturn(List.of(place(1L, "도서관")))
+                .thenReturn(List.of(place(1L, "본관 도서관")));
+        placeCatalog.reload();
+        String first = placeCatalog.tag().value();
+
+        // when
+        placeCatalog.reload();
+        String unchanged = placeCatalog.tag().value();
+        placeCatalog.reload();
+        String renamed = placeCatalog.tag().value();
+
+        // then
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(renamed).isNotEqualTo(first);
+    }
+
+    private Place place(Long id, String name) {
+        Place place = new Place();
+        ReflectionTestUtils.setField(place, "id", id);
+        ReflectionTestUtils.setField(place, "place", name);
+        return place;
+    }
+}
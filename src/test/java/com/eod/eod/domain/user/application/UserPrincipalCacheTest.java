@@ -0,0 +1,137 @@
+package com.eod.eod.domain.user.application;
+
+import com.eod.eod.common.event.EodCacheAccessEvent;
+import com.eod.eod.domain.user.application.event.UserChangedEvent;
+import com.eod.eod.domain.user.infrastructure.UserRepository;
+import com.eod.eod.domain.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCache = new UserPrincipalCache(userRepository, eventPublisher, true, Duration.ofMinutes(1), 2);
+    }
+
+    @Test
+    void TTL_이내_재조회는_DB를_조회하지_않는다() {
+        // given
+        User user = User.builder().name("홍길동").role(User.Role.USER).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        Optional<User> first = userPrincipalCache.findById(1L);
+        Optional<User> second = userPrincipalCache.findById(1L);
+
+        // then
+        assertThat(first).containsSame(user);
+        assertThat(second).hasValueSatisfying(cached -> {
+            assertThat(cached).isNotSameAs(user);
+            assertThat(cached.getName()).isEqualTo("홍길동");
+            assertThat(cached.getRole()).isEqualTo(User.Role.USER);
+        });
+        verify(userRepository, times(1)).findById(1L);
+        verify(eventPublisher).publishEvent(new EodCacheAccessEvent("user_principal", "miss"));
+        verify(eventPublisher).publishEvent(new EodCacheAccessEvent("user_principal", "hit"));
+    }
+
+    @Test
+    void 캐시_적중마다_새_인스턴스를_반환하여_한_요청의_수정이_다른_요청에_보이지_않는다() {
+        // given
+        User user = User.builder().name("홍길동").role(User.Role.USER).build();
+        user.linkDiscordId("discord-1");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        userPrincipalCache.findById(1L);
+
+        // when
+        User first = userPrincipalCache.findById(1L).orElseThrow();
+        first.updateDiscordId("discord-2");
+        user.updateDiscordId("discord-3");
+        User second = userPrincipalCache.findById(1L).orElseThrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getDiscordId()).isEqualTo("discord-1");
+    }
+
+    @Test
+    void 사용자_변경_이벤트를_받으면_다음_조회에서_다시_읽는다() {
+        // given
+        User user = User.builder().name("홍길동").role(User.Role.USER).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        userPrincipalCache.findById(1L);
+
+        // when
+        userPrincipalCache.onUserChanged(new UserChangedEvent(1L));
+        userPrincipalCache.findById(1L);
+
+        // then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void TTL이_지나면_DB에서_다시_읽는다() {
+        // given
+        userPrincipalCache = new UserPrincipalCache(userRepository, eventPublisher, true, Duration.ZERO, 2);
+        User user = User.builder().name("홍길동").role(User.Role.USER).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        userPrincipalCache.findById(1L);
+        userPrincipalCache.findById(1L);
+
+        // then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void 최대_크기를_넘기지_않는다() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder().name("a").role(User.Role.USER).build()));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(User.builder().name("b").role(User.Role.USER).build()));
+        when(userRepository.findById(3L)).thenReturn(Optional.of(User.builder().name("c").role(User.Role.USER).build()));
+
+        // when
+        userPrincipalCache.findById(1L);
+        userPrincipalCache.findById(2L);
+        userPrincipalCache.findById(3L);
+
+        // then
+        assertThat(userPrincipalCache.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 존재하지_않는_사용자는_캐시하지_않는다() {
+        // given
+        when(userRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // when
+        Optional<User> result = userPrincipalCache.findById(9L);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(userPrincipalCache.size()).isZero();
+    }
+}